@@ -5,6 +5,7 @@ DELETE FROM TASK_HISTORY_EVENT;
 DELETE FROM WORKBASKET_HISTORY_EVENT;
 DELETE FROM CLASSIFICATION_HISTORY_EVENT;
 DELETE FROM ATTACHMENT;
+DELETE FROM TASK_REPORT_AGGREGATE;
 DELETE FROM TASK;
 DELETE FROM WORKBASKET_ACCESS_LIST;
 DELETE FROM WORKBASKET;
@@ -5,6 +5,7 @@ DROP TABLE WORKBASKET_HISTORY_EVENT;
 DROP TABLE CLASSIFICATION_HISTORY_EVENT;
 DROP TABLE CONFIGURATION;
 DROP TABLE ATTACHMENT;
+DROP TABLE TASK_REPORT_AGGREGATE;
 DROP TABLE TASK;
 DROP TABLE WORKBASKET_ACCESS_LIST;
 DROP TABLE WORKBASKET;
@@ -1,5 +1,6 @@
 package pro.taskana.common.internal.security;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.Principal;
@@ -16,6 +17,11 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.security.CurrentUserContext;
 import pro.taskana.common.api.security.GroupPrincipal;
 
+/**
+ * Resolves the user id, group ids and access ids from the JAAS subject. The resolved ids are kept
+ * per thread and reused as long as the caller runs with the same subject instances and the
+ * principals of the subject have not changed.
+ */
 public class CurrentUserContextImpl implements CurrentUserContext {
 
   private static final String GET_UNIQUE_SECURITY_NAME_METHOD = "getUniqueSecurityName";
@@ -24,28 +30,60 @@ public class CurrentUserContextImpl implements CurrentUserContext {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CurrentUserContext.class);
   private final boolean shouldUseLowerCaseForAccessIds;
+  private final ThreadLocal<ResolvedUser> lastResolvedUser = new ThreadLocal<>();
   private boolean runningOnWebSphere;
+  private Method getCallerSubjectMethod;
 
   public CurrentUserContextImpl(boolean shouldUseLowerCaseForAccessIds) {
     this.shouldUseLowerCaseForAccessIds = shouldUseLowerCaseForAccessIds;
     try {
-      Class.forName(WSSUBJECT_CLASSNAME);
+      Class<?> wsSubjectClass = Class.forName(WSSUBJECT_CLASSNAME);
       LOGGER.debug("WSSubject detected. Assuming that Taskana runs on IBM WebSphere.");
       runningOnWebSphere = true;
+      getCallerSubjectMethod =
+          wsSubjectClass.getMethod(GET_CALLER_SUBJECT_METHOD, (Class<?>[]) null);
     } catch (ClassNotFoundException e) {
       LOGGER.debug("No WSSubject detected. Using JAAS subject further on.");
       runningOnWebSphere = false;
+    } catch (NoSuchMethodException e) {
+      LOGGER.warn("Could not find {} of WSSubject.", GET_CALLER_SUBJECT_METHOD);
     }
   }
 
   @Override
   public String getUserid() {
-    return runningOnWebSphere ? getUserIdFromWsSubject() : getUserIdFromJaasSubject();
+    return resolveUser().userId;
   }
 
   @Override
   public List<String> getGroupIds() {
+    return resolveUser().groupIds;
+  }
+
+  @Override
+  public List<String> getAccessIds() {
+    return resolveUser().accessIds;
+  }
+
+  // returns the ids of the last resolved subjects of this thread if the caller still runs with
+  // the same subjects. Otherwise the ids are resolved from the current subjects.
+  private ResolvedUser resolveUser() {
     Subject subject = Subject.getSubject(AccessController.getContext());
+    Subject callerSubject = runningOnWebSphere ? getCallerSubjectFromWsSubject() : subject;
+    ResolvedUser resolvedUser = lastResolvedUser.get();
+    if (resolvedUser == null || !resolvedUser.isResolvedFrom(subject, callerSubject)) {
+      String userId =
+          runningOnWebSphere
+              ? getUserIdFromWsSubject(callerSubject)
+              : getUserIdFromJaasSubject(subject);
+      resolvedUser =
+          new ResolvedUser(subject, callerSubject, userId, getGroupIdsFromJaasSubject(subject));
+      lastResolvedUser.set(resolvedUser);
+    }
+    return resolvedUser;
+  }
+
+  private List<String> getGroupIdsFromJaasSubject(Subject subject) {
     LOGGER.trace("Subject of caller: {}", subject);
     if (subject != null) {
       Set<GroupPrincipal> groups = subject.getPrincipals(GroupPrincipal.class);
@@ -60,25 +98,26 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     return Collections.emptyList();
   }
 
-  @Override
-  public List<String> getAccessIds() {
-    List<String> accessIds = new ArrayList<>(getGroupIds());
-    accessIds.add(getUserid());
-    return accessIds;
+  private Subject getCallerSubjectFromWsSubject() {
+    if (getCallerSubjectMethod != null) {
+      try {
+        return (Subject) getCallerSubjectMethod.invoke(null, (Object[]) null);
+      } catch (Exception e) {
+        LOGGER.warn("Could not get caller subject from WSSubject.");
+      }
+    }
+    return null;
   }
 
   /**
    * Returns the unique security name of the first public credentials found in the WSSubject as
    * userid.
    *
+   * @param callerSubject the caller subject of the WSSubject
    * @return the userid of the caller. If the userid could not be obtained, null is returned.
    */
-  private String getUserIdFromWsSubject() {
+  private String getUserIdFromWsSubject(Subject callerSubject) {
     try {
-      Class<?> wsSubjectClass = Class.forName(WSSUBJECT_CLASSNAME);
-      Method getCallerSubjectMethod =
-          wsSubjectClass.getMethod(GET_CALLER_SUBJECT_METHOD, (Class<?>[]) null);
-      Subject callerSubject = (Subject) getCallerSubjectMethod.invoke(null, (Object[]) null);
       LOGGER.debug("Subject of caller: {}", callerSubject);
       if (callerSubject != null) {
         Set<Object> publicCredentials = callerSubject.getPublicCredentials();
@@ -116,8 +155,7 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     return null;
   }
 
-  private String getUserIdFromJaasSubject() {
-    Subject subject = Subject.getSubject(AccessController.getContext());
+  private String getUserIdFromJaasSubject(Subject subject) {
     LOGGER.trace("Subject of caller: {}", subject);
     if (subject != null) {
       Set<Principal> principals = subject.getPrincipals();
@@ -142,4 +180,42 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     LOGGER.trace("Found AccessId '{}'. Returning AccessId '{}' ", accessId, toReturn);
     return toReturn;
   }
+
+  /** The ids of a user which have been resolved from the given subjects. */
+  private static final class ResolvedUser {
+
+    // the subjects are only referenced weakly to not keep them alive after the request
+    private final WeakReference<Subject> subject;
+    private final WeakReference<Subject> callerSubject;
+    private final int principalCount;
+    private final String userId;
+    private final List<String> groupIds;
+    private final List<String> accessIds;
+
+    private ResolvedUser(
+        Subject subject, Subject callerSubject, String userId, List<String> groupIds) {
+      this.subject = subject == null ? null : new WeakReference<>(subject);
+      this.callerSubject = callerSubject == null ? null : new WeakReference<>(callerSubject);
+      this.principalCount = getPrincipalCount(subject);
+      this.userId = userId;
+      this.groupIds = Collections.unmodifiableList(groupIds);
+      List<String> ids = new ArrayList<>(groupIds);
+      ids.add(userId);
+      this.accessIds = Collections.unmodifiableList(ids);
+    }
+
+    private static int getPrincipalCount(Subject subject) {
+      return subject == null ? 0 : subject.getPrincipals().size();
+    }
+
+    private static boolean isSame(WeakReference<Subject> reference, Subject subject) {
+      return reference == null ? subject == null : subject != null && reference.get() == subject;
+    }
+
+    private boolean isResolvedFrom(Subject subject, Subject callerSubject) {
+      return isSame(this.subject, subject)
+          && isSame(this.callerSubject, callerSubject)
+          && principalCount == getPrincipalCount(subject);
+    }
+  }
 }
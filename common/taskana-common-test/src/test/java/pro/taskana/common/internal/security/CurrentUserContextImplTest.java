@@ -0,0 +1,65 @@
+package pro.taskana.common.internal.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.PrivilegedAction;
+import java.util.List;
+import javax.security.auth.Subject;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.security.CurrentUserContext;
+import pro.taskana.common.api.security.GroupPrincipal;
+import pro.taskana.common.api.security.UserPrincipal;
+
+class CurrentUserContextImplTest {
+
+  private final CurrentUserContext currentUserContext = new CurrentUserContextImpl(true);
+
+  @Test
+  void should_ReturnSameAccessIds_When_CalledRepeatedlyWithSameSubject() {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal("User-1"));
+    subject.getPrincipals().add(new GroupPrincipal("Group-1"));
+
+    List<List<String>> accessIds =
+        Subject.doAs(
+            subject,
+            (PrivilegedAction<List<List<String>>>)
+                () ->
+                    List.of(currentUserContext.getAccessIds(), currentUserContext.getAccessIds()));
+
+    assertThat(accessIds.get(0)).containsExactlyInAnyOrder("user-1", "group-1");
+    assertThat(accessIds.get(1)).isSameAs(accessIds.get(0));
+  }
+
+  @Test
+  void should_ResolveAccessIdsAgain_When_SubjectChanges() {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal("user-1"));
+    Subject otherSubject = new Subject();
+    otherSubject.getPrincipals().add(new UserPrincipal("user-2"));
+
+    String userId = Subject.doAs(subject, (PrivilegedAction<String>) currentUserContext::getUserid);
+    String otherUserId =
+        Subject.doAs(otherSubject, (PrivilegedAction<String>) currentUserContext::getUserid);
+
+    assertThat(userId).isEqualTo("user-1");
+    assertThat(otherUserId).isEqualTo("user-2");
+    assertThat(currentUserContext.getUserid()).isNull();
+  }
+
+  @Test
+  void should_ResolveGroupIdsAgain_When_PrincipalIsAddedToSubject() {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal("user-1"));
+
+    List<String> groupIds =
+        Subject.doAs(subject, (PrivilegedAction<List<String>>) currentUserContext::getGroupIds);
+    subject.getPrincipals().add(new GroupPrincipal("group-1"));
+    List<String> groupIdsAfterChange =
+        Subject.doAs(subject, (PrivilegedAction<List<String>>) currentUserContext::getGroupIds);
+
+    assertThat(groupIds).isEmpty();
+    assertThat(groupIdsAfterChange).containsExactly("group-1");
+  }
+}
@@ -7,29 +7,47 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Year;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.LongStream;
-import java.util.stream.LongStream.Builder;
 
 import pro.taskana.common.api.exceptions.SystemException;
 
 /**
  * The WorkingDaysToDaysConverter provides a method to convert an age in working days into an age in
  * days.
+ *
+ * <p>The converter is immutable. All working days of the indexed years are computed when it is
+ * created, so one instance can be shared by any number of threads without synchronization.
  */
 public class WorkingDaysToDaysConverter {
 
+  // default number of years before and after the current year which are precomputed
+  public static final int DEFAULT_INDEXED_YEARS_BEFORE = 10;
+  public static final int DEFAULT_INDEXED_YEARS_AFTER = 20;
+
   // offset in days from easter sunday
   private static final long OFFSET_GOOD_FRIDAY = -2; // Good Friday
   private static final long OFFSET_EASTER_MONDAY = 1; // Easter Monday
   private static final long OFFSET_ASCENSION_DAY = 39; // Ascension Day
   private static final long OFFSET_WHIT_MONDAY = 50; // Whit Monday
   private static final long OFFSET_CORPUS_CHRISTI = 60; // Corpus Christi
+  private static final long[] EASTER_HOLIDAY_OFFSETS = {
+    OFFSET_GOOD_FRIDAY, OFFSET_EASTER_MONDAY, OFFSET_ASCENSION_DAY, OFFSET_WHIT_MONDAY
+  };
+  private static final long[] EASTER_HOLIDAY_OFFSETS_WITH_CORPUS_CHRISTI = {
+    OFFSET_GOOD_FRIDAY,
+    OFFSET_EASTER_MONDAY,
+    OFFSET_ASCENSION_DAY,
+    OFFSET_WHIT_MONDAY,
+    OFFSET_CORPUS_CHRISTI
+  };
   private static final Set<CustomHoliday> GERMAN_HOLIDAYS =
       new HashSet<>(
           Arrays.asList(
@@ -44,6 +62,17 @@ public class WorkingDaysToDaysConverter {
   private final boolean corpusChristiEnabled;
   private final Set<CustomHoliday> customHolidays;
   private final EasterCalculator easterCalculator;
+  private final long[] easterHolidayOffsets;
+  private final int firstIndexedYear;
+  private final int lastIndexedYear;
+  // working day index: day i of the index is the day firstIndexedDay + i (as epoch day)
+  private final long firstIndexedDay;
+  private final int indexedDays;
+  private final BitSet workingDays;
+  // number of working days in the index before day i, with indexedDays + 1 entries
+  private final int[] workingDaysBefore;
+  // index day of the n-th working day of the index
+  private final int[] workingDayPositions;
 
   public WorkingDaysToDaysConverter(boolean germanHolidaysEnabled, boolean corpusChristiEnabled) {
     this(germanHolidaysEnabled, corpusChristiEnabled, Collections.emptySet());
@@ -61,10 +90,68 @@ public class WorkingDaysToDaysConverter {
       boolean germanHolidaysEnabled,
       boolean corpusChristiEnabled,
       Collection<CustomHoliday> customHolidays) {
+    this(
+        germanHolidaysEnabled,
+        corpusChristiEnabled,
+        customHolidays,
+        Year.now().getValue() - DEFAULT_INDEXED_YEARS_BEFORE,
+        Year.now().getValue() + DEFAULT_INDEXED_YEARS_AFTER);
+  }
+
+  /**
+   * Creates a WorkingDasToDaysConverter which precomputes the working days of the given years.
+   * Dates outside of these years are still converted correctly, but more slowly.
+   *
+   * @param germanHolidaysEnabled identifier for German holidays
+   * @param corpusChristiEnabled identifier for Corpus Christi - dependent from
+   *     germanHolidaysEnabled and thus only validated if German holidays are enabled.
+   * @param customHolidays additional custom holidays
+   * @param firstIndexedYear the first year whose working days are precomputed
+   * @param lastIndexedYear the last year whose working days are precomputed
+   * @throws SystemException if the last indexed year is before the first one
+   */
+  public WorkingDaysToDaysConverter(
+      boolean germanHolidaysEnabled,
+      boolean corpusChristiEnabled,
+      Collection<CustomHoliday> customHolidays,
+      int firstIndexedYear,
+      int lastIndexedYear) {
+    if (lastIndexedYear < firstIndexedYear) {
+      throw new SystemException(
+          String.format(
+              "The last indexed year %d must not be before the first indexed year %d",
+              lastIndexedYear, firstIndexedYear));
+    }
     this.germanHolidaysEnabled = germanHolidaysEnabled;
     this.corpusChristiEnabled = corpusChristiEnabled;
-    this.customHolidays = new HashSet<>(customHolidays);
+    this.customHolidays = Collections.unmodifiableSet(new HashSet<>(customHolidays));
+    this.firstIndexedYear = firstIndexedYear;
+    this.lastIndexedYear = lastIndexedYear;
     easterCalculator = new EasterCalculator();
+    easterHolidayOffsets =
+        corpusChristiEnabled ? EASTER_HOLIDAY_OFFSETS_WITH_CORPUS_CHRISTI : EASTER_HOLIDAY_OFFSETS;
+
+    LocalDate firstIndexedDate = LocalDate.of(firstIndexedYear, 1, 1);
+    LocalDate endOfIndex = LocalDate.of(lastIndexedYear + 1, 1, 1);
+    firstIndexedDay = firstIndexedDate.toEpochDay();
+    indexedDays = (int) (endOfIndex.toEpochDay() - firstIndexedDay);
+    // the index is only written here; the final fields publish it safely to all threads
+    BitSet workingDayFlags = new BitSet(indexedDays);
+    int[] counts = new int[indexedDays + 1];
+    int[] positions = new int[indexedDays];
+    int workingDayCount = 0;
+    for (int day = 0; day < indexedDays; day++) {
+      counts[day] = workingDayCount;
+      LocalDate date = firstIndexedDate.plusDays(day);
+      if (!isWeekend(date) && !isHoliday(date)) {
+        workingDayFlags.set(day);
+        positions[workingDayCount++] = day;
+      }
+    }
+    counts[indexedDays] = workingDayCount;
+    workingDays = workingDayFlags;
+    workingDaysBefore = counts;
+    workingDayPositions = Arrays.copyOf(positions, workingDayCount);
   }
 
   public Instant addWorkingDaysToInstant(Instant instant, Duration workingDays) {
@@ -80,14 +167,25 @@ public class WorkingDaysToDaysConverter {
   // counts working days between two dates, exclusive for both margins.
   public boolean hasWorkingDaysInBetween(Instant left, Instant right) {
     long days = Duration.between(left, right).abs().toDays();
-    Instant firstInstant = left.isBefore(right) ? left : right;
-    return LongStream.range(1, days).anyMatch(day -> isWorkingDay(firstInstant.plus(day, DAYS)));
+    LocalDate firstDate = toLocalDate(left.isBefore(right) ? left : right);
+    long from = firstDate.toEpochDay() - firstIndexedDay + 1;
+    long to = from + days - 1;
+    if (days > 1 && from >= 0 && to <= indexedDays) {
+      return workingDaysBefore[(int) to] > workingDaysBefore[(int) from];
+    }
+    return LongStream.range(1, days).anyMatch(day -> isWorkingDay(firstDate.plusDays(day)));
   }
 
   public boolean isWorkingDay(Instant referenceDate) {
-    LocalDate dateToCheck =
-        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).toLocalDate();
-    return !isWeekend(dateToCheck) && !isHoliday(dateToCheck);
+    return isWorkingDay(toLocalDate(referenceDate));
+  }
+
+  private boolean isWorkingDay(LocalDate date) {
+    long day = date.toEpochDay() - firstIndexedDay;
+    if (day >= 0 && day < indexedDays) {
+      return workingDays.get((int) day);
+    }
+    return !isWeekend(date) && !isHoliday(date);
   }
 
   public boolean isWeekend(LocalDate dateToCheck) {
@@ -111,19 +209,12 @@ public class WorkingDaysToDaysConverter {
     // Easter holidays Good Friday, Easter Monday, Ascension Day, Whit Monday.
     long diffFromEasterSunday =
         DAYS.between(easterCalculator.getEasterSunday(date.getYear()), date);
-
-    Builder builder =
-        LongStream.builder()
-            .add(OFFSET_GOOD_FRIDAY)
-            .add(OFFSET_EASTER_MONDAY)
-            .add(OFFSET_ASCENSION_DAY)
-            .add(OFFSET_WHIT_MONDAY);
-
-    if (corpusChristiEnabled) {
-      builder.add(OFFSET_CORPUS_CHRISTI);
+    for (long offset : easterHolidayOffsets) {
+      if (offset == diffFromEasterSunday) {
+        return true;
+      }
     }
-
-    return builder.build().anyMatch(c -> c == diffFromEasterSunday);
+    return false;
   }
 
   private long convertWorkingDaysToDays(
@@ -134,13 +225,29 @@ public class WorkingDaysToDaysConverter {
     }
     int direction = calculateDirection(numberOfDays, zeroDirection);
     long limit = Math.abs(numberOfDays);
+    LocalDate startDate = toLocalDate(startTime);
+    long startDay = startDate.toEpochDay() - firstIndexedDay;
+    if (startDay >= 0 && startDay < indexedDays) {
+      // the rank of the searched working day among all working days of the index
+      long rank =
+          direction > 0
+              ? workingDaysBefore[(int) startDay] + limit
+              : workingDaysBefore[(int) startDay + 1] - 1 - limit;
+      if (rank >= 0 && rank < workingDayPositions.length) {
+        return workingDayPositions[(int) rank] - startDay;
+      }
+    }
     return LongStream.iterate(0, i -> i + direction)
-        .filter(day -> isWorkingDay(startTime.plus(day, DAYS)))
+        .filter(day -> isWorkingDay(startDate.plusDays(day)))
         .skip(limit)
         .findFirst()
         .orElse(0);
   }
 
+  private LocalDate toLocalDate(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).toLocalDate();
+  }
+
   private int calculateDirection(long numberOfDays, ZeroDirection zeroDirection) {
     if (numberOfDays == 0) {
       return zeroDirection.getDirection();
@@ -157,8 +264,10 @@ public class WorkingDaysToDaysConverter {
         + corpusChristiEnabled
         + ", customHolidays="
         + customHolidays
-        + ", easterCalculator="
-        + easterCalculator
+        + ", firstIndexedYear="
+        + firstIndexedYear
+        + ", lastIndexedYear="
+        + lastIndexedYear
         + "]";
   }
 
@@ -177,8 +286,8 @@ public class WorkingDaysToDaysConverter {
     }
   }
 
+  // stateless, so it can be used by several threads at the same time
   static class EasterCalculator {
-    LocalDate cachedEasterDay;
 
     /**
      * Computes the date of Easter Sunday for a given year.
@@ -187,10 +296,6 @@ public class WorkingDaysToDaysConverter {
      * @return the date of Easter Sunday for the given year
      */
     LocalDate getEasterSunday(int year) {
-      if (cachedEasterDay != null && cachedEasterDay.getYear() == year) {
-        return cachedEasterDay;
-      }
-
       // Algorithm for calculating the date of Easter Sunday
       // (Meeus/Jones/Butcher Gregorian algorithm)
       // see https://dzone.com/articles/algorithm-calculating-date
@@ -210,8 +315,7 @@ public class WorkingDaysToDaysConverter {
       int month = n / 31;
       int day = (n % 31) + 1;
 
-      cachedEasterDay = LocalDate.of(year, month, day);
-      return cachedEasterDay;
+      return LocalDate.of(year, month, day);
     }
   }
 }
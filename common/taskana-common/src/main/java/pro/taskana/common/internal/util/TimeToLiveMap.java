@@ -0,0 +1,88 @@
+package pro.taskana.common.internal.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * A thread safe map whose entries expire after a fixed time to live. If the map is full, expired
+ * entries are removed first and arbitrary entries afterwards.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class TimeToLiveMap<K, V> {
+
+  private final int maxSize;
+  private final long timeToLiveNanos;
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+  public TimeToLiveMap(int maxSize, Duration timeToLive) {
+    this.maxSize = maxSize;
+    this.timeToLiveNanos = timeToLive.toNanos();
+  }
+
+  /**
+   * Returns the value of the key.
+   *
+   * @param key the key of the value
+   * @return the value or null if there is no entry or it has expired
+   */
+  public V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      entries.remove(key, entry);
+      return null;
+    }
+    return entry.value;
+  }
+
+  public void put(K key, V value) {
+    long now = System.nanoTime();
+    if (entries.size() >= maxSize) {
+      evict(now);
+    }
+    entries.put(key, new Entry<>(value, now + timeToLiveNanos));
+  }
+
+  public void remove(K key) {
+    entries.remove(key);
+  }
+
+  public void removeIf(Predicate<K> keyFilter) {
+    entries.keySet().removeIf(keyFilter);
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  private void evict(long now) {
+    entries.values().removeIf(entry -> entry.isExpired(now));
+    Iterator<K> iterator = entries.keySet().iterator();
+    while (entries.size() >= maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private static final class Entry<V> {
+
+    private final V value;
+    private final long expiresAtNanos;
+
+    private Entry(V value, long expiresAtNanos) {
+      this.value = value;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    private boolean isExpired(long now) {
+      return now - expiresAtNanos >= 0;
+    }
+  }
+}
@@ -7,7 +7,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.3.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.5.0', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -181,6 +181,21 @@ CREATE TABLE CONFIGURATION (
     ENFORCE_SECURITY BOOLEAN NOT NULL
 );
 
+CREATE TABLE TASK_REPORT_AGGREGATE(
+    ID BIGINT NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1, INCREMENT BY 1),
+    WORKBASKET_ID VARCHAR(40) NULL,
+    WORKBASKET_KEY VARCHAR(64) NULL,
+    DOMAIN VARCHAR(32) NULL,
+    CLASSIFICATION_ID VARCHAR(40) NULL,
+    CLASSIFICATION_KEY VARCHAR(32) NULL,
+    CLASSIFICATION_CATEGORY VARCHAR(32) NULL,
+    STATE VARCHAR(20) NULL,
+    DUE_DAY DATE NULL,
+    NUMBER_OF_TASKS INT NOT NULL,
+    NUMBER_OF_JOINED_ROWS INT NOT NULL,
+    PRIMARY KEY (ID)
+);
+
 CREATE TABLE TASK_COMMENT(
     ID VARCHAR(40) NOT NULL,
     TASK_ID VARCHAR(40) NOT NULL,
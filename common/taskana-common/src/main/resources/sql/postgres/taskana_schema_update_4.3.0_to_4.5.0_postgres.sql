@@ -0,0 +1,25 @@
+-- this script updates the table TASKANA_SCHEMA_VERSION and creates the table TASK_REPORT_AGGREGATE.
+
+SET search_path = %schemaName%;
+
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.5.0', CURRENT_TIMESTAMP);
+
+CREATE TABLE TASK_REPORT_AGGREGATE(
+    ID BIGINT NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1 INCREMENT BY 1),
+    WORKBASKET_ID VARCHAR(40) NULL,
+    WORKBASKET_KEY VARCHAR(64) NULL,
+    DOMAIN VARCHAR(32) NULL,
+    CLASSIFICATION_ID VARCHAR(40) NULL,
+    CLASSIFICATION_KEY VARCHAR(32) NULL,
+    CLASSIFICATION_CATEGORY VARCHAR(32) NULL,
+    STATE VARCHAR(20) NULL,
+    DUE_DAY DATE NULL,
+    NUMBER_OF_TASKS INT NOT NULL,
+    NUMBER_OF_JOINED_ROWS INT NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+INSERT INTO TASK_REPORT_AGGREGATE (WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, STATE, DUE_DAY, NUMBER_OF_TASKS, NUMBER_OF_JOINED_ROWS)
+    SELECT T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.CLASSIFICATION_ID, T.CLASSIFICATION_KEY, T.CLASSIFICATION_CATEGORY, T.STATE, CAST(T.DUE AS DATE), COUNT(DISTINCT T.ID), COUNT(*)
+    FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID
+    GROUP BY T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.CLASSIFICATION_ID, T.CLASSIFICATION_KEY, T.CLASSIFICATION_CATEGORY, T.STATE, CAST(T.DUE AS DATE);
@@ -1,12 +1,22 @@
 package pro.taskana.common.api;
 
+import static java.time.temporal.ChronoUnit.DAYS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
@@ -15,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 
 import pro.taskana.common.api.WorkingDaysToDaysConverter.EasterCalculator;
+import pro.taskana.common.api.exceptions.SystemException;
 
 /** Test for the WorkingDaysToDaysConverter. */
 class WorkingDaysToDaysConverterTest {
@@ -186,6 +197,89 @@ class WorkingDaysToDaysConverterTest {
     assertThat(days).isEqualTo(freitag0427.plus(5, ChronoUnit.DAYS)); // 2.5.
   }
 
+  @Test
+  void should_ReturnSameResultAsDayByDayCount_When_ConvertingAroundTheLimitsOfTheIndex() {
+    int currentYear = Year.now().getValue();
+    List<LocalDate> startDates =
+        List.of(
+            LocalDate.of(currentYear - 10, 1, 1),
+            LocalDate.of(currentYear, 6, 15),
+            LocalDate.of(currentYear + 20, 12, 31),
+            LocalDate.of(1990, 3, 1));
+    for (LocalDate startDate : startDates) {
+      for (int offset = -20; offset <= 20; offset++) {
+        LocalDate date = startDate.plusDays(offset);
+        Instant instant = date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        for (int workingDays = 0; workingDays <= 12; workingDays++) {
+          Duration duration = Duration.ofDays(workingDays);
+          assertThat(converter.addWorkingDaysToInstant(instant, duration))
+              .isEqualTo(instant.plus(countDays(date, workingDays, 1), ChronoUnit.DAYS));
+          assertThat(converter.subtractWorkingDaysFromInstant(instant, duration))
+              .isEqualTo(instant.plus(countDays(date, workingDays, -1), ChronoUnit.DAYS));
+          Instant other = instant.plus(workingDays, ChronoUnit.DAYS);
+          boolean expected =
+              LongStream.range(1, workingDays).anyMatch(day -> isWorkingDay(date.plusDays(day)));
+          assertThat(converter.hasWorkingDaysInBetween(instant, other)).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  void should_ConvertDatesOutsideOfTheIndex_When_IndexedYearsAreConfigured() {
+    WorkingDaysToDaysConverter smallConverter =
+        new WorkingDaysToDaysConverter(true, false, List.of(), 2020, 2020);
+    Instant friday = Instant.parse("2019-12-20T07:12:00.000Z");
+
+    assertThat(smallConverter.addWorkingDaysToInstant(friday, Duration.ofDays(5)))
+        .isEqualTo(Instant.parse("2019-12-31T07:12:00.000Z"));
+    assertThat(smallConverter.subtractWorkingDaysFromInstant(friday, Duration.ofDays(5)))
+        .isEqualTo(Instant.parse("2019-12-13T07:12:00.000Z"));
+  }
+
+  @Test
+  void should_ThrowException_When_LastIndexedYearIsBeforeFirstIndexedYear() {
+    assertThatThrownBy(() -> new WorkingDaysToDaysConverter(true, false, List.of(), 2021, 2020))
+        .isInstanceOf(SystemException.class);
+  }
+
+  @Test
+  void should_ReturnSameResultsAsSingleThread_When_ConverterIsUsedConcurrently() throws Exception {
+    WorkingDaysToDaysConverter sharedConverter =
+        new WorkingDaysToDaysConverter(true, true, List.of(CustomHoliday.of(31, 10)), 2000, 2030);
+    Random random = new Random(42);
+    List<Instant> instants = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      // spans the indexed years and some years before and after them
+      instants.add(Instant.parse("1990-01-01T10:00:00.000Z").plus(random.nextInt(60 * 365), DAYS));
+    }
+    List<Instant> expected = new ArrayList<>();
+    for (Instant instant : instants) {
+      expected.add(convert(sharedConverter, instant));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<List<Instant>>> results = new ArrayList<>();
+      for (int thread = 0; thread < 16; thread++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  List<Instant> actual = new ArrayList<>();
+                  for (Instant instant : instants) {
+                    actual.add(convert(sharedConverter, instant));
+                  }
+                  return actual;
+                }));
+      }
+      for (Future<List<Instant>> result : results) {
+        assertThat(result.get()).isEqualTo(expected);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void testGetEasterSunday() {
     EasterCalculator easterCalculator = new EasterCalculator();
@@ -211,4 +305,30 @@ class WorkingDaysToDaysConverterTest {
     assertThat(easterCalculator.getEasterSunday(2050)).isEqualTo(LocalDate.of(2050, 4, 10));
     assertThat(easterCalculator.getEasterSunday(2100)).isEqualTo(LocalDate.of(2100, 3, 28));
   }
+
+  // combines several conversions of the instant, so that any deviation changes the result
+  private Instant convert(WorkingDaysToDaysConverter converter, Instant instant) {
+    Instant added = converter.addWorkingDaysToInstant(instant, Duration.ofDays(7));
+    Instant subtracted = converter.subtractWorkingDaysFromInstant(added, Duration.ofDays(3));
+    if (converter.isWorkingDay(instant) && converter.hasWorkingDaysInBetween(instant, added)) {
+      return subtracted;
+    }
+    return subtracted.plus(1, ChronoUnit.MILLIS);
+  }
+
+  private long countDays(LocalDate date, int workingDays, int direction) {
+    long day = 0;
+    int found = isWorkingDay(date) ? 0 : -1;
+    while (found < workingDays) {
+      day += direction;
+      if (isWorkingDay(date.plusDays(day))) {
+        found++;
+      }
+    }
+    return day;
+  }
+
+  private boolean isWorkingDay(LocalDate date) {
+    return !converter.isWeekend(date) && !converter.isHoliday(date);
+  }
 }
@@ -10,6 +10,7 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryEventMapper;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryQuery;
 import pro.taskana.simplehistory.impl.task.TaskHistoryEventMapper;
@@ -26,6 +27,8 @@ import pro.taskana.spi.history.api.exceptions.TaskanaHistoryEventNotFoundExcepti
 public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleHistoryServiceImpl.class);
+  // keeps the number of bind parameters of a multi row insert below the database limits
+  private static final int MAX_EVENTS_PER_INSERT = 100;
   private TaskanaHistoryEngineImpl taskanaHistoryEngine;
   private TaskHistoryEventMapper taskHistoryEventMapper;
   private WorkbasketHistoryEventMapper workbasketHistoryEventMapper;
@@ -101,6 +104,63 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  @Override
+  public void createTaskHistoryEvents(List<TaskHistoryEvent> events) {
+    try {
+      taskanaHistoryEngine.openConnection();
+      Instant now = Instant.now();
+      events.stream()
+          .filter(event -> event.getCreated() == null)
+          .forEach(event -> event.setCreated(now));
+      CollectionUtil.partitionBasedOnSize(events, MAX_EVENTS_PER_INSERT)
+          .forEach(taskHistoryEventMapper::insertAll);
+    } catch (SQLException e) {
+      LOGGER.error("Error while inserting task history events into database", e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug("Exit from createTaskHistoryEvents(events). Created {} events.", events.size());
+    }
+  }
+
+  @Override
+  public void createWorkbasketHistoryEvents(List<WorkbasketHistoryEvent> events) {
+    try {
+      taskanaHistoryEngine.openConnection();
+      Instant now = Instant.now();
+      events.stream()
+          .filter(event -> event.getCreated() == null)
+          .forEach(event -> event.setCreated(now));
+      CollectionUtil.partitionBasedOnSize(events, MAX_EVENTS_PER_INSERT)
+          .forEach(workbasketHistoryEventMapper::insertAll);
+    } catch (SQLException e) {
+      LOGGER.error("Error while inserting workbasket history events into database", e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug(
+          "Exit from createWorkbasketHistoryEvents(events). Created {} events.", events.size());
+    }
+  }
+
+  @Override
+  public void createClassificationHistoryEvents(List<ClassificationHistoryEvent> events) {
+    try {
+      taskanaHistoryEngine.openConnection();
+      Instant now = Instant.now();
+      events.stream()
+          .filter(event -> event.getCreated() == null)
+          .forEach(event -> event.setCreated(now));
+      CollectionUtil.partitionBasedOnSize(events, MAX_EVENTS_PER_INSERT)
+          .forEach(classificationHistoryEventMapper::insertAll);
+    } catch (SQLException e) {
+      LOGGER.error("Error while inserting classification history events into database", e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug(
+          "Exit from createClassificationHistoryEvents(events). Created {} events.",
+          events.size());
+    }
+  }
+
   @Override
   public void deleteHistoryEventsByTaskIds(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
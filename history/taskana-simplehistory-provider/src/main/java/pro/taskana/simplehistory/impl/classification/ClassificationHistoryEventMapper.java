@@ -1,5 +1,6 @@
 package pro.taskana.simplehistory.impl.classification;
 
+import java.util.List;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
@@ -27,6 +28,23 @@ public interface ClassificationHistoryEventMapper {
           + "</script>")
   void insert(@Param("historyEvent") ClassificationHistoryEvent historyEvent);
 
+  @Insert(
+      "<script>INSERT INTO CLASSIFICATION_HISTORY_EVENT (ID,"
+          + " EVENT_TYPE, CREATED, USER_ID, CLASSIFICATION_ID, APPLICATION_ENTRY_POINT, CATEGORY,"
+          + " DOMAIN, KEY, NAME, PARENT_ID, PARENT_KEY, PRIORITY, SERVICE_LEVEL, TYPE,"
+          + " CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, DETAILS)"
+          + " VALUES <foreach item='historyEvent' collection='historyEvents' separator=','>"
+          + "( #{historyEvent.id}, #{historyEvent.eventType},"
+          + " #{historyEvent.created}, #{historyEvent.userId}, #{historyEvent.classificationId}, "
+          + " #{historyEvent.applicationEntryPoint}, #{historyEvent.category}, "
+          + " #{historyEvent.domain}, #{historyEvent.key}, #{historyEvent.name}, #{historyEvent.parentId}, "
+          + " #{historyEvent.parentKey}, #{historyEvent.priority}, #{historyEvent.serviceLevel}, #{historyEvent.type}, "
+          + " #{historyEvent.custom1}, #{historyEvent.custom2}, #{historyEvent.custom3}, "
+          + "#{historyEvent.custom4}, #{historyEvent.custom5}, #{historyEvent.custom6}, "
+          + "#{historyEvent.custom7}, #{historyEvent.custom8}, #{historyEvent.details}) "
+          + "</foreach></script>")
+  void insertAll(@Param("historyEvents") List<ClassificationHistoryEvent> historyEvents);
+
   @Select(
       "<script>"
           + "SELECT ID, EVENT_TYPE, CREATED, USER_ID, CLASSIFICATION_ID, APPLICATION_ENTRY_POINT, CATEGORY,"
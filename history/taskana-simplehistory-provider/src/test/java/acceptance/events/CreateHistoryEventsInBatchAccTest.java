@@ -0,0 +1,81 @@
+package acceptance.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEventType;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEventType;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEventType;
+
+/** Acceptance test for creating several history events at once. */
+class CreateHistoryEventsInBatchAccTest extends AbstractAccTest {
+
+  private final SimpleHistoryServiceImpl historyService = getHistoryService();
+
+  @Test
+  void should_CreateAllTaskHistoryEvents_When_MoreEventsThanFitIntoOneInsertAreCreated() {
+    List<TaskHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      events.add(
+          createTaskHistoryEvent(
+              "wbKey1",
+              "TKI:batch",
+              TaskHistoryEventType.CREATED.getName(),
+              null,
+              "admin",
+              "details"));
+    }
+
+    historyService.createTaskHistoryEvents(events);
+
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn("TKI:batch").count())
+        .isEqualTo(250);
+    assertThat(events).allSatisfy(event -> assertThat(event.getCreated()).isNotNull());
+  }
+
+  @Test
+  void should_CreateAllWorkbasketHistoryEvents_When_EventsAreCreatedInBatch() {
+    List<WorkbasketHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      events.add(
+          createWorkbasketHistoryEvent(
+              "batchKey", WorkbasketHistoryEventType.CREATED.getName(), "admin", "details"));
+    }
+
+    historyService.createWorkbasketHistoryEvents(events);
+
+    assertThat(historyService.createWorkbasketHistoryQuery().keyIn("batchKey").count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void should_CreateAllClassificationHistoryEvents_When_EventsAreCreatedInBatch() {
+    List<ClassificationHistoryEvent> events = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      ClassificationHistoryEvent event = new ClassificationHistoryEvent();
+      event.setId(
+          IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_CLASSIFICATION_HISTORY_EVENT));
+      event.setEventType(ClassificationHistoryEventType.CREATED.getName());
+      event.setUserId("admin");
+      event.setKey("batchKey");
+      event.setParentId("");
+      event.setParentKey("");
+      event.setPriority(1);
+      events.add(event);
+    }
+
+    historyService.createClassificationHistoryEvents(events);
+
+    assertThat(historyService.createClassificationHistoryQuery().keyIn("batchKey").count())
+        .isEqualTo(3);
+  }
+}
@@ -13,6 +13,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -35,12 +36,14 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.CustomHoliday;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.WorkingDaysToDaysConverter;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.WrongCustomHolidayFormatException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.common.internal.util.CheckedFunction;
 import pro.taskana.common.internal.util.Pair;
+import pro.taskana.spi.history.api.HistoryEventOverflowPolicy;
 
 /**
  * This central class creates the TaskanaEngine and holds all the information about DB and Security.
@@ -55,11 +58,22 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_PROPERTY_SEPARATOR = "|";
   private static final String TASKANA_JOB_BATCH_SIZE = "taskana.jobs.batchSize";
   private static final String TASKANA_JOB_RETRIES = "taskana.jobs.maxRetries";
+  private static final String TASKANA_JOB_WORKER_COUNT = "taskana.jobs.workerCount";
+  private static final String TASKANA_JOB_LOCK_EXPIRATION_PERIOD =
+      "taskana.jobs.lockExpirationPeriod";
   private static final String TASKANA_JOB_CLEANUP_RUN_EVERY = "taskana.jobs.cleanup.runEvery";
   private static final String TASKANA_JOB_CLEANUP_FIRST_RUN = "taskana.jobs.cleanup.firstRunAt";
   private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
+  private static final String TASKANA_JOB_CLASSIFICATION_CHANGED_SETTLE_PERIOD =
+      "taskana.jobs.classificationChanged.settlePeriod";
   private static final String TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENT_BUSINESS =
       "taskana.jobs.cleanup.allCompletedSameParentBusiness";
+  private static final String TASKANA_QUERY_FETCH_SIZE = "taskana.query.fetchSize";
+  private static final String TASKANA_QUERY_STREAM_WINDOW_SIZE = "taskana.query.stream.windowSize";
+  private static final String TASKANA_QUERY_COUNT_CACHE_MAX_SIZE =
+      "taskana.query.countCache.maxSize";
+  private static final String TASKANA_QUERY_COUNT_CACHE_TIME_TO_LIVE =
+      "taskana.query.countCache.timeToLive";
   private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
   private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY =
       "taskana.classification.types";
@@ -70,8 +84,30 @@ public class TaskanaEngineConfiguration {
       "taskana.german.holidays.corpus-christi.enabled";
   private static final String TASKANA_CUSTOM_HOLIDAY = "taskana.custom.holidays";
   private static final String TASKANA_CUSTOM_HOLIDAY_DAY_MONTH_SEPARATOR = ".";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_MAX_SIZE =
+      "taskana.workbasket.permissionCache.maxSize";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_TIME_TO_LIVE =
+      "taskana.workbasket.permissionCache.timeToLive";
+  private static final String TASKANA_WORKING_DAYS_INDEXED_YEARS_BEFORE =
+      "taskana.workingDays.indexedYearsBefore";
+  private static final String TASKANA_WORKING_DAYS_INDEXED_YEARS_AFTER =
+      "taskana.workingDays.indexedYearsAfter";
   private static final String TASKANA_HISTORY_DELETION_ON_TASK_DELETION_ENABLED =
       "taskana.history.deletion.on.task.deletion.enabled";
+  private static final String TASKANA_HISTORY_ASYNC_ENABLED = "taskana.history.async.enabled";
+  private static final String TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY =
+      "taskana.history.async.queueCapacity";
+  private static final String TASKANA_HISTORY_ASYNC_BATCH_SIZE = "taskana.history.async.batchSize";
+  private static final String TASKANA_HISTORY_ASYNC_OVERFLOW_POLICY =
+      "taskana.history.async.overflowPolicy";
+  private static final String TASKANA_MONITOR_AGGREGATES_ENABLED =
+      "taskana.monitor.aggregates.enabled";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_MAX_WEIGHT =
+      "taskana.monitor.reportCache.maxWeight";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_TIME_TO_LIVE =
+      "taskana.monitor.reportCache.timeToLive";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_MAX_TASK_CHANGES =
+      "taskana.monitor.reportCache.maxTaskChanges";
   // TASKANA_SCHEMA_VERSION
   private static final String DEFAULT_SCHEMA_NAME = "TASKANA";
 
@@ -83,7 +119,9 @@ public class TaskanaEngineConfiguration {
   protected String schemaName;
   // Taskana role configuration
   protected String propertiesSeparator = TASKANA_PROPERTY_SEPARATOR;
-  protected Map<TaskanaRole, Set<String>> roleMap;
+  protected volatile Map<TaskanaRole, Set<String>> roleMap;
+  // the roles of each access id, rebuilt whenever the role map changes
+  private volatile Map<String, Set<TaskanaRole>> roleIndex = Collections.emptyMap();
   // global switch to enable JAAS based authentication and Taskana
   // authorizations
   protected boolean securityEnabled;
@@ -97,14 +135,43 @@ public class TaskanaEngineConfiguration {
   private boolean deleteHistoryOnTaskDeletionEnabled;
   private boolean germanPublicHolidaysEnabled;
   private boolean corpusChristiEnabled;
+  // years before and after the current year whose working days are precomputed
+  private int workingDaysIndexedYearsBefore =
+      WorkingDaysToDaysConverter.DEFAULT_INDEXED_YEARS_BEFORE;
+  private int workingDaysIndexedYearsAfter = WorkingDaysToDaysConverter.DEFAULT_INDEXED_YEARS_AFTER;
   // Properties for general job execution
   private int jobBatchSize = 100;
   private int maxNumberOfJobRetries = 3;
+  private int jobWorkerCount = 1;
+  private Duration jobLockExpirationPeriod = Duration.ofMinutes(1);
   // Properties for the cleanup job
   private Instant cleanupJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
   private Duration cleanupJobRunEvery = Duration.parse("P1D");
   private Duration cleanupJobMinimumAge = Duration.parse("P14D");
+  // Properties for the classification changed job
+  private Duration classificationChangedJobSettlePeriod = Duration.ZERO;
   private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
+  // Properties for the workbasket permission cache, disabled if one of them is zero
+  private int workbasketPermissionCacheMaxSize = 10000;
+  private Duration workbasketPermissionCacheTimeToLive = Duration.ofSeconds(10);
+  // Properties for the asynchronous creation of history events. Events are only buffered if the
+  // commit of their transaction can be observed, i.e. in mode AUTOCOMMIT or within Spring
+  // transactions. Otherwise they are still created synchronously.
+  private boolean historyAsyncEnabled;
+  private int historyAsyncQueueCapacity = 10000;
+  private int historyAsyncBatchSize = 500;
+  private HistoryEventOverflowPolicy historyAsyncOverflowPolicy = HistoryEventOverflowPolicy.BLOCK;
+  // Properties for query execution
+  private Integer queryFetchSize;
+  private int queryStreamWindowSize = 1000;
+  private int queryCountCacheMaxSize = 1000;
+  private Duration queryCountCacheTimeToLive = Duration.ofSeconds(30);
+  // Property for the incrementally maintained report aggregates
+  private boolean monitorAggregatesEnabled;
+  // Properties for the report cache, disabled if one of them is zero
+  private long monitorReportCacheMaxWeight;
+  private Duration monitorReportCacheTimeToLive = Duration.ofSeconds(30);
+  private long monitorReportCacheMaxTaskChanges = 100;
 
   public TaskanaEngineConfiguration(
       DataSource dataSource, boolean useManagedTransactions, String schemaName) {
@@ -154,6 +221,10 @@ public class TaskanaEngineConfiguration {
     Properties props = readPropertiesFromFile(propertiesFile);
     initTaskanaRoles(props, separator);
     initJobParameters(props);
+    initQueryParameters(props);
+    initWorkbasketPermissionCache(props);
+    initMonitorReportCache(props);
+    initHistoryAsync(props);
     initDomains(props);
     initClassificationTypes(props);
     initClassificationCategories(props);
@@ -165,7 +236,10 @@ public class TaskanaEngineConfiguration {
         props,
         TASKANA_HISTORY_DELETION_ON_TASK_DELETION_ENABLED,
         this::setDeleteHistoryOnTaskDeletionEnabled);
+    initBooleanProperty(
+        props, TASKANA_MONITOR_AGGREGATES_ENABLED, this::setMonitorAggregatesEnabled);
     initCustomHolidays(props, separator);
+    initWorkingDaysIndex(props);
   }
 
   public static DataSource createDefaultDataSource() {
@@ -237,6 +311,71 @@ public class TaskanaEngineConfiguration {
     this.maxNumberOfJobRetries = maxNumberOfJobRetries;
   }
 
+  public int getJobWorkerCount() {
+    return jobWorkerCount;
+  }
+
+  public void setJobWorkerCount(int jobWorkerCount) {
+    this.jobWorkerCount = jobWorkerCount;
+  }
+
+  public Duration getJobLockExpirationPeriod() {
+    return jobLockExpirationPeriod;
+  }
+
+  public void setJobLockExpirationPeriod(Duration jobLockExpirationPeriod) {
+    this.jobLockExpirationPeriod = jobLockExpirationPeriod;
+  }
+
+  public int getWorkbasketPermissionCacheMaxSize() {
+    return workbasketPermissionCacheMaxSize;
+  }
+
+  public void setWorkbasketPermissionCacheMaxSize(int workbasketPermissionCacheMaxSize) {
+    this.workbasketPermissionCacheMaxSize = workbasketPermissionCacheMaxSize;
+  }
+
+  public Duration getWorkbasketPermissionCacheTimeToLive() {
+    return workbasketPermissionCacheTimeToLive;
+  }
+
+  public void setWorkbasketPermissionCacheTimeToLive(
+      Duration workbasketPermissionCacheTimeToLive) {
+    this.workbasketPermissionCacheTimeToLive = workbasketPermissionCacheTimeToLive;
+  }
+
+  public boolean isHistoryAsyncEnabled() {
+    return historyAsyncEnabled;
+  }
+
+  public void setHistoryAsyncEnabled(boolean historyAsyncEnabled) {
+    this.historyAsyncEnabled = historyAsyncEnabled;
+  }
+
+  public int getHistoryAsyncQueueCapacity() {
+    return historyAsyncQueueCapacity;
+  }
+
+  public void setHistoryAsyncQueueCapacity(int historyAsyncQueueCapacity) {
+    this.historyAsyncQueueCapacity = historyAsyncQueueCapacity;
+  }
+
+  public int getHistoryAsyncBatchSize() {
+    return historyAsyncBatchSize;
+  }
+
+  public void setHistoryAsyncBatchSize(int historyAsyncBatchSize) {
+    this.historyAsyncBatchSize = historyAsyncBatchSize;
+  }
+
+  public HistoryEventOverflowPolicy getHistoryAsyncOverflowPolicy() {
+    return historyAsyncOverflowPolicy;
+  }
+
+  public void setHistoryAsyncOverflowPolicy(HistoryEventOverflowPolicy historyAsyncOverflowPolicy) {
+    this.historyAsyncOverflowPolicy = historyAsyncOverflowPolicy;
+  }
+
   public boolean isCorpusChristiEnabled() {
     return corpusChristiEnabled;
   }
@@ -253,6 +392,22 @@ public class TaskanaEngineConfiguration {
     this.germanPublicHolidaysEnabled = germanPublicHolidaysEnabled;
   }
 
+  public int getWorkingDaysIndexedYearsBefore() {
+    return workingDaysIndexedYearsBefore;
+  }
+
+  public void setWorkingDaysIndexedYearsBefore(int workingDaysIndexedYearsBefore) {
+    this.workingDaysIndexedYearsBefore = workingDaysIndexedYearsBefore;
+  }
+
+  public int getWorkingDaysIndexedYearsAfter() {
+    return workingDaysIndexedYearsAfter;
+  }
+
+  public void setWorkingDaysIndexedYearsAfter(int workingDaysIndexedYearsAfter) {
+    this.workingDaysIndexedYearsAfter = workingDaysIndexedYearsAfter;
+  }
+
   public boolean isDeleteHistoryOnTaskDeletionEnabled() {
     return deleteHistoryOnTaskDeletionEnabled;
   }
@@ -274,9 +429,31 @@ public class TaskanaEngineConfiguration {
   }
 
   public void setRoleMap(Map<TaskanaRole, Set<String>> roleMap) {
+    this.roleIndex = createRoleIndex(roleMap);
     this.roleMap = roleMap;
   }
 
+  /**
+   * Returns the roles of the given access id. The roles are looked up in an index which is built
+   * whenever the role map is set or reloaded. Therefore changes of the role map have to be applied
+   * with {@link #setRoleMap(Map)} or {@link #reloadRoles()}.
+   *
+   * @param accessId the access id whose roles are requested
+   * @return the unmodifiable set of roles of the access id. Empty if it is member of no role.
+   */
+  public Set<TaskanaRole> getRolesOfAccessId(String accessId) {
+    return roleIndex.getOrDefault(accessId, Collections.emptySet());
+  }
+
+  /**
+   * Reads the role configuration from the properties file again. This allows changing the members
+   * of the roles while TASKANA is running. The new roles apply to all following role checks.
+   */
+  public void reloadRoles() {
+    LOGGER.debug("Reloading taskana roles from {}", propertiesFileName);
+    initTaskanaRoles(readPropertiesFromFile(propertiesFileName), propertiesSeparator);
+  }
+
   public List<String> getDomains() {
     return domains;
   }
@@ -339,6 +516,15 @@ public class TaskanaEngineConfiguration {
     this.cleanupJobMinimumAge = cleanupJobMinimumAge;
   }
 
+  public Duration getClassificationChangedJobSettlePeriod() {
+    return classificationChangedJobSettlePeriod;
+  }
+
+  public void setClassificationChangedJobSettlePeriod(
+      Duration classificationChangedJobSettlePeriod) {
+    this.classificationChangedJobSettlePeriod = classificationChangedJobSettlePeriod;
+  }
+
   public boolean isTaskCleanupJobAllCompletedSameParentBusiness() {
     return taskCleanupJobAllCompletedSameParentBusiness;
   }
@@ -349,6 +535,70 @@ public class TaskanaEngineConfiguration {
         taskCleanupJobAllCompletedSameParentBusiness;
   }
 
+  public Integer getQueryFetchSize() {
+    return queryFetchSize;
+  }
+
+  public void setQueryFetchSize(Integer queryFetchSize) {
+    this.queryFetchSize = queryFetchSize;
+  }
+
+  public int getQueryStreamWindowSize() {
+    return queryStreamWindowSize;
+  }
+
+  public void setQueryStreamWindowSize(int queryStreamWindowSize) {
+    this.queryStreamWindowSize = queryStreamWindowSize;
+  }
+
+  public int getQueryCountCacheMaxSize() {
+    return queryCountCacheMaxSize;
+  }
+
+  public void setQueryCountCacheMaxSize(int queryCountCacheMaxSize) {
+    this.queryCountCacheMaxSize = queryCountCacheMaxSize;
+  }
+
+  public Duration getQueryCountCacheTimeToLive() {
+    return queryCountCacheTimeToLive;
+  }
+
+  public void setQueryCountCacheTimeToLive(Duration queryCountCacheTimeToLive) {
+    this.queryCountCacheTimeToLive = queryCountCacheTimeToLive;
+  }
+
+  public boolean isMonitorAggregatesEnabled() {
+    return monitorAggregatesEnabled;
+  }
+
+  public void setMonitorAggregatesEnabled(boolean monitorAggregatesEnabled) {
+    this.monitorAggregatesEnabled = monitorAggregatesEnabled;
+  }
+
+  public long getMonitorReportCacheMaxWeight() {
+    return monitorReportCacheMaxWeight;
+  }
+
+  public void setMonitorReportCacheMaxWeight(long monitorReportCacheMaxWeight) {
+    this.monitorReportCacheMaxWeight = monitorReportCacheMaxWeight;
+  }
+
+  public Duration getMonitorReportCacheTimeToLive() {
+    return monitorReportCacheTimeToLive;
+  }
+
+  public void setMonitorReportCacheTimeToLive(Duration monitorReportCacheTimeToLive) {
+    this.monitorReportCacheTimeToLive = monitorReportCacheTimeToLive;
+  }
+
+  public long getMonitorReportCacheMaxTaskChanges() {
+    return monitorReportCacheMaxTaskChanges;
+  }
+
+  public void setMonitorReportCacheMaxTaskChanges(long monitorReportCacheMaxTaskChanges) {
+    this.monitorReportCacheMaxTaskChanges = monitorReportCacheMaxTaskChanges;
+  }
+
   public String getSchemaName() {
     return schemaName;
   }
@@ -392,6 +642,12 @@ public class TaskanaEngineConfiguration {
     parseProperty(props, TASKANA_JOB_RETRIES, Integer::parseInt)
         .ifPresent(this::setMaxNumberOfJobRetries);
 
+    parseProperty(props, TASKANA_JOB_WORKER_COUNT, Integer::parseInt)
+        .ifPresent(this::setJobWorkerCount);
+
+    parseProperty(props, TASKANA_JOB_LOCK_EXPIRATION_PERIOD, Duration::parse)
+        .ifPresent(this::setJobLockExpirationPeriod);
+
     parseProperty(props, TASKANA_JOB_CLEANUP_FIRST_RUN, Instant::parse)
         .ifPresent(this::setCleanupJobFirstRun);
 
@@ -407,9 +663,14 @@ public class TaskanaEngineConfiguration {
             Boolean::parseBoolean)
         .ifPresent(this::setTaskCleanupJobAllCompletedSameParentBusiness);
 
+    parseProperty(props, TASKANA_JOB_CLASSIFICATION_CHANGED_SETTLE_PERIOD, Duration::parse)
+        .ifPresent(this::setClassificationChangedJobSettlePeriod);
+
     LOGGER.debug(
         "Configured number of task and workbasket updates per transaction: {}", jobBatchSize);
     LOGGER.debug("Number of retries of failed task updates: {}", maxNumberOfJobRetries);
+    LOGGER.debug("Number of workers which run jobs in parallel: {}", jobWorkerCount);
+    LOGGER.debug("Jobs are locked for {} and the lock is renewed", jobLockExpirationPeriod);
     LOGGER.debug("CleanupJob configuration: first run at {}", cleanupJobFirstRun);
     LOGGER.debug("CleanupJob configuration: runs every {}", cleanupJobRunEvery);
     LOGGER.debug(
@@ -419,6 +680,30 @@ public class TaskanaEngineConfiguration {
         "TaskCleanupJob configuration: all completed task with the "
             + "same parent business property id {}",
         taskCleanupJobAllCompletedSameParentBusiness);
+    LOGGER.debug(
+        "ClassificationChangedJob configuration: changes are collected for {}",
+        classificationChangedJobSettlePeriod);
+  }
+
+  private void initQueryParameters(Properties props) {
+    parseProperty(props, TASKANA_QUERY_FETCH_SIZE, Integer::parseInt)
+        .ifPresent(this::setQueryFetchSize);
+
+    parseProperty(props, TASKANA_QUERY_STREAM_WINDOW_SIZE, Integer::parseInt)
+        .ifPresent(this::setQueryStreamWindowSize);
+
+    parseProperty(props, TASKANA_QUERY_COUNT_CACHE_MAX_SIZE, Integer::parseInt)
+        .ifPresent(this::setQueryCountCacheMaxSize);
+
+    parseProperty(props, TASKANA_QUERY_COUNT_CACHE_TIME_TO_LIVE, Duration::parse)
+        .ifPresent(this::setQueryCountCacheTimeToLive);
+
+    LOGGER.debug("Configured JDBC fetch size for queries: {}", queryFetchSize);
+    LOGGER.debug("Configured window size for streamed queries: {}", queryStreamWindowSize);
+    LOGGER.debug(
+        "Cached query counts are kept for {} in at most {} entries",
+        queryCountCacheTimeToLive,
+        queryCountCacheMaxSize);
   }
 
   private void initDomains(Properties props) {
@@ -498,16 +783,36 @@ public class TaskanaEngineConfiguration {
           return new HashSet<>(accessIds);
         };
 
-    roleMap =
+    Map<TaskanaRole, Set<String>> roles =
         Arrays.stream(TaskanaRole.values())
             .map(role -> Pair.of(role, getAccessIdsForRole.apply(role)))
             .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
+    setRoleMap(roles);
 
     if (LOGGER.isDebugEnabled()) {
-      roleMap.forEach((k, v) -> LOGGER.debug("Found Taskana RoleConfig {} : {} ", k, v));
+      roles.forEach((k, v) -> LOGGER.debug("Found Taskana RoleConfig {} : {} ", k, v));
     }
   }
 
+  private static Map<String, Set<TaskanaRole>> createRoleIndex(
+      Map<TaskanaRole, Set<String>> roleMap) {
+    if (roleMap == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, Set<TaskanaRole>> rolesByAccessId = new HashMap<>();
+    roleMap.forEach(
+        (role, accessIds) ->
+            accessIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(
+                    accessId ->
+                        rolesByAccessId
+                            .computeIfAbsent(accessId, id -> EnumSet.noneOf(TaskanaRole.class))
+                            .add(role)));
+    rolesByAccessId.replaceAll((accessId, roles) -> Collections.unmodifiableSet(roles));
+    return Collections.unmodifiableMap(rolesByAccessId);
+  }
+
   private void initCustomHolidays(Properties props, String separator) {
     CheckedFunction<String, List<CustomHoliday>> parseFunction =
         s ->
@@ -528,6 +833,63 @@ public class TaskanaEngineConfiguration {
     LOGGER.debug("Configured custom Holidays : {}", customHolidays);
   }
 
+  private void initWorkbasketPermissionCache(Properties props) {
+    parseProperty(props, TASKANA_WORKBASKET_PERMISSION_CACHE_MAX_SIZE, Integer::parseInt)
+        .ifPresent(this::setWorkbasketPermissionCacheMaxSize);
+    parseProperty(props, TASKANA_WORKBASKET_PERMISSION_CACHE_TIME_TO_LIVE, Duration::parse)
+        .ifPresent(this::setWorkbasketPermissionCacheTimeToLive);
+
+    LOGGER.debug(
+        "Workbasket permissions are cached for {} in at most {} entries",
+        workbasketPermissionCacheTimeToLive,
+        workbasketPermissionCacheMaxSize);
+  }
+
+  private void initMonitorReportCache(Properties props) {
+    parseProperty(props, TASKANA_MONITOR_REPORT_CACHE_MAX_WEIGHT, Long::parseLong)
+        .ifPresent(this::setMonitorReportCacheMaxWeight);
+    parseProperty(props, TASKANA_MONITOR_REPORT_CACHE_TIME_TO_LIVE, Duration::parse)
+        .ifPresent(this::setMonitorReportCacheTimeToLive);
+    parseProperty(props, TASKANA_MONITOR_REPORT_CACHE_MAX_TASK_CHANGES, Long::parseLong)
+        .ifPresent(this::setMonitorReportCacheMaxTaskChanges);
+
+    LOGGER.debug(
+        "Report query items are cached for {} or {} changed tasks in at most {} items",
+        monitorReportCacheTimeToLive,
+        monitorReportCacheMaxTaskChanges,
+        monitorReportCacheMaxWeight);
+  }
+
+  private void initHistoryAsync(Properties props) {
+    parseProperty(props, TASKANA_HISTORY_ASYNC_ENABLED, Boolean::parseBoolean)
+        .ifPresent(this::setHistoryAsyncEnabled);
+    parseProperty(props, TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY, Integer::parseInt)
+        .ifPresent(this::setHistoryAsyncQueueCapacity);
+    parseProperty(props, TASKANA_HISTORY_ASYNC_BATCH_SIZE, Integer::parseInt)
+        .ifPresent(this::setHistoryAsyncBatchSize);
+    parseProperty(props, TASKANA_HISTORY_ASYNC_OVERFLOW_POLICY, HistoryEventOverflowPolicy::valueOf)
+        .ifPresent(this::setHistoryAsyncOverflowPolicy);
+
+    LOGGER.debug(
+        "History events are created asynchronously: {} (queue capacity {}, batch size {}, {})",
+        historyAsyncEnabled,
+        historyAsyncQueueCapacity,
+        historyAsyncBatchSize,
+        historyAsyncOverflowPolicy);
+  }
+
+  private void initWorkingDaysIndex(Properties props) {
+    parseProperty(props, TASKANA_WORKING_DAYS_INDEXED_YEARS_BEFORE, Integer::parseInt)
+        .ifPresent(this::setWorkingDaysIndexedYearsBefore);
+    parseProperty(props, TASKANA_WORKING_DAYS_INDEXED_YEARS_AFTER, Integer::parseInt)
+        .ifPresent(this::setWorkingDaysIndexedYearsAfter);
+
+    LOGGER.debug(
+        "Working days are precomputed for {} years before and {} years after the current year",
+        workingDaysIndexedYearsBefore,
+        workingDaysIndexedYearsAfter);
+  }
+
   private CustomHoliday createCustomHolidayFromPropsEntry(String customHolidayEntry)
       throws WrongCustomHolidayFormatException {
     List<String> parts =
@@ -29,6 +29,7 @@ import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
@@ -37,6 +38,7 @@ import pro.taskana.spi.history.api.events.classification.ClassificationDeletedEv
 import pro.taskana.spi.history.api.events.classification.ClassificationUpdatedEvent;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.ReportAggregate;
 import pro.taskana.task.internal.TaskMapper;
 
 /** This is the implementation of ClassificationService. */
@@ -565,12 +567,16 @@ public class ClassificationServiceImpl implements ClassificationService {
             .getTaskService()
             .createTaskQuery()
             .classificationIdIn(oldClassification.getId())
+            .select()
             .list();
 
     if (!taskSummaries.isEmpty()) {
       List<String> taskIds = new ArrayList<>();
       taskSummaries.forEach(ts -> taskIds.add(ts.getId()));
+      List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(taskIds);
       taskMapper.updateClassificationCategoryOnChange(taskIds, classificationImpl.getCategory());
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
     }
   }
 
@@ -597,6 +603,45 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  /**
+   * Adds the changes of a classification to a ClassificationChangedJob for the same classification
+   * which is still waiting for its first run. This way the affected tasks are refreshed only once
+   * for all changes within the settle period.
+   *
+   * @param jobService the job service
+   * @param classificationId the id of the changed classification
+   * @param priorityChanged whether the priority was changed
+   * @param serviceLevelChanged whether the service level was changed
+   * @return true if a pending job was found and updated, false otherwise
+   */
+  private boolean mergeIntoPendingJob(
+      JobServiceImpl jobService,
+      String classificationId,
+      boolean priorityChanged,
+      boolean serviceLevelChanged) {
+    for (ScheduledJob pendingJob :
+        jobService.findJobsNotLockedYet(
+            ScheduledJob.Type.CLASSIFICATIONCHANGEDJOB,
+            ClassificationChangedJob.CLASSIFICATION_ID,
+            classificationId)) {
+      Map<String, String> args = pendingJob.getArguments();
+      args.merge(
+          ClassificationChangedJob.PRIORITY_CHANGED,
+          String.valueOf(priorityChanged),
+          (a, b) -> String.valueOf(Boolean.parseBoolean(a) || Boolean.parseBoolean(b)));
+      args.merge(
+          ClassificationChangedJob.SERVICE_LEVEL_CHANGED,
+          String.valueOf(serviceLevelChanged),
+          (a, b) -> String.valueOf(Boolean.parseBoolean(a) || Boolean.parseBoolean(b)));
+      if (jobService.updateArgumentsOfJobNotLockedYet(pendingJob)) {
+        LOGGER.debug(
+            "Merged change of classification {} into job {}", classificationId, pendingJob);
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Check if priority or service level were changed and create the new job.
    *
@@ -610,6 +655,11 @@ public class ClassificationServiceImpl implements ClassificationService {
         !Objects.equals(oldClassification.getServiceLevel(), classificationImpl.getServiceLevel());
 
     if (priorityChanged || serviceLevelChanged) {
+      JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getEngine().getJobService();
+      if (mergeIntoPendingJob(
+          jobService, classificationImpl.getId(), priorityChanged, serviceLevelChanged)) {
+        return;
+      }
       Map<String, String> args = new HashMap<>();
       args.put(ClassificationChangedJob.CLASSIFICATION_ID, classificationImpl.getId());
       args.put(ClassificationChangedJob.PRIORITY_CHANGED, String.valueOf(priorityChanged));
@@ -617,7 +667,10 @@ public class ClassificationServiceImpl implements ClassificationService {
       ScheduledJob job = new ScheduledJob();
       job.setArguments(args);
       job.setType(ScheduledJob.Type.CLASSIFICATIONCHANGEDJOB);
-      taskanaEngine.getEngine().getJobService().createJob(job);
+      Duration settlePeriod =
+          taskanaEngine.getEngine().getConfiguration().getClassificationChangedJobSettlePeriod();
+      job.setDue(Instant.now().plus(settlePeriod));
+      jobService.createJob(job);
     }
   }
 }
@@ -62,7 +62,7 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     for (List<String> taskIdBatch : affectedTaskBatches) {
       Map<String, String> args = new HashMap<>();
       if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
+        String taskIds = String.join(",", taskIdBatch);
         args.put(TASK_IDS, taskIds);
         args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
         args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
+import pro.taskana.task.internal.jobs.ReportAggregateJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
@@ -174,6 +175,7 @@ public class ScheduledJob {
     UPDATETASKSJOB(TaskRefreshJob.class.getName()),
     TASKCLEANUPJOB(TaskCleanupJob.class.getName()),
     WORKBASKETCLEANUPJOB(WorkbasketCleanupJob.class.getName()),
+    REPORTAGGREGATEJOB(ReportAggregateJob.class.getName()),
     HISTORYCLEANUPJOB("pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob");
 
     private String clazz;
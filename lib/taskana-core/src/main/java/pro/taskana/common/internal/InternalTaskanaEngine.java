@@ -7,6 +7,9 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
+import pro.taskana.task.internal.QueryCountCache;
+import pro.taskana.task.internal.ReportAggregateStore;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 
 /**
  * FOR INTERNAL USE ONLY.
@@ -38,6 +41,26 @@ public interface InternalTaskanaEngine {
    */
   <T> T openAndReturnConnection(Supplier<T> supplier);
 
+  /**
+   * Runs the action after the transaction of the current API call has been committed. In mode
+   * AUTOCOMMIT the action runs after TASKANA committed the outermost API call. If the transaction
+   * is controlled by the caller, the action runs after the commit if the surrounding framework
+   * reports it (e.g. Spring), otherwise when the outermost API call returns. In mode EXPLICIT the
+   * action runs immediately.
+   *
+   * @param action the action to run
+   */
+  void runAfterCommit(Runnable action);
+
+  /**
+   * Returns true if {@link #runAfterCommit(Runnable)} delays its action until the transaction has
+   * been committed and drops it on a rollback. This is the case in mode AUTOCOMMIT and for
+   * transactions which are reported by the surrounding framework (e.g. Spring).
+   *
+   * @return true if actions are run only after the commit
+   */
+  boolean canRunAfterCommit();
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
@@ -84,6 +107,27 @@ public interface InternalTaskanaEngine {
    */
   CreateTaskPreprocessorManager getCreateTaskPreprocessorManager();
 
+  /**
+   * Retrieve the cache of the workbasket permissions of the users.
+   *
+   * @return the WorkbasketPermissionCache instance.
+   */
+  WorkbasketPermissionCache getWorkbasketPermissionCache();
+
+  /**
+   * Retrieve the cache of the counts of task queries.
+   *
+   * @return the QueryCountCache instance.
+   */
+  QueryCountCache getQueryCountCache();
+
+  /**
+   * Retrieve the store of the incrementally maintained report aggregates.
+   *
+   * @return the ReportAggregateStore instance.
+   */
+  ReportAggregateStore getReportAggregateStore();
+
   /**
    * This method is supposed to skip further permission checks if we are already in a secured
    * environment. With great power comes great responsibility.
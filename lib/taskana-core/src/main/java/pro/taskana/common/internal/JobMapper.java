@@ -58,6 +58,104 @@ public interface JobMapper {
       typeHandler = MapTypeHandler.class)
   List<ScheduledJob> findJobsToRun(Instant now);
 
+  @Update(
+      "<script>UPDATE SCHEDULED_JOB SET LOCKED_BY = #{claimToken}, LOCK_EXPIRES = #{lockExpires}, RETRY_COUNT = RETRY_COUNT - 1 "
+          + "WHERE JOB_ID IN ( "
+          + "SELECT JOB_ID FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND (DUE is null OR DUE &lt; #{now}) AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; #{now}) AND RETRY_COUNT > 0 "
+          + "ORDER BY PRIORITY DESC, JOB_ID ASC FETCH FIRST ${maxCount} ROWS ONLY "
+          + "<if test=\"_databaseId == 'postgres'\">FOR UPDATE SKIP LOCKED </if>"
+          + ") "
+          + "AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; #{now}) AND RETRY_COUNT > 0"
+          + "</script>")
+  int claimJobs(
+      @Param("claimToken") String claimToken,
+      @Param("lockExpires") Instant lockExpires,
+      @Param("now") Instant now,
+      @Param("maxCount") int maxCount);
+
+  @Select(
+      "<script> SELECT   JOB_ID, PRIORITY, CREATED, DUE, STATE, LOCKED_BY, LOCK_EXPIRES, TYPE, RETRY_COUNT, ARGUMENTS "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE LOCKED_BY = #{claimToken} "
+          + "ORDER BY PRIORITY DESC, JOB_ID ASC "
+          + "</script>")
+  @Result(property = "jobId", column = "JOB_ID")
+  @Result(property = "priority", column = "PRIORITY")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "due", column = "DUE")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "lockedBy", column = "LOCKED_BY")
+  @Result(property = "lockExpires", column = "LOCK_EXPIRES")
+  @Result(property = "type", column = "TYPE")
+  @Result(property = "retryCount", column = "RETRY_COUNT")
+  @Result(
+      property = "arguments",
+      column = "ARGUMENTS",
+      javaType = Map.class,
+      typeHandler = MapTypeHandler.class)
+  List<ScheduledJob> findJobsClaimedBy(@Param("claimToken") String claimToken);
+
+  @Select(
+      "<script>SELECT COUNT(JOB_ID) FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND (DUE is null OR DUE &lt; #{now}) AND (LOCK_EXPIRES is null OR LOCK_EXPIRES &lt; #{now}) AND RETRY_COUNT > 0 "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  int countJobsToRun(Instant now);
+
+  @Select(
+      "<script> SELECT   JOB_ID, PRIORITY, CREATED, DUE, STATE, LOCKED_BY, LOCK_EXPIRES, TYPE, RETRY_COUNT, ARGUMENTS "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND TYPE = #{jobType} AND LOCKED_BY is null "
+          + "ORDER BY JOB_ID ASC "
+          + "</script>")
+  @Result(property = "jobId", column = "JOB_ID")
+  @Result(property = "priority", column = "PRIORITY")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "due", column = "DUE")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "lockedBy", column = "LOCKED_BY")
+  @Result(property = "lockExpires", column = "LOCK_EXPIRES")
+  @Result(property = "type", column = "TYPE")
+  @Result(property = "retryCount", column = "RETRY_COUNT")
+  @Result(
+      property = "arguments",
+      column = "ARGUMENTS",
+      javaType = Map.class,
+      typeHandler = MapTypeHandler.class)
+  List<ScheduledJob> findJobsNotLockedYet(Type jobType);
+
+  @Select(
+      "<script> SELECT   JOB_ID, PRIORITY, CREATED, DUE, STATE, LOCKED_BY, LOCK_EXPIRES, TYPE, RETRY_COUNT, ARGUMENTS "
+          + "FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND TYPE = #{jobType} AND LOCKED_BY is null "
+          + "AND ARGUMENTS LIKE #{argumentsPattern} "
+          + "ORDER BY JOB_ID ASC "
+          + "</script>")
+  @Result(property = "jobId", column = "JOB_ID")
+  @Result(property = "priority", column = "PRIORITY")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "due", column = "DUE")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "lockedBy", column = "LOCKED_BY")
+  @Result(property = "lockExpires", column = "LOCK_EXPIRES")
+  @Result(property = "type", column = "TYPE")
+  @Result(property = "retryCount", column = "RETRY_COUNT")
+  @Result(
+      property = "arguments",
+      column = "ARGUMENTS",
+      javaType = Map.class,
+      typeHandler = MapTypeHandler.class)
+  List<ScheduledJob> findJobsNotLockedYetByArguments(
+      @Param("jobType") Type jobType, @Param("argumentsPattern") String argumentsPattern);
+
+  @Update(
+      value =
+          "UPDATE SCHEDULED_JOB SET "
+              + "ARGUMENTS = #{arguments,jdbcType=CLOB ,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} "
+              + "WHERE JOB_ID = #{jobId} AND LOCKED_BY is null")
+  int updateArgumentsOfJobNotLockedYet(ScheduledJob job);
+
   @Update(
       value =
           "UPDATE SCHEDULED_JOB SET CREATED = #{created}, PRIORITY = #{priority}, DUE = #{due}, STATE = #{state}, "
@@ -66,6 +164,12 @@ public interface JobMapper {
               + "where JOB_ID = #{jobId}")
   void update(ScheduledJob job);
 
+  @Update(
+      value =
+          "UPDATE SCHEDULED_JOB SET LOCK_EXPIRES = #{lockExpires} "
+              + "WHERE JOB_ID = #{jobId} AND LOCKED_BY = #{lockedBy}")
+  int updateLockExpires(ScheduledJob job);
+
   @Delete(value = "DELETE FROM SCHEDULED_JOB WHERE JOB_ID = #{jobId}")
   void delete(ScheduledJob job);
 
@@ -1,7 +1,12 @@
 package pro.taskana.common.internal;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,7 +18,6 @@ import pro.taskana.common.api.ScheduledJob.Type;
 public class JobServiceImpl implements JobService {
 
   public static final Integer JOB_DEFAULT_PRIORITY = 50;
-  public static final long DEFAULT_LOCK_EXPIRATION_PERIOD = 60000;
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobServiceImpl.class);
   private JobMapper jobMapper;
@@ -52,34 +56,142 @@ public class JobServiceImpl implements JobService {
     }
   }
 
-  public ScheduledJob lockJob(ScheduledJob job, String owner) {
-    LOGGER.debug("entry to lockJob(jobId = {}, owner = {})", job.getJobId(), owner);
+  /**
+   * Locks up to maxCount jobs which are due before the given instant. The due jobs are locked by a
+   * single statement which only succeeds for jobs which are not locked in the meantime, so
+   * concurrent callers never claim the same job. Each claim locks its jobs with a token of its
+   * own, which identifies them when they are read back.
+   *
+   * @param owner the owner of the lock, it is only logged
+   * @param maxCount the maximal number of jobs to claim
+   * @param now only jobs which are due before this instant are claimed
+   * @return the claimed jobs, ordered by priority
+   */
+  public List<ScheduledJob> claimJobs(String owner, int maxCount, Instant now) {
+    LOGGER.debug(
+        "entry to claimJobs(owner = {}, maxCount = {}, now = {})", owner, maxCount, now);
+    List<ScheduledJob> claimedJobs = new ArrayList<>();
     try {
       taskanaEngineImpl.openConnection();
-      job.setLockedBy(owner);
-      job.setLockExpires(Instant.now().plusMillis(DEFAULT_LOCK_EXPIRATION_PERIOD));
-      job.setRetryCount(job.getRetryCount() - 1);
-      jobMapper.update(job);
-      LOGGER.debug("Job {} locked. Remaining retries: {}", job.getJobId(), job.getRetryCount());
+      String claimToken = UUID.randomUUID().toString().replace("-", "");
+      Instant lockExpires = Instant.now().plus(getLockExpirationPeriod());
+      if (jobMapper.claimJobs(claimToken, lockExpires, now, maxCount) > 0) {
+        claimedJobs = jobMapper.findJobsClaimedBy(claimToken);
+      }
+      LOGGER.debug("Claimed jobs of {} with token {}: {}", owner, claimToken, claimedJobs);
     } finally {
       taskanaEngineImpl.returnConnection();
-      LOGGER.debug("exit from lockJob()");
+      LOGGER.debug("exit from claimJobs()");
+    }
+    return claimedJobs;
+  }
+
+  /**
+   * Counts the jobs which are due before the given instant and not locked.
+   *
+   * @param now only jobs which are due before this instant are counted
+   * @return the number of jobs which are waiting to run
+   */
+  public int countJobsToRun(Instant now) {
+    LOGGER.debug("entry to countJobsToRun(now = {})", now);
+    try {
+      taskanaEngineImpl.openConnection();
+      return jobMapper.countJobsToRun(now);
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from countJobsToRun()");
     }
-    return job;
   }
 
-  public List<ScheduledJob> findJobsToRun() {
-    LOGGER.debug("entry to findJobsToRun");
-    List<ScheduledJob> availableJobs;
+  /**
+   * Finds the jobs of the given type which were not locked by any runner yet.
+   *
+   * @param jobType the type of the jobs
+   * @return the jobs which are still waiting for their first run
+   */
+  public List<ScheduledJob> findJobsNotLockedYet(Type jobType) {
+    LOGGER.debug("entry to findJobsNotLockedYet(jobType = {})", jobType);
     try {
       taskanaEngineImpl.openConnection();
-      availableJobs = jobMapper.findJobsToRun(Instant.now());
-      LOGGER.debug("Found available jobs: {}", availableJobs);
+      return jobMapper.findJobsNotLockedYet(jobType);
     } finally {
       taskanaEngineImpl.returnConnection();
-      LOGGER.debug("exit from findJobsToRun()");
+      LOGGER.debug("exit from findJobsNotLockedYet()");
     }
-    return availableJobs;
+  }
+
+  /**
+   * Finds the jobs of the given type which were not locked by any runner yet and have the given
+   * argument. Only the matching jobs are read, the filter is applied to the serialized arguments
+   * by the database.
+   *
+   * @param jobType the type of the jobs
+   * @param argumentName the name of the argument
+   * @param argumentValue the value of the argument
+   * @return the matching jobs which are still waiting for their first run
+   */
+  public List<ScheduledJob> findJobsNotLockedYet(
+      Type jobType, String argumentName, String argumentValue) {
+    LOGGER.debug(
+        "entry to findJobsNotLockedYet(jobType = {}, argumentName = {}, argumentValue = {})",
+        jobType,
+        argumentName,
+        argumentValue);
+    try {
+      taskanaEngineImpl.openConnection();
+      // the arguments are stored as JSON, so the pattern matches the serialized entry. Wildcards
+      // within the value may match other jobs as well, therefore the value is checked again.
+      String argumentsPattern =
+          "%" + JSONObject.quote(argumentName) + ":" + JSONObject.quote(argumentValue) + "%";
+      return jobMapper.findJobsNotLockedYetByArguments(jobType, argumentsPattern).stream()
+          .filter(
+              job ->
+                  job.getArguments() != null
+                      && argumentValue.equals(job.getArguments().get(argumentName)))
+          .collect(Collectors.toList());
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from findJobsNotLockedYet()");
+    }
+  }
+
+  /**
+   * Replaces the arguments of a job, unless a runner has locked the job in the meantime.
+   *
+   * @param job the job with the new arguments
+   * @return true if the arguments were replaced, false if the job was locked already
+   */
+  public boolean updateArgumentsOfJobNotLockedYet(ScheduledJob job) {
+    LOGGER.debug("entry to updateArgumentsOfJobNotLockedYet(jobId = {})", job.getJobId());
+    try {
+      taskanaEngineImpl.openConnection();
+      return jobMapper.updateArgumentsOfJobNotLockedYet(job) > 0;
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from updateArgumentsOfJobNotLockedYet()");
+    }
+  }
+
+  /**
+   * Extends the lock of a job which is still running by the lock expiration period.
+   *
+   * @param job the running job
+   * @return true if the lock was renewed, false if the job is no longer locked by its owner
+   */
+  public boolean renewJobLock(ScheduledJob job) {
+    LOGGER.debug("entry to renewJobLock(jobId = {})", job.getJobId());
+    boolean renewed = false;
+    try {
+      taskanaEngineImpl.openConnection();
+      job.setLockExpires(Instant.now().plus(getLockExpirationPeriod()));
+      renewed = jobMapper.updateLockExpires(job) > 0;
+      LOGGER.debug(
+          "Lock of job {} renewed until {}: {}", job.getJobId(), job.getLockExpires(), renewed);
+    } finally {
+      taskanaEngineImpl.returnConnection();
+      LOGGER.debug("exit from renewJobLock()");
+    }
+    return renewed;
   }
 
   public void deleteJob(ScheduledJob job) {
@@ -94,6 +206,10 @@ public class JobServiceImpl implements JobService {
     }
   }
 
+  public Duration getLockExpirationPeriod() {
+    return taskanaEngineImpl.getEngine().getConfiguration().getJobLockExpirationPeriod();
+  }
+
   private ScheduledJob initializeJobDefault(ScheduledJob job) {
     LOGGER.debug("entry to initializeJobDefault(job = {})", job);
     job.setCreated(Instant.now());
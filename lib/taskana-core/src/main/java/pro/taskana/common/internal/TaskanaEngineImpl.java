@@ -6,7 +6,9 @@ import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.Year;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
@@ -52,12 +54,16 @@ import pro.taskana.common.internal.security.CurrentUserContextImpl;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.task.internal.ObjectReferenceMapper;
+import pro.taskana.task.internal.QueryCountCache;
+import pro.taskana.task.internal.ReportAggregateMapper;
+import pro.taskana.task.internal.ReportAggregateStore;
 import pro.taskana.task.internal.TaskCommentMapper;
 import pro.taskana.task.internal.TaskMapper;
 import pro.taskana.task.internal.TaskQueryMapper;
@@ -66,6 +72,7 @@ import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
@@ -73,15 +80,21 @@ import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 public class TaskanaEngineImpl implements TaskanaEngine {
 
   // must match the VERSION value in table
-  private static final String TASKANA_SCHEMA_VERSION = "4.0.0";
+  private static final String TASKANA_SCHEMA_VERSION = "4.5.0";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
   private static final SessionStack SESSION_STACK = new SessionStack();
+  // the actions which run after the transaction of the current thread has been committed
+  private static final ThreadLocal<List<Runnable>> AFTER_COMMIT_ACTIONS = new ThreadLocal<>();
   private final TaskRoutingManager taskRoutingManager;
   private final CreateTaskPreprocessorManager createTaskPreprocessorManager;
   private final InternalTaskanaEngineImpl internalTaskanaEngineImpl;
   private final WorkingDaysToDaysConverter workingDaysToDaysConverter;
   private final HistoryEventManager historyEventManager;
   private final CurrentUserContext currentUserContext;
+  private final WorkbasketPermissionCache workbasketPermissionCache;
+  private final QueryCountCache queryCountCache;
+  private final ReportAggregateStore reportAggregateStore;
+  private final ReportCache reportCache;
   protected TaskanaEngineConfiguration taskanaEngineConfiguration;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
@@ -95,15 +108,35 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     this.sessionManager = createSqlSessionManager();
     initializeDbSchema(taskanaEngineConfiguration);
 
-    historyEventManager = HistoryEventManager.getInstance(this);
+    this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
+    historyEventManager = HistoryEventManager.getInstance(internalTaskanaEngineImpl);
     taskRoutingManager = TaskRoutingManager.getInstance(this);
     createTaskPreprocessorManager = CreateTaskPreprocessorManager.getInstance();
-    this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
+    int currentYear = Year.now().getValue();
     workingDaysToDaysConverter =
         new WorkingDaysToDaysConverter(
             taskanaEngineConfiguration.isGermanPublicHolidaysEnabled(),
             taskanaEngineConfiguration.isCorpusChristiEnabled(),
-            taskanaEngineConfiguration.getCustomHolidays());
+            taskanaEngineConfiguration.getCustomHolidays(),
+            currentYear - taskanaEngineConfiguration.getWorkingDaysIndexedYearsBefore(),
+            currentYear + taskanaEngineConfiguration.getWorkingDaysIndexedYearsAfter());
+    workbasketPermissionCache =
+        new WorkbasketPermissionCache(
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheMaxSize(),
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheTimeToLive());
+    queryCountCache =
+        new QueryCountCache(
+            taskanaEngineConfiguration.getQueryCountCacheMaxSize(),
+            taskanaEngineConfiguration.getQueryCountCacheTimeToLive());
+    reportAggregateStore =
+        new ReportAggregateStore(
+            internalTaskanaEngineImpl, sessionManager.getMapper(ReportAggregateMapper.class));
+    reportCache =
+        new ReportCache(
+            taskanaEngineConfiguration.getMonitorReportCacheMaxWeight(),
+            taskanaEngineConfiguration.getMonitorReportCacheTimeToLive(),
+            taskanaEngineConfiguration.getMonitorReportCacheMaxTaskChanges(),
+            reportAggregateStore::getNumberOfChangedTasks);
     currentUserContext =
         new CurrentUserContextImpl(TaskanaEngineConfiguration.shouldUseLowerCaseForAccessIds());
   }
@@ -127,7 +160,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   public MonitorService getMonitorService() {
     SqlSession session = this.sessionManager;
     return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, session.getMapper(MonitorMapper.class));
+        internalTaskanaEngineImpl, session.getMapper(MonitorMapper.class), reportCache);
   }
 
   @Override
@@ -215,14 +248,12 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return true;
     }
 
-    List<String> accessIds = currentUserContext.getAccessIds();
-    Set<String> rolesMembers = new HashSet<>();
-    for (TaskanaRole role : roles) {
-      rolesMembers.addAll(getConfiguration().getRoleMap().get(role));
-    }
-    for (String accessId : accessIds) {
-      if (rolesMembers.contains(accessId)) {
-        return true;
+    for (String accessId : currentUserContext.getAccessIds()) {
+      Set<TaskanaRole> rolesOfAccessId = getConfiguration().getRolesOfAccessId(accessId);
+      for (TaskanaRole role : roles) {
+        if (rolesOfAccessId.contains(role)) {
+          return true;
+        }
       }
     }
 
@@ -250,6 +281,58 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return currentUserContext;
   }
 
+  public ReportAggregateStore getReportAggregateStore() {
+    return reportAggregateStore;
+  }
+
+  public ReportCache getReportCache() {
+    return reportCache;
+  }
+
+  /**
+   * Runs the action after the current transaction has been committed. Subclasses which know the
+   * transaction of the caller can run the action after its commit instead.
+   *
+   * @param action the action to run
+   * @see InternalTaskanaEngine#runAfterCommit(Runnable)
+   */
+  protected void runAfterCommit(Runnable action) {
+    if (mode == ConnectionManagementMode.EXPLICIT || SESSION_STACK.getSessionStack().isEmpty()) {
+      action.run();
+    } else {
+      List<Runnable> actions = AFTER_COMMIT_ACTIONS.get();
+      if (actions == null) {
+        actions = new ArrayList<>();
+        AFTER_COMMIT_ACTIONS.set(actions);
+      }
+      actions.add(action);
+    }
+  }
+
+  /**
+   * Returns true if {@link #runAfterCommit(Runnable)} runs its action only after the commit.
+   *
+   * @return true in mode AUTOCOMMIT
+   * @see InternalTaskanaEngine#canRunAfterCommit()
+   */
+  protected boolean canRunAfterCommit() {
+    return mode == ConnectionManagementMode.AUTOCOMMIT;
+  }
+
+  private static void runAfterCommitActions() {
+    List<Runnable> actions = AFTER_COMMIT_ACTIONS.get();
+    AFTER_COMMIT_ACTIONS.remove();
+    if (actions != null) {
+      for (Runnable action : actions) {
+        try {
+          action.run();
+        } catch (RuntimeException e) {
+          LOGGER.error("Action after commit failed.", e);
+        }
+      }
+    }
+  }
+
   /**
    * This method creates the sqlSessionManager of myBatis. It integrates all the SQL mappers and
    * sets the databaseId attribute.
@@ -275,6 +358,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
           e.getCause());
     }
 
+    // a fetch size hint is required by some JDBC drivers to stream query results (see
+    // TaskQuery#stream()) instead of transferring the whole result set at once.
+    configuration.setDefaultFetchSize(taskanaEngineConfiguration.getQueryFetchSize());
+
     // register type handlers
     configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
@@ -282,6 +369,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
+    configuration.addMapper(ReportAggregateMapper.class);
     configuration.addMapper(WorkbasketMapper.class);
     configuration.addMapper(DistributionTargetMapper.class);
     configuration.addMapper(ClassificationMapper.class);
@@ -399,10 +487,12 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             try {
               sessionManager.commit();
             } catch (Exception e) {
+              AFTER_COMMIT_ACTIONS.remove();
               throw new AutocommitFailedException(e.getCause());
             }
           }
           sessionManager.close();
+          runAfterCommitActions();
         }
       }
     }
@@ -418,6 +508,16 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public void runAfterCommit(Runnable action) {
+      TaskanaEngineImpl.this.runAfterCommit(action);
+    }
+
+    @Override
+    public boolean canRunAfterCommit() {
+      return TaskanaEngineImpl.this.canRunAfterCommit();
+    }
+
     @Override
     public void initSqlSession() {
       if (mode == ConnectionManagementMode.EXPLICIT && connection == null) {
@@ -458,6 +558,21 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return createTaskPreprocessorManager;
     }
 
+    @Override
+    public WorkbasketPermissionCache getWorkbasketPermissionCache() {
+      return workbasketPermissionCache;
+    }
+
+    @Override
+    public QueryCountCache getQueryCountCache() {
+      return queryCountCache;
+    }
+
+    @Override
+    public ReportAggregateStore getReportAggregateStore() {
+      return reportAggregateStore;
+    }
+
     @Override
     public <T> T runAsAdmin(Supplier<T> supplier) {
 
@@ -5,8 +5,18 @@ import java.net.UnknownHostException;
 import java.security.Principal;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,8 +33,11 @@ import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 public class JobRunner {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
+  private static final int MAX_CLAIM_ATTEMPTS = 10;
+  private static final long CLAIM_BACKOFF_MILLIS = 10;
   private final TaskanaEngine taskanaEngine;
   private final JobServiceImpl jobService;
+  private final JobRunnerMetrics metrics = new JobRunnerMetrics();
   private TaskanaTransactionProvider<Object> txProvider;
 
   public JobRunner(TaskanaEngine taskanaEngine) {
@@ -36,50 +49,150 @@ public class JobRunner {
     this.txProvider = txProvider;
   }
 
+  public JobRunnerMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Runs all jobs which are due at the time of the call. The jobs are claimed one at a time by
+   * the configured number of workers, so that no job is locked before a worker is free to run it.
+   * Each claim is a single statement, so runners on several nodes never run the same job.
+   * While a job is running its lock is renewed periodically. This method returns after all workers
+   * are finished.
+   */
   public void runJobs() {
     LOGGER.info("entry to runJobs()");
+    Instant start = Instant.now();
+    int workerCount = Math.max(1, taskanaEngine.getConfiguration().getJobWorkerCount());
+    ScheduledExecutorService lockRenewer =
+        Executors.newSingleThreadScheduledExecutor(createThreadFactory("taskana-job-lock-renewer"));
     try {
-      List<ScheduledJob> jobsToRun = findAndLockJobsToRun();
-      for (ScheduledJob scheduledJob : jobsToRun) {
-        runJobTransactionally(scheduledJob);
+      metrics.recordQueueDepth(jobService.countJobsToRun(start));
+      if (workerCount == 1) {
+        runWorker(start, lockRenewer);
+      } else {
+        ExecutorService workers =
+            Executors.newFixedThreadPool(workerCount, createThreadFactory("taskana-job-worker"));
+        try {
+          List<Future<?>> futures = new ArrayList<>();
+          for (int i = 0; i < workerCount; i++) {
+            futures.add(workers.submit(() -> runWorker(start, lockRenewer)));
+          }
+          for (Future<?> future : futures) {
+            future.get();
+          }
+        } finally {
+          workers.shutdownNow();
+        }
       }
+      metrics.recordQueueDepth(jobService.countJobsToRun(start));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.error("Interrupted while running jobs: ", e);
     } catch (Exception e) {
       LOGGER.error("Error occurred while running jobs: ", e);
     } finally {
-      LOGGER.info("exit from runJobs().");
+      lockRenewer.shutdownNow();
+      metrics.recordElapsed(Duration.between(start, Instant.now()));
+      LOGGER.info("exit from runJobs(). {}", metrics);
     }
   }
 
-  private List<ScheduledJob> findAndLockJobsToRun() {
-    List<ScheduledJob> availableJobs = jobService.findJobsToRun();
-    List<ScheduledJob> lockedJobs = new ArrayList<>();
-    for (ScheduledJob job : availableJobs) {
-      lockedJobs.add(lockJobTransactionally(job));
+  private void runWorker(Instant start, ScheduledExecutorService lockRenewer) {
+    ScheduledJob job = claimNextJob(start);
+    while (job != null) {
+      ScheduledFuture<?> lockRenewal = scheduleLockRenewal(job, lockRenewer);
+      try {
+        runJobTransactionally(job);
+      } finally {
+        lockRenewal.cancel(false);
+      }
+      job = claimNextJob(start);
+    }
+  }
+
+  // only jobs which were due when the run started are claimed, so follow-up jobs created by a job
+  // are left for the next run, just like before
+  private ScheduledJob claimNextJob(Instant start) {
+    List<ScheduledJob> claimedJobs = claimJobsTransactionally(start);
+    // without SKIP LOCKED (H2, DB2) a worker which lost a claim to another worker gets no job,
+    // although there may still be due jobs left. Therefore it only stops when none are left.
+    // The workers back off a little longer with every attempt, so they don't keep colliding.
+    for (int attempt = 1;
+        claimedJobs.isEmpty()
+            && attempt < MAX_CLAIM_ATTEMPTS
+            && jobService.countJobsToRun(start) > 0
+            && backOff(attempt);
+        attempt++) {
+      LOGGER.debug("Claim attempt {} returned no job, trying again.", attempt);
+      claimedJobs = claimJobsTransactionally(start);
+    }
+    if (claimedJobs.isEmpty()) {
+      return null;
+    }
+    ScheduledJob job = claimedJobs.get(0);
+    LOGGER.debug("Claimed job: {}", job);
+    metrics.recordClaim(job.getDue(), Instant.now());
+    return job;
+  }
+
+  private static boolean backOff(int attempt) {
+    try {
+      Thread.sleep(attempt * CLAIM_BACKOFF_MILLIS);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
     }
-    return lockedJobs;
   }
 
-  private ScheduledJob lockJobTransactionally(ScheduledJob job) {
-    ScheduledJob lockedJob;
+  @SuppressWarnings("unchecked")
+  private List<ScheduledJob> claimJobsTransactionally(Instant start) {
+    String owner = getLockOwner();
     if (txProvider != null) {
-      lockedJob = (ScheduledJob) txProvider.executeInTransaction(() -> lockJob(job));
+      return (List<ScheduledJob>)
+          txProvider.executeInTransaction(() -> jobService.claimJobs(owner, 1, start));
     } else {
-      lockedJob = lockJob(job);
+      return jobService.claimJobs(owner, 1, start);
+    }
+  }
+
+  private static ThreadFactory createThreadFactory(String namePrefix) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private ScheduledFuture<?> scheduleLockRenewal(
+      ScheduledJob job, ScheduledExecutorService lockRenewer) {
+    long period = Math.max(1, jobService.getLockExpirationPeriod().toMillis() / 2);
+    return lockRenewer.scheduleAtFixedRate(
+        () -> renewJobLockTransactionally(job), period, period, TimeUnit.MILLISECONDS);
+  }
+
+  private void renewJobLockTransactionally(ScheduledJob job) {
+    try {
+      if (txProvider != null) {
+        txProvider.executeInTransaction(() -> jobService.renewJobLock(job));
+      } else {
+        jobService.renewJobLock(job);
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Could not renew the lock of job {}.", job.getJobId(), e);
     }
-    LOGGER.debug("Locked job: {}", lockedJob);
-    return lockedJob;
   }
 
-  private ScheduledJob lockJob(ScheduledJob job) {
+  private String getLockOwner() {
     String hostAddress = "UNKNOWN_ADDRESS";
     try {
       hostAddress = InetAddress.getLocalHost().getHostAddress();
     } catch (UnknownHostException e) {
       // ignore
     }
-    job.setLockedBy(hostAddress + " - " + Thread.currentThread().getName());
-    String owner = hostAddress + " - " + Thread.currentThread().getName();
-    return jobService.lockJob(job, owner);
+    return hostAddress + " - " + Thread.currentThread().getName();
   }
 
   private void runJobTransactionally(ScheduledJob scheduledJob) {
@@ -94,7 +207,9 @@ public class JobRunner {
         runScheduledJob(scheduledJob);
       }
       jobService.deleteJob(scheduledJob);
+      metrics.recordSuccess();
     } catch (Exception e) {
+      metrics.recordFailure();
       LOGGER.error(
           "Processing of job {} failed. Trying to split it up into two pieces...",
           scheduledJob.getJobId(),
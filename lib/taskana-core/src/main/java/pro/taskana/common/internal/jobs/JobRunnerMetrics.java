@@ -0,0 +1,108 @@
+package pro.taskana.common.internal.jobs;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Collects the metrics of the jobs executed by a {@link JobRunner}. */
+public class JobRunnerMetrics {
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicLong claimedJobs = new AtomicLong();
+  private final AtomicLong succeededJobs = new AtomicLong();
+  private final AtomicLong failedJobs = new AtomicLong();
+  private final AtomicLong totalLagMillis = new AtomicLong();
+  private final AtomicLong maxLagMillis = new AtomicLong();
+  private final AtomicLong elapsedMillis = new AtomicLong();
+
+  /**
+   * Returns the number of jobs which were due and not locked at the start or end of the last run.
+   *
+   * @return the queue depth
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  public long getClaimedJobs() {
+    return claimedJobs.get();
+  }
+
+  public long getSucceededJobs() {
+    return succeededJobs.get();
+  }
+
+  public long getFailedJobs() {
+    return failedJobs.get();
+  }
+
+  /**
+   * Returns the average time between the due date of a job and the moment it was claimed.
+   *
+   * @return the average lag
+   */
+  public Duration getAverageLag() {
+    long claimed = claimedJobs.get();
+    return Duration.ofMillis(claimed == 0 ? 0 : totalLagMillis.get() / claimed);
+  }
+
+  public Duration getMaxLag() {
+    return Duration.ofMillis(maxLagMillis.get());
+  }
+
+  /**
+   * Returns the number of jobs which were finished per second while the runner was running.
+   *
+   * @return the throughput in jobs per second
+   */
+  public double getThroughput() {
+    long elapsed = elapsedMillis.get();
+    long finished = succeededJobs.get() + failedJobs.get();
+    return elapsed == 0 ? 0 : finished * 1000.0 / elapsed;
+  }
+
+  void recordQueueDepth(int depth) {
+    queueDepth.set(depth);
+  }
+
+  void recordClaim(Instant due, Instant claimed) {
+    claimedJobs.incrementAndGet();
+    if (due != null) {
+      long lag = Math.max(0, Duration.between(due, claimed).toMillis());
+      totalLagMillis.addAndGet(lag);
+      maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+  }
+
+  void recordSuccess() {
+    succeededJobs.incrementAndGet();
+  }
+
+  void recordFailure() {
+    failedJobs.incrementAndGet();
+  }
+
+  void recordElapsed(Duration elapsed) {
+    elapsedMillis.addAndGet(elapsed.toMillis());
+  }
+
+  @Override
+  public String toString() {
+    return "JobRunnerMetrics [queueDepth="
+        + queueDepth
+        + ", claimedJobs="
+        + claimedJobs
+        + ", succeededJobs="
+        + succeededJobs
+        + ", failedJobs="
+        + failedJobs
+        + ", averageLag="
+        + getAverageLag()
+        + ", maxLag="
+        + getMaxLag()
+        + ", throughput="
+        + getThroughput()
+        + "]";
+  }
+}
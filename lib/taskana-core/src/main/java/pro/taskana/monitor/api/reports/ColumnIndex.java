@@ -0,0 +1,91 @@
+package pro.taskana.monitor.api.reports;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import pro.taskana.monitor.api.reports.header.ColumnHeader;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
+import pro.taskana.monitor.api.reports.item.QueryItem;
+
+/**
+ * The ColumnIndex determines the columns of a {@link Report} into which a {@link QueryItem} fits.
+ * If all column headers are {@link TimeIntervalColumnHeader}s, the ages are divided once into
+ * ranges which fit the same columns. The columns of an item are then found with a binary search
+ * over these ranges instead of asking every column header.
+ *
+ * @param <I> {@link QueryItem} whose columns are determined.
+ */
+final class ColumnIndex<I extends QueryItem> {
+
+  private final List<? extends ColumnHeader<? super I>> columnHeaders;
+  // the lower age limits of the age ranges in ascending order, null if there is no age index
+  private final int[] lowerAgeLimits;
+  // the columns of each age range
+  private final int[][] columnsOfAgeRange;
+
+  ColumnIndex(List<? extends ColumnHeader<? super I>> columnHeaders) {
+    this.columnHeaders = columnHeaders;
+    if (columnHeaders.stream().allMatch(ColumnIndex::fitsByAge)) {
+      TreeSet<Integer> limits = new TreeSet<>();
+      limits.add(Integer.MIN_VALUE);
+      for (ColumnHeader<? super I> columnHeader : columnHeaders) {
+        TimeIntervalColumnHeader header = (TimeIntervalColumnHeader) columnHeader;
+        limits.add(header.getLowerAgeLimit());
+        if (header.getUpperAgeLimit() != Integer.MAX_VALUE) {
+          limits.add(header.getUpperAgeLimit() + 1);
+        }
+      }
+      lowerAgeLimits = limits.stream().mapToInt(Integer::intValue).toArray();
+      columnsOfAgeRange =
+          Arrays.stream(lowerAgeLimits).mapToObj(this::determineColumns).toArray(int[][]::new);
+    } else {
+      lowerAgeLimits = null;
+      columnsOfAgeRange = null;
+    }
+  }
+
+  /**
+   * Determines the columns into which the given item fits.
+   *
+   * @param item the item which is added to the report
+   * @return the indices of the columns in ascending order. The returned array must not be modified.
+   */
+  int[] getColumns(I item) {
+    if (lowerAgeLimits == null) {
+      return IntStream.range(0, columnHeaders.size())
+          .filter(i -> columnHeaders.get(i).fits(item))
+          .toArray();
+    }
+    int index = Arrays.binarySearch(lowerAgeLimits, ((AgeQueryItem) item).getAgeInDays());
+    // a negative index encodes the insertion point, the item belongs to the range before it
+    return columnsOfAgeRange[index >= 0 ? index : -index - 2];
+  }
+
+  // all ages of a range fit the same columns, so checking the lower age limit is sufficient
+  private int[] determineColumns(int ageInDays) {
+    return IntStream.range(0, columnHeaders.size())
+        .filter(
+            i -> {
+              TimeIntervalColumnHeader header = (TimeIntervalColumnHeader) columnHeaders.get(i);
+              return header.getLowerAgeLimit() <= ageInDays
+                  && header.getUpperAgeLimit() >= ageInDays;
+            })
+        .toArray();
+  }
+
+  // only headers which keep the fits method of TimeIntervalColumnHeader can be indexed by age
+  private static boolean fitsByAge(ColumnHeader<?> columnHeader) {
+    if (!(columnHeader instanceof TimeIntervalColumnHeader)) {
+      return false;
+    }
+    try {
+      return columnHeader.getClass().getMethod("fits", AgeQueryItem.class).getDeclaringClass()
+          == TimeIntervalColumnHeader.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
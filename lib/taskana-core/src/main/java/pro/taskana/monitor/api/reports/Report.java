@@ -30,11 +30,13 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   private final Map<String, Row<I>> reportRows = new LinkedHashMap<>();
   private final Row<I> sumRow;
   private final String[] rowDesc;
+  private final ColumnIndex<I> columnIndex;
   protected List<H> columnHeaders;
 
   protected Report(List<H> columnHeaders, String[] rowDesc) {
     this.rowDesc = rowDesc;
     this.columnHeaders = new ArrayList<>(columnHeaders);
+    columnIndex = new ColumnIndex<>(this.columnHeaders);
     sumRow = createRow("Total");
   }
 
@@ -67,19 +69,17 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   }
 
   public final void addItem(I item) {
-    Row<I> row = null;
     if (columnHeaders.isEmpty()) {
-      row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
+      Row<I> row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
       row.updateTotalValue(item);
       sumRow.updateTotalValue(item);
     } else {
-      for (int i = 0; i < columnHeaders.size(); i++) {
-        if (columnHeaders.get(i).fits(item)) {
-          if (row == null) {
-            row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
-          }
-          row.addItem(item, i);
-          sumRow.addItem(item, i);
+      int[] columns = columnIndex.getColumns(item);
+      if (columns.length > 0) {
+        Row<I> row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
+        for (int column : columns) {
+          row.addItem(item, column);
+          sumRow.addItem(item, column);
         }
       }
     }
@@ -0,0 +1,117 @@
+package pro.taskana.monitor.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.IntUnaryOperator;
+
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+
+/**
+ * An AgeBucket is a range of ages in days which fit the same {@link TimeIntervalColumnHeader}s of a
+ * report. The database counts the tasks per bucket instead of per day and reports them with the
+ * age which represents the bucket.
+ */
+public class AgeBucket {
+
+  private final int lowerAgeLimit;
+  private final int upperAgeLimit;
+  private final int ageInDays;
+
+  public AgeBucket(int lowerAgeLimit, int upperAgeLimit, int ageInDays) {
+    this.lowerAgeLimit = lowerAgeLimit;
+    this.upperAgeLimit = upperAgeLimit;
+    this.ageInDays = ageInDays;
+  }
+
+  /**
+   * Divides all ages in days into buckets whose ages fit the same column headers. The report may
+   * convert the ages before they are assigned to the column headers, e.g. into working days. The
+   * conversion has to be monotonic, so that the ages of a bucket are contiguous.
+   *
+   * @param columnHeaders the column headers of the report
+   * @param toReportAge converts an age in days into the age which is compared with the headers
+   * @return the buckets in ascending order, which cover all ages without gaps
+   */
+  public static List<AgeBucket> partition(
+      List<? extends TimeIntervalColumnHeader> columnHeaders, IntUnaryOperator toReportAge) {
+    TreeSet<Long> lowerLimits = new TreeSet<>();
+    lowerLimits.add((long) Integer.MIN_VALUE);
+    for (TimeIntervalColumnHeader columnHeader : columnHeaders) {
+      lowerLimits.add(firstAgeInDays(columnHeader.getLowerAgeLimit(), toReportAge));
+      lowerLimits.add(firstAgeInDays(columnHeader.getUpperAgeLimit() + 1L, toReportAge));
+    }
+    // the first age after all ages in days, it is no lower limit of a bucket
+    lowerLimits.remove(Integer.MAX_VALUE + 1L);
+
+    List<AgeBucket> buckets = new ArrayList<>();
+    Long lowerLimit = lowerLimits.first();
+    while (lowerLimit != null) {
+      Long nextLowerLimit = lowerLimits.higher(lowerLimit);
+      int lower = lowerLimit.intValue();
+      int upper = nextLowerLimit == null ? Integer.MAX_VALUE : (int) (nextLowerLimit - 1);
+      // the age closest to today represents the bucket
+      buckets.add(new AgeBucket(lower, upper, Math.max(lower, Math.min(upper, 0))));
+      lowerLimit = nextLowerLimit;
+    }
+    return buckets;
+  }
+
+  public int getLowerAgeLimit() {
+    return lowerAgeLimit;
+  }
+
+  public int getUpperAgeLimit() {
+    return upperAgeLimit;
+  }
+
+  public int getAgeInDays() {
+    return ageInDays;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lowerAgeLimit, upperAgeLimit, ageInDays);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof AgeBucket)) {
+      return false;
+    }
+    AgeBucket other = (AgeBucket) obj;
+    return lowerAgeLimit == other.lowerAgeLimit
+        && upperAgeLimit == other.upperAgeLimit
+        && ageInDays == other.ageInDays;
+  }
+
+  @Override
+  public String toString() {
+    return "AgeBucket [lowerAgeLimit="
+        + lowerAgeLimit
+        + ", upperAgeLimit="
+        + upperAgeLimit
+        + ", ageInDays="
+        + ageInDays
+        + "]";
+  }
+
+  // returns the smallest age in days whose report age is at least the given report age
+  private static long firstAgeInDays(long reportAge, IntUnaryOperator toReportAge) {
+    long low = Integer.MIN_VALUE;
+    long high = Integer.MAX_VALUE + 1L;
+    while (low < high) {
+      long middle = low + (high - low) / 2;
+      if (toReportAge.applyAsInt((int) middle) >= reportAge) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+}
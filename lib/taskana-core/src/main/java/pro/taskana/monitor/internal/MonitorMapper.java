@@ -21,12 +21,18 @@ import pro.taskana.task.api.TaskState;
 @SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
 public interface MonitorMapper {
 
+  // maps the age in days of a task to the age which represents its age bucket
+  String AGE_BUCKET =
+      "CASE <foreach collection='ageBuckets' item='bucket'>"
+          + "WHEN B.AGE_IN_DAYS BETWEEN ${bucket.lowerAgeLimit} AND ${bucket.upperAgeLimit} THEN ${bucket.ageInDays} "
+          + "</foreach>END";
+
   @Select(
       "<script>"
-          + "SELECT B.WORKBASKET_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.WORKBASKET_KEY, " + AGE_BUCKET + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT T.WORKBASKET_KEY, (DAYS(T.${timestamp}) - DAYS(#{now})) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT T.WORKBASKET_KEY, DATEDIFF('DAY', #{now}, T.${timestamp}) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT T.WORKBASKET_KEY, DATE_PART('DAY', T.${timestamp} - #{now}) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT T.WORKBASKET_KEY, (CAST(T.${timestamp} AS DATE) - CAST(#{now} AS DATE)) as AGE_IN_DAYS </if> "
           + "FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID "
           + "<where>"
           + "<if test=\"workbasketIds != null\">"
@@ -61,7 +67,7 @@ public interface MonitorMapper {
           + "AND T.${timestamp} IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.WORKBASKET_KEY, B.AGE_IN_DAYS"
+          + "GROUP BY B.WORKBASKET_KEY, " + AGE_BUCKET
           + "</script>")
   @Result(column = "WORKBASKET_KEY", property = "key")
   @Result(column = "AGE_IN_DAYS", property = "ageInDays")
@@ -77,14 +83,15 @@ public interface MonitorMapper {
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
       @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter,
       @Param("combinedClassificationFilter")
-          List<CombinedClassificationFilter> combinedClassificationFilter);
+          List<CombinedClassificationFilter> combinedClassificationFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.CLASSIFICATION_CATEGORY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.CLASSIFICATION_CATEGORY, " + AGE_BUCKET + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT CLASSIFICATION_CATEGORY, (DAYS(${timestamp}) - DAYS(#{now})) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT CLASSIFICATION_CATEGORY, DATEDIFF('DAY', #{now}, ${timestamp}) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT CLASSIFICATION_CATEGORY, DATE_PART('DAY', ${timestamp} - #{now}) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT CLASSIFICATION_CATEGORY, (CAST(${timestamp} AS DATE) - CAST(#{now} AS DATE)) as AGE_IN_DAYS </if> "
           + "FROM TASK "
           + "<where>"
           + "<if test=\"workbasketIds != null\">"
@@ -111,7 +118,7 @@ public interface MonitorMapper {
           + "AND ${timestamp} IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.CLASSIFICATION_CATEGORY, B.AGE_IN_DAYS "
+          + "GROUP BY B.CLASSIFICATION_CATEGORY, " + AGE_BUCKET + " "
           + "</script>")
   @Result(column = "CLASSIFICATION_CATEGORY", property = "key")
   @Result(column = "AGE_IN_DAYS", property = "ageInDays")
@@ -125,14 +132,15 @@ public interface MonitorMapper {
       @Param("timestamp") TaskTimestamp timestamp,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.CLASSIFICATION_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.CLASSIFICATION_KEY, " + AGE_BUCKET + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT CLASSIFICATION_KEY, (DAYS(${timestamp}) - DAYS(#{now})) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT CLASSIFICATION_KEY, DATEDIFF('DAY', #{now}, ${timestamp}) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT CLASSIFICATION_KEY, DATE_PART('DAY', ${timestamp} - #{now}) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT CLASSIFICATION_KEY, (CAST(${timestamp} AS DATE) - CAST(#{now} AS DATE)) as AGE_IN_DAYS </if> "
           + "FROM TASK "
           + "<where>"
           + "<if test=\"workbasketIds != null\">"
@@ -159,7 +167,7 @@ public interface MonitorMapper {
           + "AND ${timestamp} IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.CLASSIFICATION_KEY, B.AGE_IN_DAYS "
+          + "GROUP BY B.CLASSIFICATION_KEY, " + AGE_BUCKET + " "
           + "</script>")
   @Result(column = "CLASSIFICATION_KEY", property = "key")
   @Result(column = "AGE_IN_DAYS", property = "ageInDays")
@@ -173,14 +181,62 @@ public interface MonitorMapper {
       @Param("timestamp") TaskTimestamp timestamp,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
+
+  @Select(
+      "<script>"
+          + "SELECT B.REPORT_KEY, " + AGE_BUCKET + " AS AGE_IN_DAYS, SUM(B.NUMBER_OF_TASKS) AS NUMBER_OF_TASKS FROM ("
+          + "<if test=\"_databaseId == 'db2'\">SELECT ${groupedBy} AS REPORT_KEY, (DAYS(DUE_DAY) - DAYS(#{now})) as AGE_IN_DAYS, ${countColumn} AS NUMBER_OF_TASKS </if> "
+          + "<if test=\"_databaseId == 'h2'\">SELECT ${groupedBy} AS REPORT_KEY, DATEDIFF('DAY', #{now}, DUE_DAY) as AGE_IN_DAYS, ${countColumn} AS NUMBER_OF_TASKS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT ${groupedBy} AS REPORT_KEY, (DUE_DAY - CAST(#{now} AS DATE)) as AGE_IN_DAYS, ${countColumn} AS NUMBER_OF_TASKS </if> "
+          + "FROM TASK_REPORT_AGGREGATE "
+          + "<where>"
+          + "<if test=\"workbasketIds != null\">"
+          + "WORKBASKET_ID IN (<foreach collection='workbasketIds' item='workbasketId' separator=','>#{workbasketId}</foreach>) "
+          + "</if>"
+          + "<if test=\"states != null\">"
+          + "AND STATE IN (<foreach collection='states' item='state' separator=','>#{state}</foreach>) "
+          + "</if>"
+          + "<if test=\"classificationCategories != null\">"
+          + "AND CLASSIFICATION_CATEGORY IN (<foreach collection='classificationCategories' item='category' separator=','>#{category}</foreach>) "
+          + "</if>"
+          + "<if test=\"domains != null\">"
+          + "AND DOMAIN IN (<foreach collection='domains' item='domain' separator=','>#{domain}</foreach>) "
+          + "</if>"
+          + "<if test='classificationIds != null'>"
+          + "AND CLASSIFICATION_ID IN (<foreach collection='classificationIds' item='classificationId' separator=','>#{classificationId}</foreach>) "
+          + "</if>"
+          + "<if test='excludedClassificationIds != null'>"
+          + "AND CLASSIFICATION_ID NOT IN (<foreach collection='excludedClassificationIds' item='excludedClassificationId' separator=','>#{excludedClassificationId}</foreach>) "
+          + "</if>"
+          + "AND DUE_DAY IS NOT NULL "
+          + "</where>"
+          + ") AS B "
+          + "GROUP BY B.REPORT_KEY, " + AGE_BUCKET + " "
+          + "HAVING SUM(B.NUMBER_OF_TASKS) &lt;&gt; 0"
+          + "</script>")
+  @Result(column = "REPORT_KEY", property = "key")
+  @Result(column = "AGE_IN_DAYS", property = "ageInDays")
+  @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  List<MonitorQueryItem> getTaskCountOfAggregates(
+      @Param("now") Instant now,
+      @Param("workbasketIds") List<String> workbasketIds,
+      @Param("states") List<TaskState> states,
+      @Param("classificationCategories") List<String> classificationCategories,
+      @Param("domains") List<String> domains,
+      @Param("classificationIds") List<String> classificationIds,
+      @Param("excludedClassificationIds") List<String> excludedClassificationIds,
+      @Param("groupedBy") String groupedBy,
+      @Param("countColumn") String countColumn,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, " + AGE_BUCKET + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, (DAYS(T.${timestamp}) - DAYS(#{now})) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, DATEDIFF('DAY', #{now}, T.${timestamp}) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, DATE_PART('DAY', T.${timestamp} - #{now}) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT T.CLASSIFICATION_KEY as TASK_CLASSIFICATION_KEY, A.CLASSIFICATION_KEY as ATTACHMENT_CLASSIFICATION_KEY, (CAST(T.${timestamp} AS DATE) - CAST(#{now} AS DATE)) as AGE_IN_DAYS </if> "
           + "FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID "
           + "<where>"
           + "<if test=\"workbasketIds != null\">"
@@ -207,7 +263,7 @@ public interface MonitorMapper {
           + "AND T.${timestamp} IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, B.AGE_IN_DAYS "
+          + "GROUP BY B.TASK_CLASSIFICATION_KEY, B.ATTACHMENT_CLASSIFICATION_KEY, " + AGE_BUCKET + " "
           + "</script>")
   @Result(column = "TASK_CLASSIFICATION_KEY", property = "key")
   @Result(column = "ATTACHMENT_CLASSIFICATION_KEY", property = "attachmentKey")
@@ -222,14 +278,15 @@ public interface MonitorMapper {
       @Param("timestamp") TaskTimestamp timestamp,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
-          + "SELECT B.CUSTOM_FIELD, B.AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
+          + "SELECT B.CUSTOM_FIELD, " + AGE_BUCKET + " AS AGE_IN_DAYS, COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS FROM ("
           + "<if test=\"_databaseId == 'db2'\">SELECT ${customField} as CUSTOM_FIELD, (DAYS(${timestamp}) - DAYS(#{now})) as AGE_IN_DAYS </if> "
           + "<if test=\"_databaseId == 'h2'\">SELECT ${customField} as CUSTOM_FIELD, DATEDIFF('DAY', #{now}, ${timestamp}) as AGE_IN_DAYS </if> "
-          + "<if test=\"_databaseId == 'postgres'\">SELECT ${customField} as CUSTOM_FIELD, DATE_PART('DAY', ${timestamp} - #{now}) as AGE_IN_DAYS </if> "
+          + "<if test=\"_databaseId == 'postgres'\">SELECT ${customField} as CUSTOM_FIELD, (CAST(${timestamp} AS DATE) - CAST(#{now} AS DATE)) as AGE_IN_DAYS </if> "
           + "FROM TASK "
           + "<where>"
           + "<if test=\"workbasketIds != null\">"
@@ -256,7 +313,7 @@ public interface MonitorMapper {
           + "AND ${timestamp} IS NOT NULL "
           + "</where>"
           + ") AS B "
-          + "GROUP BY B.CUSTOM_FIELD, B.AGE_IN_DAYS "
+          + "GROUP BY B.CUSTOM_FIELD, " + AGE_BUCKET + " "
           + "</script>")
   @Result(column = "CUSTOM_FIELD", property = "key")
   @Result(column = "AGE_IN_DAYS", property = "ageInDays")
@@ -271,7 +328,8 @@ public interface MonitorMapper {
       @Param("timestamp") TaskTimestamp timestamp,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
-      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 
   @Select(
       "<script>"
@@ -326,8 +384,8 @@ public interface MonitorMapper {
           + "#{selectedItem.lowerAgeLimit} &lt;= DATEDIFF('DAY', #{now}, ${timestamp}) "
           + "</if> "
           + "<if test=\"_databaseId == 'postgres'\">"
-          + "#{selectedItem.upperAgeLimit} >= DATE_PART('day', ${timestamp} - #{now} ) AND "
-          + "#{selectedItem.lowerAgeLimit} &lt;= DATE_PART('day', ${timestamp} - #{now} ) "
+          + "#{selectedItem.upperAgeLimit} >= (CAST(${timestamp} AS DATE) - CAST(#{now} AS DATE)) AND "
+          + "#{selectedItem.lowerAgeLimit} &lt;= (CAST(${timestamp} AS DATE) - CAST(#{now} AS DATE)) "
           + "</if> "
           + "</foreach>) "
           + "</where>"
@@ -427,8 +485,11 @@ public interface MonitorMapper {
 
   @Select(
       "<script>"
-          + "SELECT A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4, "
-          + "'${status}' AS STATUS, COUNT(A.AGE_IN_DAYS) AS COUNT FROM ("
+          // Each timestamp is counted by its own subselect. They are combined with UNION ALL,
+          // so that the whole report is read with a single statement.
+          + "<foreach collection='statuses' item='status' separator='UNION ALL '>"
+          + "SELECT " + AGE_BUCKET + " AS AGE_IN_DAYS, B.ORG_LEVEL_1, B.ORG_LEVEL_2, B.ORG_LEVEL_3, B.ORG_LEVEL_4, "
+          + "'${status}' AS STATUS, COUNT(B.AGE_IN_DAYS) AS COUNT FROM ("
           // This subquery prevents the repetition of the AGE_IN_DAYS column calculation
           // (like everywhere else in the Mappers...)in the group by clause.
           // DB2 is not able to reuse computed columns in the group by statement. Even if this adds
@@ -438,7 +499,7 @@ public interface MonitorMapper {
           + "SELECT W.ORG_LEVEL_1, W.ORG_LEVEL_2, W.ORG_LEVEL_3, W.ORG_LEVEL_4, "
           + "<if test=\"_databaseId == 'db2'\">(DAYS(T.${status}) - DAYS(#{now}))</if>"
           + "<if test=\"_databaseId == 'h2'\">DATEDIFF('DAY', #{now}, T.${status})</if>"
-          + "<if test=\"_databaseId == 'postgres'\">DATE_PART('DAY', T.${status} - #{now})</if>"
+          + "<if test=\"_databaseId == 'postgres'\">(CAST(T.${status} AS DATE) - CAST(#{now} AS DATE))</if>"
           + " as AGE_IN_DAYS "
           + "FROM TASK AS T INNER JOIN WORKBASKET AS W ON T.WORKBASKET_KEY=W.KEY "
           + "<where>"
@@ -461,8 +522,9 @@ public interface MonitorMapper {
           + "AND (<foreach collection='customAttributeFilter.keys' item='key' separator=' AND '>(T.${key} = '${customAttributeFilter.get(key)}')</foreach>) "
           + "</if>"
           + "</where>"
-          + ") AS A "
-          + "GROUP BY A.AGE_IN_DAYS, A.ORG_LEVEL_1, A.ORG_LEVEL_2, A.ORG_LEVEL_3, A.ORG_LEVEL_4 "
+          + ") AS B "
+          + "GROUP BY " + AGE_BUCKET + ", B.ORG_LEVEL_1, B.ORG_LEVEL_2, B.ORG_LEVEL_3, B.ORG_LEVEL_4 "
+          + "</foreach>"
           + "</script>")
   @Result(column = "STATUS", property = "status")
   @Result(column = "AGE_IN_DAYS", property = "ageInDays")
@@ -471,12 +533,13 @@ public interface MonitorMapper {
   @Result(column = "ORG_LEVEL_2", property = "orgLevel2")
   @Result(column = "ORG_LEVEL_3", property = "orgLevel3")
   @Result(column = "ORG_LEVEL_4", property = "orgLevel4")
-  List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(
+  List<TimestampQueryItem> getTasksCountForStatusesGroupedByOrgLevel(
       @Param("now") Instant now,
-      @Param("status") TaskTimestamp status,
+      @Param("statuses") List<TaskTimestamp> statuses,
       @Param("classificationCategories") List<String> classificationCategories,
       @Param("classificationIds") List<String> classificationIds,
       @Param("excludedClassificationIds") List<String> excludedClassificationIds,
       @Param("domains") List<String> domains,
-      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter);
+      @Param("customAttributeFilter") Map<TaskCustomField, String> customAttributeFilter,
+      @Param("ageBuckets") List<AgeBucket> ageBuckets);
 }
@@ -21,32 +21,36 @@ public class MonitorServiceImpl implements MonitorService {
 
   private final InternalTaskanaEngine taskanaEngine;
   private final MonitorMapper monitorMapper;
+  private final ReportCache reportCache;
 
-  public MonitorServiceImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  public MonitorServiceImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
   }
 
   @Override
   public WorkbasketReport.Builder createWorkbasketReportBuilder() {
-    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public ClassificationCategoryReport.Builder createClassificationCategoryReportBuilder() {
-    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public ClassificationReport.Builder createClassificationReportBuilder() {
-    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public TaskCustomFieldValueReport.Builder createTaskCustomFieldValueReportBuilder(
       TaskCustomField taskCustomField) {
-    return new TaskCustomFieldValueReportBuilderImpl(taskanaEngine, monitorMapper, taskCustomField);
+    return new TaskCustomFieldValueReportBuilderImpl(
+        taskanaEngine, monitorMapper, reportCache, taskCustomField);
   }
 
   @Override
@@ -56,6 +60,6 @@ public class MonitorServiceImpl implements MonitorService {
 
   @Override
   public TimestampReport.Builder createTimestampReportBuilder() {
-    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 }
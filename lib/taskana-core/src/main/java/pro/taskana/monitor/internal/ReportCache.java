@@ -0,0 +1,158 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the query items of the reports. A result is identified by the type of the report, its
+ * filter criteria and the time bucket in which it was read, so all reports which are built within
+ * the same time bucket share the same snapshot of the tasks. An entry is discarded at the end of
+ * its time bucket or as soon as the configured number of tasks has been changed by this TASKANA
+ * instance since it was read.
+ *
+ * <p>The size of the cache is limited by its weight, which is the total number of cached query
+ * items.
+ */
+public class ReportCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportCache.class);
+
+  private final long maxWeight;
+  private final long timeBucketMillis;
+  private final long maxTaskChanges;
+  private final LongSupplier taskChangeCounter;
+  private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private long weight;
+
+  /**
+   * Creates a report cache.
+   *
+   * @param maxWeight the maximum number of cached query items
+   * @param timeToLive the length of the time buckets
+   * @param maxTaskChanges the number of changed tasks after which an entry is discarded
+   * @param taskChangeCounter returns the number of tasks which have been changed so far
+   */
+  public ReportCache(
+      long maxWeight, Duration timeToLive, long maxTaskChanges, LongSupplier taskChangeCounter) {
+    this.maxWeight = maxWeight;
+    this.timeBucketMillis = timeToLive.toMillis();
+    this.maxTaskChanges = maxTaskChanges;
+    this.taskChangeCounter = taskChangeCounter;
+  }
+
+  public boolean isEnabled() {
+    return maxWeight > 0 && timeBucketMillis > 0 && maxTaskChanges > 0;
+  }
+
+  /**
+   * Returns the cached query items of the report or executes the query and caches its result. The
+   * query items are copied, because the reports modify them while they are processed.
+   *
+   * @param filter the type of the report followed by its filter criteria
+   * @param query the query which determines the items of the report
+   * @param copier creates a copy of a query item
+   * @param <T> the type of the query items
+   * @return the query items of the report
+   */
+  public <T> List<T> computeIfAbsent(
+      List<Object> filter, Supplier<List<T>> query, UnaryOperator<T> copier) {
+    if (!isEnabled()) {
+      return query.get();
+    }
+    long timeBucket = System.currentTimeMillis() / timeBucketMillis;
+    List<Object> key = new ArrayList<>(filter);
+    key.add(timeBucket);
+    long taskChanges = taskChangeCounter.getAsLong();
+
+    Entry entry = entries.get(key);
+    if (entry != null && taskChanges - entry.taskChanges < maxTaskChanges) {
+      hitCount.incrementAndGet();
+      LOGGER.debug("Report cache hit for {}", key);
+      @SuppressWarnings("unchecked")
+      List<T> items = (List<T>) entry.items;
+      return copy(items, copier);
+    }
+
+    missCount.incrementAndGet();
+    List<T> items = query.get();
+    put(key, new Entry(copy(items, copier), timeBucket, taskChanges));
+    return items;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public synchronized void invalidateAll() {
+    entries.clear();
+    weight = 0;
+  }
+
+  private synchronized void put(List<Object> key, Entry entry) {
+    if (entry.getWeight() > maxWeight) {
+      return;
+    }
+    if (weight + entry.getWeight() > maxWeight) {
+      evict(entry.timeBucket, entry.taskChanges, entry.getWeight());
+    }
+    Entry previous = entries.put(key, entry);
+    weight += entry.getWeight() - (previous == null ? 0 : previous.getWeight());
+  }
+
+  // removes outdated entries first and then arbitrary entries until the new entry fits
+  private void evict(long timeBucket, long taskChanges, long requiredWeight) {
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      Entry entry = iterator.next();
+      if (entry.timeBucket != timeBucket || taskChanges - entry.taskChanges >= maxTaskChanges) {
+        iterator.remove();
+        weight -= entry.getWeight();
+      }
+    }
+    iterator = entries.values().iterator();
+    while (weight + requiredWeight > maxWeight && iterator.hasNext()) {
+      weight -= iterator.next().getWeight();
+      iterator.remove();
+    }
+  }
+
+  private static <T> List<T> copy(List<T> items, UnaryOperator<T> copier) {
+    List<T> copies = new ArrayList<>(items.size());
+    items.forEach(item -> copies.add(copier.apply(item)));
+    return copies;
+  }
+
+  private static final class Entry {
+
+    private final List<?> items;
+    private final long timeBucket;
+    private final long taskChanges;
+
+    private Entry(List<?> items, long timeBucket, long taskChanges) {
+      this.items = items;
+      this.timeBucket = timeBucket;
+      this.taskChanges = taskChanges;
+    }
+
+    // an empty result still occupies an entry
+    private long getWeight() {
+      return items.size() + 1L;
+    }
+  }
+}
@@ -14,7 +14,9 @@ import pro.taskana.monitor.api.reports.ClassificationCategoryReport;
 import pro.taskana.monitor.api.reports.ClassificationCategoryReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of CategoryReportBuilder. */
@@ -26,8 +28,8 @@ public class ClassificationCategoryReportBuilderImpl
       LoggerFactory.getLogger(ClassificationCategoryReportBuilderImpl.class);
 
   public ClassificationCategoryReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -44,17 +46,29 @@ public class ClassificationCategoryReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       ClassificationCategoryReport report = new ClassificationCategoryReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfCategories(
-              Instant.now(),
-              this.workbasketIds,
-              this.states,
-              this.classificationCategory,
-              this.domains,
+          getCachedQueryItems(
+              ClassificationCategoryReport.class,
               timestamp,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter);
+              ageBuckets,
+              () -> {
+                if (canUseAggregates(timestamp)) {
+                  return getTaskCountOfAggregates("NUMBER_OF_TASKS", ageBuckets);
+                }
+                return this.monitorMapper.getTaskCountOfCategories(
+                    Instant.now(),
+                    this.workbasketIds,
+                    this.states,
+                    this.classificationCategory,
+                    this.domains,
+                    timestamp,
+                    this.classificationIds,
+                    this.excludedClassificationIds,
+                    this.customAttributeFilter,
+                    ageBuckets);
+              },
+              TimeIntervalReportBuilderImpl::copy);
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
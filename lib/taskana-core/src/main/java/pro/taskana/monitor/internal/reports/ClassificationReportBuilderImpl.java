@@ -22,7 +22,9 @@ import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.DetailedMonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.api.reports.row.Row;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of ClassificationReportBuilder. */
@@ -35,8 +37,8 @@ public class ClassificationReportBuilderImpl
   private final ClassificationService classificationService;
 
   public ClassificationReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
     classificationService = taskanaEngine.getEngine().getClassificationService();
   }
 
@@ -54,17 +56,29 @@ public class ClassificationReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       ClassificationReport report = new ClassificationReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfClassifications(
-              Instant.now(),
-              this.workbasketIds,
-              this.states,
-              this.classificationCategory,
-              this.domains,
+          getCachedQueryItems(
+              ClassificationReport.class,
               timestamp,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter);
+              ageBuckets,
+              () -> {
+                if (canUseAggregates(timestamp)) {
+                  return getTaskCountOfAggregates("NUMBER_OF_TASKS", ageBuckets);
+                }
+                return this.monitorMapper.getTaskCountOfClassifications(
+                    Instant.now(),
+                    this.workbasketIds,
+                    this.states,
+                    this.classificationCategory,
+                    this.domains,
+                    timestamp,
+                    this.classificationIds,
+                    this.excludedClassificationIds,
+                    this.customAttributeFilter,
+                    ageBuckets);
+              },
+              TimeIntervalReportBuilderImpl::copy);
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
@@ -104,17 +118,25 @@ public class ClassificationReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       DetailedClassificationReport report = new DetailedClassificationReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<DetailedMonitorQueryItem> detailedMonitorQueryItems =
-          this.monitorMapper.getTaskCountOfDetailedClassifications(
-              Instant.now(),
-              this.workbasketIds,
-              this.states,
-              this.classificationCategory,
-              this.domains,
+          getCachedQueryItems(
+              DetailedClassificationReport.class,
               timestamp,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter);
+              ageBuckets,
+              () ->
+                  this.monitorMapper.getTaskCountOfDetailedClassifications(
+                      Instant.now(),
+                      this.workbasketIds,
+                      this.states,
+                      this.classificationCategory,
+                      this.domains,
+                      timestamp,
+                      this.classificationIds,
+                      this.excludedClassificationIds,
+                      this.customAttributeFilter,
+                      ageBuckets),
+              ClassificationReportBuilderImpl::copyDetailed);
 
       report.addItems(
           detailedMonitorQueryItems,
@@ -145,6 +167,15 @@ public class ClassificationReportBuilderImpl
     }
   }
 
+  private static DetailedMonitorQueryItem copyDetailed(DetailedMonitorQueryItem item) {
+    DetailedMonitorQueryItem copy = new DetailedMonitorQueryItem();
+    copy.setKey(item.getKey());
+    copy.setAttachmentKey(item.getAttachmentKey());
+    copy.setAgeInDays(item.getAgeInDays());
+    copy.setNumberOfTasks(item.getValue());
+    return copy;
+  }
+
   @Override
   protected ClassificationReport.Builder _this() {
     return this;
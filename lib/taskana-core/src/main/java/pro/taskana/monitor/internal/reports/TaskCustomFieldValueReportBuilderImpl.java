@@ -14,7 +14,9 @@ import pro.taskana.monitor.api.reports.TaskCustomFieldValueReport;
 import pro.taskana.monitor.api.reports.TaskCustomFieldValueReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.task.api.TaskCustomField;
 
@@ -31,8 +33,9 @@ public class TaskCustomFieldValueReportBuilderImpl
   public TaskCustomFieldValueReportBuilderImpl(
       InternalTaskanaEngine taskanaEngine,
       MonitorMapper monitorMapper,
+      ReportCache reportCache,
       TaskCustomField taskCustomField) {
-    super(taskanaEngine, monitorMapper);
+    super(taskanaEngine, monitorMapper, reportCache);
     this.taskCustomField = taskCustomField;
   }
 
@@ -50,18 +53,26 @@ public class TaskCustomFieldValueReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       TaskCustomFieldValueReport report = new TaskCustomFieldValueReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfTaskCustomFieldValues(
-              Instant.now(),
-              this.taskCustomField,
-              this.workbasketIds,
-              this.states,
-              this.classificationCategory,
-              this.domains,
+          getCachedQueryItems(
+              TaskCustomFieldValueReport.class,
               timestamp,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter);
+              ageBuckets,
+              () ->
+                  this.monitorMapper.getTaskCountOfTaskCustomFieldValues(
+                      Instant.now(),
+                      this.taskCustomField,
+                      this.workbasketIds,
+                      this.states,
+                      this.classificationCategory,
+                      this.domains,
+                      timestamp,
+                      this.classificationIds,
+                      this.excludedClassificationIds,
+                      this.customAttributeFilter,
+                      ageBuckets),
+              TimeIntervalReportBuilderImpl::copy);
 
       report.addItems(
           monitorQueryItems,
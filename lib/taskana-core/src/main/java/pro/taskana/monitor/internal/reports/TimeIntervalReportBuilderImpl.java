@@ -2,10 +2,15 @@ package pro.taskana.monitor.internal.reports;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +27,10 @@ import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.AgeQueryItem;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.WorkingDaysToDaysReportConverter;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskState;
@@ -44,6 +52,7 @@ abstract class TimeIntervalReportBuilderImpl<
 
   protected InternalTaskanaEngine taskanaEngine;
   protected MonitorMapper monitorMapper;
+  protected ReportCache reportCache;
   protected List<H> columnHeaders;
   protected boolean inWorkingDays;
   protected List<String> workbasketIds;
@@ -55,9 +64,11 @@ abstract class TimeIntervalReportBuilderImpl<
   protected Map<TaskCustomField, String> customAttributeFilter;
   protected WorkingDaysToDaysConverter converter;
 
-  TimeIntervalReportBuilderImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  TimeIntervalReportBuilderImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
     this.columnHeaders = Collections.emptyList();
     converter = taskanaEngine.getEngine().getWorkingDaysToDaysConverter();
   }
@@ -197,6 +208,106 @@ abstract class TimeIntervalReportBuilderImpl<
 
   protected abstract String determineGroupedBy();
 
+  /**
+   * Determines whether the report can be answered from the report aggregates instead of scanning
+   * all tasks. The aggregates only know the due day of the tasks and neither their custom
+   * attributes nor their attachments.
+   *
+   * @param timestamp the timestamp the ages of the tasks are based on
+   * @return true if the report aggregates are enabled and sufficient for this report
+   */
+  protected boolean canUseAggregates(TaskTimestamp timestamp) {
+    return timestamp == TaskTimestamp.DUE
+        && customAttributeFilter == null
+        && getCombinedClassificationFilter() == null
+        && taskanaEngine.getReportAggregateStore().isEnabled();
+  }
+
+  protected List<MonitorQueryItem> getTaskCountOfAggregates(
+      String countColumn, List<AgeBucket> ageBuckets) {
+    return monitorMapper.getTaskCountOfAggregates(
+        Instant.now(),
+        this.workbasketIds,
+        this.states,
+        this.classificationCategory,
+        this.domains,
+        this.classificationIds,
+        this.excludedClassificationIds,
+        determineGroupedBy(),
+        countColumn,
+        ageBuckets);
+  }
+
+  /**
+   * Divides the ages of the tasks into buckets whose ages fit the same column headers, so the
+   * database only returns one row per key and bucket. If the report is in working days, the
+   * buckets are determined with the same conversion which is applied to the query items.
+   *
+   * @return the age buckets of this report
+   * @throws InvalidArgumentException if the column headers are null
+   */
+  protected List<AgeBucket> determineAgeBuckets() throws InvalidArgumentException {
+    IntUnaryOperator toReportAge = IntUnaryOperator.identity();
+    if (this.inWorkingDays) {
+      toReportAge =
+          WorkingDaysToDaysReportConverter.initialize(this.columnHeaders, converter)
+              ::convertDaysToWorkingDays;
+    }
+    return AgeBucket.partition(this.columnHeaders, toReportAge);
+  }
+
+  /**
+   * Returns the query items of the report from the report cache. The query is only executed if
+   * the cache holds no valid result for the filter criteria and the age buckets of this builder.
+   *
+   * @param reportType the type of the report
+   * @param timestamp the timestamp the ages of the tasks are based on
+   * @param ageBuckets the age buckets which are passed to the query
+   * @param query the query which determines the items of the report
+   * @param copier creates a copy of a query item
+   * @param <T> the type of the query items
+   * @return the query items of the report
+   */
+  protected <T> List<T> getCachedQueryItems(
+      Class<?> reportType,
+      TaskTimestamp timestamp,
+      List<AgeBucket> ageBuckets,
+      Supplier<List<T>> query,
+      UnaryOperator<T> copier) {
+    List<CombinedClassificationFilter> combinedClassificationFilter =
+        getCombinedClassificationFilter();
+    List<Object> filter =
+        Arrays.asList(
+            reportType.getName(),
+            determineGroupedBy(),
+            timestamp,
+            normalize(this.workbasketIds),
+            normalize(this.states),
+            normalize(this.classificationCategory),
+            normalize(this.domains),
+            normalize(this.classificationIds),
+            normalize(this.excludedClassificationIds),
+            this.customAttributeFilter,
+            combinedClassificationFilter == null
+                ? null
+                : combinedClassificationFilter.stream()
+                    .map(
+                        f ->
+                            Arrays.asList(
+                                f.getTaskClassificationId(), f.getAttachmentClassificationId()))
+                    .collect(Collectors.toSet()),
+            ageBuckets);
+    return reportCache.computeIfAbsent(filter, query, copier);
+  }
+
+  protected static MonitorQueryItem copy(MonitorQueryItem item) {
+    MonitorQueryItem copy = new MonitorQueryItem();
+    copy.setKey(item.getKey());
+    copy.setAgeInDays(item.getAgeInDays());
+    copy.setNumberOfTasks(item.getValue());
+    return copy;
+  }
+
   protected List<CombinedClassificationFilter> getCombinedClassificationFilter() {
     // we are currently aware that this is a code smell. Unfortunately the resolution of this would
     // cause havoc in our queries, since we do not have a concept for a user input validation yet.
@@ -219,6 +330,11 @@ abstract class TimeIntervalReportBuilderImpl<
         .collect(Collectors.toList());
   }
 
+  // the order and duplicates of the filter values do not change the result of the query
+  private static <T> Object normalize(List<T> values) {
+    return values == null ? null : new HashSet<>(values);
+  }
+
   private boolean subKeyIsSet(List<SelectedItem> selectedItems) {
     for (SelectedItem selectedItem : selectedItems) {
       if (selectedItem.getSubKey() != null && !selectedItem.getSubKey().isEmpty()) {
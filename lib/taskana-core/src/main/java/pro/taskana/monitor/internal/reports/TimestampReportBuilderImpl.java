@@ -3,9 +3,8 @@ package pro.taskana.monitor.internal.reports;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,7 +19,9 @@ import pro.taskana.monitor.api.reports.TimestampReport;
 import pro.taskana.monitor.api.reports.TimestampReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.TimestampQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.task.api.TaskState;
 
@@ -34,8 +35,8 @@ public class TimestampReportBuilderImpl
       Arrays.asList(TaskTimestamp.CREATED, TaskTimestamp.COMPLETED);
 
   public TimestampReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -69,14 +70,19 @@ public class TimestampReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       TimestampReport report = new TimestampReport(columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<TimestampQueryItem> items =
-          status.stream()
-              // This can also be implemented into a single sql query which combines all statuses
-              // with the union operator. That would reduce the readability of the sql template.
-              // That's why "the loop" is done outside of mybatis.
-              .map(this::getTasksCountForStatusGroupedByOrgLevel)
-              .flatMap(Collection::stream)
-              .collect(Collectors.toList());
+          status.isEmpty()
+              ? Collections.emptyList()
+              : monitorMapper.getTasksCountForStatusesGroupedByOrgLevel(
+                  Instant.now(),
+                  status,
+                  classificationCategory,
+                  classificationIds,
+                  excludedClassificationIds,
+                  domains,
+                  customAttributeFilter,
+                  ageBuckets);
 
       report.addItems(
           items,
@@ -97,15 +103,4 @@ public class TimestampReportBuilderImpl
   protected String determineGroupedBy() {
     throw new UnsupportedOperationException();
   }
-
-  private List<TimestampQueryItem> getTasksCountForStatusGroupedByOrgLevel(TaskTimestamp s) {
-    return monitorMapper.getTasksCountForStatusGroupedByOrgLevel(
-        Instant.now(),
-        s,
-        classificationCategory,
-        classificationIds,
-        excludedClassificationIds,
-        domains,
-        customAttributeFilter);
-  }
 }
@@ -17,7 +17,9 @@ import pro.taskana.monitor.api.reports.WorkbasketReport;
 import pro.taskana.monitor.api.reports.WorkbasketReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+import pro.taskana.monitor.internal.AgeBucket;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
@@ -32,8 +34,8 @@ public class WorkbasketReportBuilderImpl
   private List<CombinedClassificationFilter> combinedClassificationFilter;
 
   public WorkbasketReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
     workbasketService = taskanaEngine.getEngine().getWorkbasketService();
   }
 
@@ -50,18 +52,30 @@ public class WorkbasketReportBuilderImpl
     try {
       this.taskanaEngine.openConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
+      List<AgeBucket> ageBuckets = determineAgeBuckets();
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfWorkbaskets(
-              Instant.now(),
-              this.workbasketIds,
-              this.states,
-              this.classificationCategory,
-              this.domains,
+          getCachedQueryItems(
+              WorkbasketReport.class,
               timestamp,
-              this.classificationIds,
-              this.excludedClassificationIds,
-              this.customAttributeFilter,
-              this.combinedClassificationFilter);
+              ageBuckets,
+              () -> {
+                if (canUseAggregates(timestamp)) {
+                  return getTaskCountOfAggregates("NUMBER_OF_JOINED_ROWS", ageBuckets);
+                }
+                return this.monitorMapper.getTaskCountOfWorkbaskets(
+                    Instant.now(),
+                    this.workbasketIds,
+                    this.states,
+                    this.classificationCategory,
+                    this.domains,
+                    timestamp,
+                    this.classificationIds,
+                    this.excludedClassificationIds,
+                    this.customAttributeFilter,
+                    this.combinedClassificationFilter,
+                    ageBuckets);
+              },
+              TimeIntervalReportBuilderImpl::copy);
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
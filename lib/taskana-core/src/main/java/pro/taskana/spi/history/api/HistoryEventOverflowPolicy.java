@@ -0,0 +1,16 @@
+package pro.taskana.spi.history.api;
+
+/**
+ * Defines how history events are handled when they are created asynchronously and the buffer of
+ * pending events is full. The buffer is kept in memory, events which are buffered when the JVM
+ * crashes are lost with either policy.
+ */
+public enum HistoryEventOverflowPolicy {
+  /**
+   * The creating thread waits until there is space in the buffer. If the buffer stays full for ten
+   * seconds, the thread writes the event itself.
+   */
+  BLOCK,
+  /** The event is dropped and counted. The creating thread never waits for the history. */
+  DROP
+}
@@ -40,6 +40,36 @@ public interface TaskanaHistory {
    */
   void create(ClassificationHistoryEvent event);
 
+  /**
+   * Create a batch of new task history events. Providers which can insert several events at once
+   * should override this method.
+   *
+   * @param events the events to be created
+   */
+  default void createTaskHistoryEvents(List<TaskHistoryEvent> events) {
+    events.forEach(this::create);
+  }
+
+  /**
+   * Create a batch of new workbasket history events. Providers which can insert several events at
+   * once should override this method.
+   *
+   * @param events the events to be created
+   */
+  default void createWorkbasketHistoryEvents(List<WorkbasketHistoryEvent> events) {
+    events.forEach(this::create);
+  }
+
+  /**
+   * Create a batch of new classification history events. Providers which can insert several
+   * events at once should override this method.
+   *
+   * @param events the events to be created
+   */
+  default void createClassificationHistoryEvents(List<ClassificationHistoryEvent> events) {
+    events.forEach(this::create);
+  }
+
   /**
    * Delete history events by taskIds. Invalid/non-existing taskIds will be ignored
    *
@@ -1,39 +1,71 @@
 package pro.taskana.spi.history.internal;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.spi.history.api.TaskanaHistory;
 import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
 
-/** Creates and deletes events and emits them to the registered history service providers. */
+/**
+ * Creates and deletes events and emits them to the registered history service providers. If the
+ * events are created asynchronously, they are buffered only after the transaction which created
+ * them has been committed, so events of a rolled back transaction are never written. As long as
+ * the commit of the transaction can't be observed (mode EXPLICIT, or mode PARTICIPATE without a
+ * surrounding Spring transaction), the events are created synchronously within the transaction.
+ */
 public final class HistoryEventManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventManager.class);
+  private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
   private static HistoryEventManager singleton;
-  private final ServiceLoader<TaskanaHistory> serviceLoader;
+  private final List<TaskanaHistory> historyProviders = new ArrayList<>();
+  private final InternalTaskanaEngine taskanaEngine;
+  private final HistoryEventWriter eventWriter;
   private boolean enabled = false;
 
-  private HistoryEventManager(TaskanaEngine taskanaEngine) {
-    serviceLoader = ServiceLoader.load(TaskanaHistory.class);
-    for (TaskanaHistory history : serviceLoader) {
-      history.initialize(taskanaEngine);
+  private HistoryEventManager(InternalTaskanaEngine taskanaEngine) {
+    this.taskanaEngine = taskanaEngine;
+    for (TaskanaHistory history : ServiceLoader.load(TaskanaHistory.class)) {
+      history.initialize(taskanaEngine.getEngine());
+      historyProviders.add(history);
       LOGGER.info("Registered history provider: {}", history.getClass().getName());
       enabled = true;
     }
     if (!enabled) {
       LOGGER.info("No history provider found. Running without history.");
     }
+    TaskanaEngineConfiguration configuration = taskanaEngine.getEngine().getConfiguration();
+    if (enabled && configuration.isHistoryAsyncEnabled()) {
+      eventWriter =
+          new HistoryEventWriter(
+              historyProviders,
+              configuration.getHistoryAsyncQueueCapacity(),
+              configuration.getHistoryAsyncBatchSize(),
+              configuration.getHistoryAsyncOverflowPolicy());
+      eventWriter.start();
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(() -> eventWriter.shutdown(FLUSH_TIMEOUT)));
+      LOGGER.info(
+          "History events are created asynchronously with overflow policy {}",
+          configuration.getHistoryAsyncOverflowPolicy());
+    } else {
+      eventWriter = null;
+    }
   }
 
-  public static synchronized HistoryEventManager getInstance(TaskanaEngine taskanaEngine) {
+  public static synchronized HistoryEventManager getInstance(
+      InternalTaskanaEngine taskanaEngine) {
     if (singleton == null) {
       singleton = new HistoryEventManager(taskanaEngine);
     }
@@ -44,9 +76,22 @@ public final class HistoryEventManager {
     return Objects.nonNull(singleton) && singleton.enabled;
   }
 
+  /**
+   * Returns the metrics of the asynchronous creation of history events.
+   *
+   * @return the metrics or an empty Optional if history events are created synchronously
+   */
+  public Optional<HistoryEventWriterMetrics> getAsyncMetrics() {
+    return Optional.ofNullable(eventWriter).map(HistoryEventWriter::getMetrics);
+  }
+
   public void createEvent(TaskHistoryEvent event) {
     LOGGER.debug("Sending event to history service providers: {}", event);
-    serviceLoader.forEach(
+    if (isAsync()) {
+      taskanaEngine.runAfterCommit(() -> eventWriter.submit(event));
+      return;
+    }
+    historyProviders.forEach(
         historyProvider -> {
           try {
             historyProvider.create(event);
@@ -63,7 +108,11 @@ public final class HistoryEventManager {
 
   public void createEvent(WorkbasketHistoryEvent event) {
     LOGGER.debug("Sending event to history service providers: {}", event);
-    serviceLoader.forEach(
+    if (isAsync()) {
+      taskanaEngine.runAfterCommit(() -> eventWriter.submit(event));
+      return;
+    }
+    historyProviders.forEach(
         historyProvider -> {
           try {
             historyProvider.create(event);
@@ -80,7 +129,11 @@ public final class HistoryEventManager {
 
   public void createEvent(ClassificationHistoryEvent event) {
     LOGGER.debug("Sending event to history service providers: {}", event);
-    serviceLoader.forEach(
+    if (isAsync()) {
+      taskanaEngine.runAfterCommit(() -> eventWriter.submit(event));
+      return;
+    }
+    historyProviders.forEach(
         historyProvider -> {
           try {
             historyProvider.create(event);
@@ -96,9 +149,44 @@ public final class HistoryEventManager {
         });
   }
 
+  /**
+   * Sends several task events at once, so that the history service providers can insert them in a
+   * batch.
+   *
+   * @param events the events to be created
+   */
+  public void createEvents(List<TaskHistoryEvent> events) {
+    LOGGER.debug("Sending {} events to history service providers", events.size());
+    if (isAsync()) {
+      taskanaEngine.runAfterCommit(() -> events.forEach(eventWriter::submit));
+      return;
+    }
+    historyProviders.forEach(
+        historyProvider -> {
+          try {
+            historyProvider.createTaskHistoryEvents(events);
+          } catch (Exception e) {
+            LOGGER.error(
+                String.format(
+                    "Caught an exception while trying to create TaskHistoryEvents in class %s",
+                    historyProvider.getClass().getName()),
+                e);
+            throw new SystemException(e.getMessage(), e.getCause());
+          }
+        });
+  }
+
+  private boolean isAsync() {
+    return eventWriter != null && taskanaEngine.canRunAfterCommit();
+  }
+
   public void deleteEvents(List<String> taskIds) {
     LOGGER.debug("Sending taskIds to history service providers: {}", taskIds);
-    serviceLoader.forEach(
+    // buffered events of the tasks must not be written after their deletion
+    if (eventWriter != null && !eventWriter.flush(FLUSH_TIMEOUT)) {
+      LOGGER.warn("Buffered history events were not written before deleting events.");
+    }
+    historyProviders.forEach(
         historyProvider -> {
           try {
             historyProvider.deleteHistoryEventsByTaskIds(taskIds);
@@ -0,0 +1,242 @@
+package pro.taskana.spi.history.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.spi.history.api.HistoryEventOverflowPolicy;
+import pro.taskana.spi.history.api.TaskanaHistory;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+
+/**
+ * Buffers history events in a bounded queue and hands them to the history service providers in
+ * batches on a background thread. Thus the creating thread neither waits for the history
+ * database nor holds its transaction open while the events are written.
+ */
+public class HistoryEventWriter {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventWriter.class);
+  private static final long POLL_INTERVAL_MILLIS = 100;
+  private static final long BLOCK_TIMEOUT_MILLIS = 10000;
+
+  private final List<TaskanaHistory> historyProviders;
+  private final BlockingQueue<Object> queue;
+  private final int batchSize;
+  private final HistoryEventOverflowPolicy overflowPolicy;
+  private final HistoryEventWriterMetrics metrics;
+  private final Thread writerThread;
+  private final Object processedMonitor = new Object();
+  private volatile boolean running = true;
+
+  public HistoryEventWriter(
+      List<TaskanaHistory> historyProviders,
+      int queueCapacity,
+      int batchSize,
+      HistoryEventOverflowPolicy overflowPolicy) {
+    this.historyProviders = historyProviders;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+    this.metrics = new HistoryEventWriterMetrics(queue);
+    this.writerThread = new Thread(this::run, "taskana-history-event-writer");
+    writerThread.setDaemon(true);
+  }
+
+  public void start() {
+    writerThread.start();
+  }
+
+  public HistoryEventWriterMetrics getMetrics() {
+    return metrics;
+  }
+
+  public void submit(TaskHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    submitEvent(event);
+  }
+
+  public void submit(WorkbasketHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    submitEvent(event);
+  }
+
+  public void submit(ClassificationHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    submitEvent(event);
+  }
+
+  /**
+   * Waits until all events which were accepted before this call have been handed to the history
+   * service providers.
+   *
+   * @param timeout the maximum time to wait
+   * @return true if all events were processed, false if the timeout elapsed before
+   */
+  public boolean flush(Duration timeout) {
+    long target = metrics.getAcceptedEvents();
+    long deadline = System.nanoTime() + timeout.toNanos();
+    synchronized (processedMonitor) {
+      while (metrics.getProcessedEvents() < target) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          return false;
+        }
+        try {
+          processedMonitor.wait(remainingMillis);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Stops accepting events into the buffer and writes the events which are still buffered.
+   * Events which are created afterwards are handed to the providers synchronously.
+   *
+   * @param timeout the maximum time to wait for the buffered events to be written
+   */
+  public void shutdown(Duration timeout) {
+    running = false;
+    try {
+      writerThread.join(timeout.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!queue.isEmpty()) {
+      LOGGER.warn("{} history events were not written before shutdown.", queue.size());
+    }
+  }
+
+  private void submitEvent(Object event) {
+    if (!running) {
+      write(Collections.singletonList(event));
+      return;
+    }
+    if (!queue.offer(event)) {
+      if (overflowPolicy == HistoryEventOverflowPolicy.DROP) {
+        metrics.recordDropped();
+        LOGGER.warn("Dropped history event because the buffer is full: {}", event);
+        return;
+      }
+      long start = System.nanoTime();
+      boolean buffered;
+      try {
+        buffered = queue.offer(event, BLOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SystemException("Interrupted while waiting to buffer a history event.", e);
+      }
+      metrics.recordBlocked(System.nanoTime() - start);
+      if (!buffered) {
+        LOGGER.warn("Writing history event synchronously because the buffer stays full: {}", event);
+        write(Collections.singletonList(event));
+        return;
+      }
+    }
+    metrics.recordAccepted();
+    // the writer thread may have exited meanwhile and would never take the event
+    if (!running && queue.remove(event)) {
+      write(Collections.singletonList(event));
+    }
+  }
+
+  private void run() {
+    try {
+      writeBufferedEvents();
+    } finally {
+      // events submitted after the writer thread exited are written synchronously
+      running = false;
+    }
+  }
+
+  private void writeBufferedEvents() {
+    List<Object> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        Object first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, batchSize - 1);
+          write(batch);
+          metrics.recordBatch();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.warn(
+            "History event writer was interrupted. {} buffered history events are not written.",
+            queue.size(),
+            e);
+        return;
+      } catch (Exception e) {
+        LOGGER.error("Caught an exception while writing a batch of history events", e);
+      } finally {
+        batch.clear();
+        synchronized (processedMonitor) {
+          processedMonitor.notifyAll();
+        }
+      }
+    }
+  }
+
+  private void write(List<Object> batch) {
+    List<TaskHistoryEvent> taskEvents = new ArrayList<>();
+    List<WorkbasketHistoryEvent> workbasketEvents = new ArrayList<>();
+    List<ClassificationHistoryEvent> classificationEvents = new ArrayList<>();
+    for (Object event : batch) {
+      if (event instanceof TaskHistoryEvent) {
+        taskEvents.add((TaskHistoryEvent) event);
+      } else if (event instanceof WorkbasketHistoryEvent) {
+        workbasketEvents.add((WorkbasketHistoryEvent) event);
+      } else {
+        classificationEvents.add((ClassificationHistoryEvent) event);
+      }
+    }
+    write(taskEvents, TaskanaHistory::createTaskHistoryEvents);
+    write(workbasketEvents, TaskanaHistory::createWorkbasketHistoryEvents);
+    write(classificationEvents, TaskanaHistory::createClassificationHistoryEvents);
+  }
+
+  private <T> void write(List<T> events, BiConsumer<TaskanaHistory, List<T>> createEvents) {
+    if (events.isEmpty()) {
+      return;
+    }
+    boolean failed = false;
+    for (TaskanaHistory historyProvider : historyProviders) {
+      try {
+        createEvents.accept(historyProvider, events);
+      } catch (Exception e) {
+        failed = true;
+        LOGGER.error(
+            String.format(
+                "Caught an exception while trying to create %d history events in class %s",
+                events.size(), historyProvider.getClass().getName()),
+            e);
+      }
+    }
+    if (failed) {
+      metrics.recordFailed(events.size());
+    } else {
+      metrics.recordWritten(events.size());
+    }
+  }
+}
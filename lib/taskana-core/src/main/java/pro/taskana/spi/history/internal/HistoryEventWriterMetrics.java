@@ -0,0 +1,125 @@
+package pro.taskana.spi.history.internal;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Collects the metrics of the history events created by a {@link HistoryEventWriter}. */
+public class HistoryEventWriterMetrics {
+
+  private final Collection<?> queue;
+  private final AtomicLong acceptedEvents = new AtomicLong();
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final AtomicLong blockedSubmissions = new AtomicLong();
+  private final AtomicLong blockedNanos = new AtomicLong();
+  private final AtomicLong writtenEvents = new AtomicLong();
+  private final AtomicLong failedEvents = new AtomicLong();
+  private final AtomicLong batches = new AtomicLong();
+
+  HistoryEventWriterMetrics(Collection<?> queue) {
+    this.queue = queue;
+  }
+
+  /**
+   * Returns the number of events which are buffered and not yet written.
+   *
+   * @return the queue depth
+   */
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  public long getAcceptedEvents() {
+    return acceptedEvents.get();
+  }
+
+  /**
+   * Returns the number of events which were discarded because the buffer was full. Events are
+   * only dropped with {@link pro.taskana.spi.history.api.HistoryEventOverflowPolicy#DROP}.
+   *
+   * @return the number of dropped events
+   */
+  public long getDroppedEvents() {
+    return droppedEvents.get();
+  }
+
+  /**
+   * Returns how often a thread had to wait because the buffer was full.
+   *
+   * @return the number of blocked submissions
+   */
+  public long getBlockedSubmissions() {
+    return blockedSubmissions.get();
+  }
+
+  public Duration getBlockedTime() {
+    return Duration.ofNanos(blockedNanos.get());
+  }
+
+  public long getWrittenEvents() {
+    return writtenEvents.get();
+  }
+
+  public long getFailedEvents() {
+    return failedEvents.get();
+  }
+
+  public long getBatches() {
+    return batches.get();
+  }
+
+  public double getAverageBatchSize() {
+    long count = batches.get();
+    return count == 0 ? 0 : (writtenEvents.get() + failedEvents.get()) / (double) count;
+  }
+
+  void recordAccepted() {
+    acceptedEvents.incrementAndGet();
+  }
+
+  void recordDropped() {
+    droppedEvents.incrementAndGet();
+  }
+
+  void recordBlocked(long nanos) {
+    blockedSubmissions.incrementAndGet();
+    blockedNanos.addAndGet(nanos);
+  }
+
+  void recordWritten(int count) {
+    writtenEvents.addAndGet(count);
+  }
+
+  void recordFailed(int count) {
+    failedEvents.addAndGet(count);
+  }
+
+  void recordBatch() {
+    batches.incrementAndGet();
+  }
+
+  long getProcessedEvents() {
+    return writtenEvents.get() + failedEvents.get();
+  }
+
+  @Override
+  public String toString() {
+    return "HistoryEventWriterMetrics [queueDepth="
+        + getQueueDepth()
+        + ", acceptedEvents="
+        + acceptedEvents
+        + ", droppedEvents="
+        + droppedEvents
+        + ", blockedSubmissions="
+        + blockedSubmissions
+        + ", blockedTime="
+        + getBlockedTime()
+        + ", writtenEvents="
+        + writtenEvents
+        + ", failedEvents="
+        + failedEvents
+        + ", batches="
+        + batches
+        + "]";
+  }
+}
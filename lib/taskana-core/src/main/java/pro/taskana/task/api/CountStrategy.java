@@ -0,0 +1,17 @@
+package pro.taskana.task.api;
+
+/** This enum contains the strategies for counting the results of a {@link TaskQuery}. */
+public enum CountStrategy {
+  /** The results are counted by the database on every call. */
+  EXACT,
+  /**
+   * The count of an equal query with the same access ids is reused for the configured time to
+   * live. Changes made in the meantime are not reflected.
+   */
+  CACHED,
+  /**
+   * The count is estimated from the statistics of the query planner. This is only supported by
+   * PostgreSQL; other databases fall back to {@link #CACHED}.
+   */
+  ESTIMATED
+}
@@ -1,5 +1,7 @@
 package pro.taskana.task.api;
 
+import java.util.stream.Stream;
+
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TimeInterval;
@@ -916,4 +918,69 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    * @return the query
    */
   TaskQuery orderByAttachmentReceived(SortDirection sortDirection);
+
+  /**
+   * Restricts the query result to the tasks which follow the given task in the sort order of this
+   * query (keyset pagination). In order to read the next page, pass the last task of the previous
+   * page and call {@link #list(int, int) list(0, pageSize)}. Contrary to an offset, the database
+   * does not have to read and discard all preceding rows, so every page costs the same.
+   *
+   * <p>The task id is added as last sort criterion if it is not part of the sort order yet. The
+   * query for the first page must therefore be sorted by {@link #orderByTaskId(SortDirection)}
+   * after all other criteria. Only attributes of the task itself can be used as sort criteria; an
+   * IllegalArgumentException is thrown when the query is sorted by the name of the classification,
+   * the name of the workbasket or attributes of the attachments.
+   *
+   * @param previousTask the last task of the previous page
+   * @return the query
+   */
+  TaskQuery seekAfter(TaskSummary previousTask);
+
+  /**
+   * Restricts the columns which are read from the database to the given ones (projection). The
+   * task id is always read. The TaskSummaries returned by {@link #list()}, {@link #list(int, int)},
+   * {@link #single()} and {@link #stream()} only contain the values of the selected columns; their
+   * attachment summaries as well as the details of their classification and workbasket are not
+   * loaded. This is considerably cheaper than a regular query if only a few attributes of many
+   * tasks are needed, e.g. their ids.
+   *
+   * <p>Only columns of the task itself can be selected and only attributes of the task itself can
+   * be used as sort criteria. Otherwise an IllegalArgumentException is thrown.
+   *
+   * @param columns the columns which are read
+   * @return the query
+   */
+  TaskQuery select(TaskQueryColumnName... columns);
+
+  /**
+   * This method counts the results of the query with the given strategy. Paging UIs rarely need
+   * exact totals, whereas an exact count is as expensive as reading all results for large tables.
+   * {@link CountStrategy#CACHED} reuses the count of an equal query with the same access ids for
+   * {@link pro.taskana.TaskanaEngineConfiguration#getQueryCountCacheTimeToLive()
+   * queryCountCacheTimeToLive}. {@link CountStrategy#ESTIMATED} asks the query planner of
+   * PostgreSQL for the expected number of rows.
+   *
+   * @param countStrategy the strategy to count the results, null is treated as {@link
+   *     CountStrategy#EXACT}
+   * @return the (approximate) count of the query results
+   */
+  long count(CountStrategy countStrategy);
+
+  /**
+   * This method streams the results of the current query instead of loading them into a list. The
+   * rows are read from a database cursor and augmented in windows of {@link
+   * pro.taskana.TaskanaEngineConfiguration#getQueryStreamWindowSize() queryStreamWindowSize}
+   * elements, so that only the current window is kept in memory. Some JDBC drivers (e.g.
+   * PostgreSQL) additionally require {@link
+   * pro.taskana.TaskanaEngineConfiguration#getQueryFetchSize() queryFetchSize} to be set in order
+   * to read the result set in chunks.
+   *
+   * <p>The database connection is held until the stream is closed. Therefore the returned stream
+   * must be consumed on the calling thread and has to be closed, e.g. with a try-with-resources
+   * statement. In case of a TaskQuery, this method can throw a
+   * NotAuthorizedToQueryWorkbasketException.
+   *
+   * @return a stream of all TaskSummaries matching the query
+   */
+  Stream<TaskSummary> stream();
 }
@@ -118,6 +118,56 @@ public interface TaskService {
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException;
 
+  /**
+   * Claim an existing task for the current user like {@link #claim(String)} or {@link
+   * #forceClaim(String)}, but without loading the claimed task. The state of the task is changed
+   * with a single update.
+   *
+   * @param taskId the id of the task to be claimed
+   * @param force true if the task should be claimed even if it is claimed by someone else
+   * @throws TaskNotFoundException if the task with taskId was not found
+   * @throws InvalidStateException if the task with taskId is already in an end state
+   * @throws InvalidOwnerException if force is false and the task is claimed by someone else
+   * @throws NotAuthorizedException if the current user has no read permission for the workbasket
+   *     the task is in
+   */
+  void claimWithoutResult(String taskId, boolean force)
+      throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
+          NotAuthorizedException;
+
+  /**
+   * Cancel the claim of an existing task like {@link #cancelClaim(String)} or {@link
+   * #forceCancelClaim(String)}, but without loading the unclaimed task. The state of the task is
+   * changed with a single update.
+   *
+   * @param taskId id of the task which should be unclaimed
+   * @param force true if the claim should be cancelled even if the task is claimed by another user
+   * @throws TaskNotFoundException if the task can´t be found or does not exist
+   * @throws InvalidStateException if the task is already in an end state
+   * @throws InvalidOwnerException if force is false and the task is claimed by another user
+   * @throws NotAuthorizedException if the current user has no read permission for the workbasket
+   *     the task is in
+   */
+  void cancelClaimWithoutResult(String taskId, boolean force)
+      throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
+          NotAuthorizedException;
+
+  /**
+   * Complete a task like {@link #completeTask(String)} or {@link #forceCompleteTask(String)}, but
+   * without loading the completed task. The state of the task is changed with a single update.
+   *
+   * @param taskId id of the task which should be completed
+   * @param force true if the task should be completed even if it is not claimed by the current user
+   * @throws InvalidStateException if force is false and the task wasn´t claimed before
+   * @throws TaskNotFoundException if the given task can´t be found in DB
+   * @throws InvalidOwnerException if current user is not the task-owner or administrator
+   * @throws NotAuthorizedException if the current user has no read permission for the workbasket
+   *     the task is in
+   */
+  void completeTaskWithoutResult(String taskId, boolean force)
+      throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
+          NotAuthorizedException;
+
   /**
    * Persists a not persisted Task which does not exist already.
    *
@@ -135,6 +185,21 @@ public interface TaskService {
       throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
           TaskAlreadyExistException, InvalidArgumentException;
 
+  /**
+   * Creates a list of tasks like {@link #createTask(Task)} does, but resolves every workbasket and
+   * classification only once and inserts the tasks in batches. The given tasks are updated with
+   * the values of the created tasks. Tasks without an external id get a generated one before they
+   * are validated. If the database rejects a batch, its tasks are inserted one by one, so only the
+   * rejected tasks are reported as failed.
+   *
+   * @param tasksToCreate the transient task objects to be persisted
+   * @return the result of the operations with the external id and the exception for each task
+   *     which could not be created
+   * @throws InvalidArgumentException if the list of tasks is null
+   */
+  BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException;
+
   /**
    * Get the details of a task by Id without checking permissions.
    *
@@ -335,6 +400,23 @@ public interface TaskService {
    */
   Task selectAndClaim(TaskQuery taskQuery) throws NotAuthorizedException, InvalidOwnerException;
 
+  /**
+   * Selects and claims up to maxCount tasks which are returned by the task query. The tasks are
+   * selected with a single statement. Tasks which are currently locked by a concurrent
+   * selectAndClaim are skipped on databases which support it (PostgreSQL and DB2), so that
+   * concurrent callers do not wait for each other.
+   *
+   * @param taskQuery the task query.
+   * @param maxCount the maximum number of tasks to claim.
+   * @return the tasks that got selected and claimed. The list is empty if no task matched.
+   * @throws InvalidArgumentException if maxCount is less than 1
+   * @throws InvalidOwnerException if a task is claimed by someone else
+   * @throws NotAuthorizedException if the current user has no read permission for the workbasket
+   *     a task is in
+   */
+  List<Task> selectAndClaim(TaskQuery taskQuery, int maxCount)
+      throws InvalidArgumentException, NotAuthorizedException, InvalidOwnerException;
+
   /**
    * Deletes a list of tasks.
    *
@@ -15,6 +15,7 @@ import pro.taskana.classification.api.exceptions.ClassificationNotFoundException
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.models.Attachment;
@@ -26,6 +27,9 @@ import pro.taskana.task.internal.models.TaskImpl;
 
 public class AttachmentHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentHandler.class);
+  // every attachment binds 14 parameters, this keeps a statement far below the limits of the
+  // databases (e.g. 32767 bind parameters on Postgres)
+  private static final int INSERT_ATTACHMENTS_BATCH_SIZE = 500;
   private final AttachmentMapper attachmentMapper;
   private final ClassificationService classificationService;
 
@@ -156,6 +160,31 @@ public class AttachmentHandler {
     }
   }
 
+  void initAttachmentsOnTaskCreation(TaskImpl task) throws InvalidArgumentException {
+    List<Attachment> attachments = task.getAttachments();
+    if (attachments != null) {
+      for (Attachment attachment : attachments) {
+        initAttachment((AttachmentImpl) attachment, task);
+        ObjectReference.validate(attachment.getObjectReference(), "ObjectReference", "Attachment");
+      }
+    }
+  }
+
+  // expects that the attachments were initialized by initAttachmentsOnTaskCreation
+  void insertNewAttachmentsOnTasksCreation(List<TaskImpl> tasks) {
+    List<AttachmentImpl> attachments =
+        tasks.stream()
+            .map(TaskImpl::getAttachments)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(AttachmentImpl.class::cast)
+            .collect(Collectors.toList());
+    for (List<AttachmentImpl> batch :
+        CollectionUtil.partitionBasedOnSize(attachments, INSERT_ATTACHMENTS_BATCH_SIZE)) {
+      attachmentMapper.insertAttachments(batch);
+    }
+  }
+
   void deleteRemovedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
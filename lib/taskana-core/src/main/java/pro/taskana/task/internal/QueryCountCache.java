@@ -0,0 +1,46 @@
+package pro.taskana.task.internal;
+
+import java.time.Duration;
+import java.util.List;
+
+import pro.taskana.common.internal.util.TimeToLiveMap;
+
+/**
+ * Caches the counts of task queries. A query is identified by its SQL statement and the values of
+ * its parameters, which include the access ids of the current user. The counts are not
+ * invalidated on changes, they are only kept for the configured time to live.
+ */
+public class QueryCountCache {
+
+  private final boolean enabled;
+  private final TimeToLiveMap<List<Object>, Long> entries;
+
+  public QueryCountCache(int maxSize, Duration timeToLive) {
+    this.enabled = maxSize > 0 && timeToLive.toNanos() > 0;
+    this.entries = new TimeToLiveMap<>(maxSize, timeToLive);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the cached count of the query.
+   *
+   * @param query the SQL statement followed by the values of its parameters
+   * @return the count or null if there is no valid entry
+   */
+  public Long get(List<Object> query) {
+    if (!isEnabled()) {
+      return null;
+    }
+    return entries.get(query);
+  }
+
+  public void put(List<Object> query, long count) {
+    if (!isEnabled()) {
+      return;
+    }
+    entries.put(query, count);
+  }
+}
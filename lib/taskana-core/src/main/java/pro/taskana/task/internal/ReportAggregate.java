@@ -0,0 +1,159 @@
+package pro.taskana.task.internal;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import pro.taskana.task.api.TaskState;
+
+/**
+ * A row of the table TASK_REPORT_AGGREGATE. It counts the tasks which share the same workbasket,
+ * classification, state and due day. The rows are only appended, so several rows may exist for the
+ * same dimensions and the counts of a single row may be negative.
+ */
+public class ReportAggregate {
+
+  private Long id;
+  private String workbasketId;
+  private String workbasketKey;
+  private String domain;
+  private String classificationId;
+  private String classificationKey;
+  private String classificationCategory;
+  private TaskState state;
+  private LocalDate dueDay;
+  private int numberOfTasks;
+  private int numberOfJoinedRows;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public void setWorkbasketId(String workbasketId) {
+    this.workbasketId = workbasketId;
+  }
+
+  public String getWorkbasketKey() {
+    return workbasketKey;
+  }
+
+  public void setWorkbasketKey(String workbasketKey) {
+    this.workbasketKey = workbasketKey;
+  }
+
+  public String getDomain() {
+    return domain;
+  }
+
+  public void setDomain(String domain) {
+    this.domain = domain;
+  }
+
+  public String getClassificationId() {
+    return classificationId;
+  }
+
+  public void setClassificationId(String classificationId) {
+    this.classificationId = classificationId;
+  }
+
+  public String getClassificationKey() {
+    return classificationKey;
+  }
+
+  public void setClassificationKey(String classificationKey) {
+    this.classificationKey = classificationKey;
+  }
+
+  public String getClassificationCategory() {
+    return classificationCategory;
+  }
+
+  public void setClassificationCategory(String classificationCategory) {
+    this.classificationCategory = classificationCategory;
+  }
+
+  public TaskState getState() {
+    return state;
+  }
+
+  public void setState(TaskState state) {
+    this.state = state;
+  }
+
+  public LocalDate getDueDay() {
+    return dueDay;
+  }
+
+  public void setDueDay(LocalDate dueDay) {
+    this.dueDay = dueDay;
+  }
+
+  public int getNumberOfTasks() {
+    return numberOfTasks;
+  }
+
+  public void setNumberOfTasks(int numberOfTasks) {
+    this.numberOfTasks = numberOfTasks;
+  }
+
+  public int getNumberOfJoinedRows() {
+    return numberOfJoinedRows;
+  }
+
+  public void setNumberOfJoinedRows(int numberOfJoinedRows) {
+    this.numberOfJoinedRows = numberOfJoinedRows;
+  }
+
+  /**
+   * Returns the values which identify the group of this aggregate.
+   *
+   * @return all values except the counts
+   */
+  public List<Object> getDimensions() {
+    return Arrays.asList(
+        workbasketId,
+        workbasketKey,
+        domain,
+        classificationId,
+        classificationKey,
+        classificationCategory,
+        state,
+        dueDay);
+  }
+
+  @Override
+  public String toString() {
+    return "ReportAggregate [id="
+        + id
+        + ", workbasketId="
+        + workbasketId
+        + ", workbasketKey="
+        + workbasketKey
+        + ", domain="
+        + domain
+        + ", classificationId="
+        + classificationId
+        + ", classificationKey="
+        + classificationKey
+        + ", classificationCategory="
+        + classificationCategory
+        + ", state="
+        + state
+        + ", dueDay="
+        + dueDay
+        + ", numberOfTasks="
+        + numberOfTasks
+        + ", numberOfJoinedRows="
+        + numberOfJoinedRows
+        + "]";
+  }
+}
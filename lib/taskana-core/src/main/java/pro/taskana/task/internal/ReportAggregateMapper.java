@@ -0,0 +1,117 @@
+package pro.taskana.task.internal;
+
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/** This class is the mybatis mapping of the report aggregates. */
+@SuppressWarnings({"checkstyle:LineLength", "checkstyle:Indentation"})
+public interface ReportAggregateMapper {
+
+  String AGGREGATE_COLUMNS =
+      "WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, STATE, DUE_DAY, NUMBER_OF_TASKS, NUMBER_OF_JOINED_ROWS";
+
+  String TASK_DIMENSIONS =
+      "T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.CLASSIFICATION_ID, T.CLASSIFICATION_KEY, T.CLASSIFICATION_CATEGORY, T.STATE, CAST(T.DUE AS DATE)";
+
+  String SELECT_TASK_AGGREGATES =
+      "SELECT "
+          + TASK_DIMENSIONS
+          + " AS DUE_DAY, COUNT(DISTINCT T.ID) AS NUMBER_OF_TASKS, COUNT(*) AS NUMBER_OF_JOINED_ROWS "
+          + "FROM TASK AS T LEFT JOIN ATTACHMENT AS A ON T.ID = A.TASK_ID ";
+
+  // compares the tasks with the aggregates in one statement, so both are read from the same state
+  String SELECT_DEVIATIONS =
+      "SELECT WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, STATE, DUE_DAY, "
+          + "SUM(NUMBER_OF_TASKS) AS NUMBER_OF_TASKS, SUM(NUMBER_OF_JOINED_ROWS) AS NUMBER_OF_JOINED_ROWS "
+          + "FROM ("
+          + SELECT_TASK_AGGREGATES
+          + "GROUP BY "
+          + TASK_DIMENSIONS
+          + " UNION ALL "
+          + "SELECT WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, STATE, DUE_DAY, "
+          + "-NUMBER_OF_TASKS, -NUMBER_OF_JOINED_ROWS FROM TASK_REPORT_AGGREGATE"
+          + ") AS D "
+          + "GROUP BY WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, CLASSIFICATION_ID, CLASSIFICATION_KEY, CLASSIFICATION_CATEGORY, STATE, DUE_DAY "
+          + "HAVING SUM(NUMBER_OF_TASKS) <> 0 OR SUM(NUMBER_OF_JOINED_ROWS) <> 0";
+
+  @Select(
+      "<script>"
+          + SELECT_TASK_AGGREGATES
+          + "WHERE T.ID IN (<foreach collection='taskIds' item='taskId' separator=','>#{taskId}</foreach>) "
+          + "GROUP BY "
+          + TASK_DIMENSIONS
+          + "</script>")
+  @Result(property = "workbasketId", column = "WORKBASKET_ID")
+  @Result(property = "workbasketKey", column = "WORKBASKET_KEY")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "classificationId", column = "CLASSIFICATION_ID")
+  @Result(property = "classificationKey", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationCategory", column = "CLASSIFICATION_CATEGORY")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "dueDay", column = "DUE_DAY")
+  @Result(property = "numberOfTasks", column = "NUMBER_OF_TASKS")
+  @Result(property = "numberOfJoinedRows", column = "NUMBER_OF_JOINED_ROWS")
+  List<ReportAggregate> findTaskAggregates(@Param("taskIds") List<String> taskIds);
+
+  @Select(SELECT_DEVIATIONS)
+  @Result(property = "workbasketId", column = "WORKBASKET_ID")
+  @Result(property = "workbasketKey", column = "WORKBASKET_KEY")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "classificationId", column = "CLASSIFICATION_ID")
+  @Result(property = "classificationKey", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationCategory", column = "CLASSIFICATION_CATEGORY")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "dueDay", column = "DUE_DAY")
+  @Result(property = "numberOfTasks", column = "NUMBER_OF_TASKS")
+  @Result(property = "numberOfJoinedRows", column = "NUMBER_OF_JOINED_ROWS")
+  List<ReportAggregate> findDeviations();
+
+  @Select("SELECT ID, " + AGGREGATE_COLUMNS + " FROM TASK_REPORT_AGGREGATE")
+  @Result(property = "id", column = "ID")
+  @Result(property = "workbasketId", column = "WORKBASKET_ID")
+  @Result(property = "workbasketKey", column = "WORKBASKET_KEY")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "classificationId", column = "CLASSIFICATION_ID")
+  @Result(property = "classificationKey", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationCategory", column = "CLASSIFICATION_CATEGORY")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "dueDay", column = "DUE_DAY")
+  @Result(property = "numberOfTasks", column = "NUMBER_OF_TASKS")
+  @Result(property = "numberOfJoinedRows", column = "NUMBER_OF_JOINED_ROWS")
+  List<ReportAggregate> findAllAggregates();
+
+  @Insert(
+      "<script>INSERT INTO TASK_REPORT_AGGREGATE ("
+          + AGGREGATE_COLUMNS
+          + ") VALUES <foreach item='aggregate' collection='aggregates' separator=',' >"
+          + "(#{aggregate.workbasketId}, #{aggregate.workbasketKey}, #{aggregate.domain}, #{aggregate.classificationId}, #{aggregate.classificationKey}, "
+          + "#{aggregate.classificationCategory}, #{aggregate.state}, #{aggregate.dueDay}, #{aggregate.numberOfTasks}, #{aggregate.numberOfJoinedRows})"
+          + "</foreach></script>")
+  void insertAggregates(@Param("aggregates") List<ReportAggregate> aggregates);
+
+  @Insert("INSERT INTO TASK_REPORT_AGGREGATE (" + AGGREGATE_COLUMNS + ") " + SELECT_DEVIATIONS)
+  void insertDeviations();
+
+  @Delete(
+      "<script>DELETE FROM TASK_REPORT_AGGREGATE "
+          + "WHERE ID IN (<foreach collection='ids' item='id' separator=','>#{id}</foreach>)"
+          + "</script>")
+  void deleteAggregates(@Param("ids") List<Long> ids);
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE ID IN (<foreach collection='taskIds' item='taskId' separator=','>#{taskId}</foreach>) "
+          + "FOR UPDATE "
+          + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS </if>"
+          + "</script>")
+  List<String> lockTasks(@Param("taskIds") List<String> taskIds);
+
+  // blocks all changes of tasks until the end of the transaction, not supported by H2
+  @Update("LOCK TABLE TASK IN SHARE MODE")
+  void lockTaskTable();
+}
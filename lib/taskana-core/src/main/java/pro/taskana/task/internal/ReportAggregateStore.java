@@ -0,0 +1,183 @@
+package pro.taskana.task.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.util.CollectionUtil;
+
+/**
+ * Maintains the table TASK_REPORT_AGGREGATE, which holds the number of tasks per workbasket,
+ * classification, state and due day. Every change of these values appends the difference of the
+ * counts, so the reports only have to sum up the aggregates instead of scanning all tasks.
+ *
+ * <p>The aggregates are maintained in the connection of the change. Changes which are not covered
+ * are repaired by the {@link pro.taskana.task.internal.jobs.ReportAggregateJob}.
+ */
+public class ReportAggregateStore {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportAggregateStore.class);
+  private static final int TASK_IDS_BATCH_SIZE = 1000;
+
+  private final InternalTaskanaEngine taskanaEngine;
+  private final ReportAggregateMapper reportAggregateMapper;
+  // counted even if the aggregates are disabled, the report cache is invalidated by it
+  private final AtomicLong numberOfChangedTasks = new AtomicLong();
+
+  public ReportAggregateStore(
+      InternalTaskanaEngine taskanaEngine, ReportAggregateMapper reportAggregateMapper) {
+    this.taskanaEngine = taskanaEngine;
+    this.reportAggregateMapper = reportAggregateMapper;
+  }
+
+  public boolean isEnabled() {
+    return taskanaEngine.getEngine().getConfiguration().isMonitorAggregatesEnabled();
+  }
+
+  /**
+   * Determines the aggregates of the given tasks before they are changed. The tasks are locked, so
+   * that no concurrent change can get in between the capture and the change.
+   *
+   * @param taskIds the ids of the tasks which are about to be changed
+   * @return the aggregates of the tasks or an empty list if the aggregates are disabled
+   */
+  public List<ReportAggregate> capture(Collection<String> taskIds) {
+    if (!isEnabled() || taskIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    CollectionUtil.partitionBasedOnSize(taskIds, TASK_IDS_BATCH_SIZE)
+        .forEach(reportAggregateMapper::lockTasks);
+    return findTaskAggregates(taskIds);
+  }
+
+  /**
+   * Appends the difference between the current aggregates of the given tasks and the aggregates
+   * captured before they were changed.
+   *
+   * @param before the aggregates returned by {@link #capture(Collection)} before the change
+   * @param taskIds the ids of the changed tasks
+   */
+  public void recordChanges(List<ReportAggregate> before, Collection<String> taskIds) {
+    numberOfChangedTasks.addAndGet(taskIds.size());
+    if (!isEnabled()) {
+      return;
+    }
+    Map<List<Object>, ReportAggregate> changes = new LinkedHashMap<>();
+    findTaskAggregates(taskIds).forEach(aggregate -> addChange(changes, aggregate, 1));
+    before.forEach(aggregate -> addChange(changes, aggregate, -1));
+    List<ReportAggregate> aggregatesToInsert =
+        changes.values().stream()
+            .filter(a -> a.getNumberOfTasks() != 0 || a.getNumberOfJoinedRows() != 0)
+            .collect(Collectors.toList());
+    CollectionUtil.partitionBasedOnSize(aggregatesToInsert, TASK_IDS_BATCH_SIZE)
+        .forEach(reportAggregateMapper::insertAggregates);
+    LOGGER.debug("Recorded {} report aggregates.", aggregatesToInsert.size());
+  }
+
+  /**
+   * Returns the number of tasks which have been changed by this TASKANA instance so far. A task
+   * which is changed several times is counted several times.
+   *
+   * @return the number of changed tasks
+   */
+  public long getNumberOfChangedTasks() {
+    return numberOfChangedTasks.get();
+  }
+
+  /**
+   * Compares the aggregates with the tasks.
+   *
+   * @return the aggregates which are missing or superfluous, the counts are the difference
+   */
+  public List<ReportAggregate> findDeviations() {
+    return taskanaEngine.openAndReturnConnection(reportAggregateMapper::findDeviations);
+  }
+
+  /**
+   * Repairs the deviations of the aggregates from the tasks and merges the appended changes into
+   * one aggregate per group. Changes of tasks which are made meanwhile are not lost, the repair
+   * reads the tasks and the aggregates in one statement and the merge only replaces the
+   * aggregates it has read. Apart from H2, the tasks are locked against changes meanwhile.
+   */
+  public void rebuild() {
+    taskanaEngine.openAndReturnConnection(
+        () -> {
+          if (!DB.isH2(taskanaEngine.getSqlSession().getConfiguration().getDatabaseId())) {
+            reportAggregateMapper.lockTaskTable();
+          }
+          reportAggregateMapper.insertDeviations();
+          mergeAggregates();
+          return null;
+        });
+  }
+
+  private void mergeAggregates() {
+    Map<List<Object>, ReportAggregate> merged = new LinkedHashMap<>();
+    Map<List<Object>, List<Long>> idsByDimensions = new LinkedHashMap<>();
+    for (ReportAggregate aggregate : reportAggregateMapper.findAllAggregates()) {
+      addChange(merged, aggregate, 1);
+      idsByDimensions
+          .computeIfAbsent(aggregate.getDimensions(), key -> new ArrayList<>())
+          .add(aggregate.getId());
+    }
+    List<ReportAggregate> aggregatesToInsert = new ArrayList<>();
+    List<Long> idsToDelete = new ArrayList<>();
+    idsByDimensions.forEach(
+        (dimensions, ids) -> {
+          ReportAggregate aggregate = merged.get(dimensions);
+          boolean isEmpty =
+              aggregate.getNumberOfTasks() == 0 && aggregate.getNumberOfJoinedRows() == 0;
+          if (ids.size() > 1 || isEmpty) {
+            idsToDelete.addAll(ids);
+            if (!isEmpty) {
+              aggregatesToInsert.add(aggregate);
+            }
+          }
+        });
+    CollectionUtil.partitionBasedOnSize(aggregatesToInsert, TASK_IDS_BATCH_SIZE)
+        .forEach(reportAggregateMapper::insertAggregates);
+    CollectionUtil.partitionBasedOnSize(idsToDelete, TASK_IDS_BATCH_SIZE)
+        .forEach(reportAggregateMapper::deleteAggregates);
+    LOGGER.debug(
+        "Merged {} report aggregates into {}.", idsToDelete.size(), aggregatesToInsert.size());
+  }
+
+  private List<ReportAggregate> findTaskAggregates(Collection<String> taskIds) {
+    return CollectionUtil.partitionBasedOnSize(taskIds, TASK_IDS_BATCH_SIZE).stream()
+        .map(reportAggregateMapper::findTaskAggregates)
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+  }
+
+  // adds the counts of the aggregate multiplied by the sign to the change of its group
+  private static void addChange(
+      Map<List<Object>, ReportAggregate> changes, ReportAggregate aggregate, int sign) {
+    ReportAggregate change =
+        changes.computeIfAbsent(aggregate.getDimensions(), key -> copyDimensions(aggregate));
+    change.setNumberOfTasks(change.getNumberOfTasks() + sign * aggregate.getNumberOfTasks());
+    change.setNumberOfJoinedRows(
+        change.getNumberOfJoinedRows() + sign * aggregate.getNumberOfJoinedRows());
+  }
+
+  private static ReportAggregate copyDimensions(ReportAggregate aggregate) {
+    ReportAggregate copy = new ReportAggregate();
+    copy.setWorkbasketId(aggregate.getWorkbasketId());
+    copy.setWorkbasketKey(aggregate.getWorkbasketKey());
+    copy.setDomain(aggregate.getDomain());
+    copy.setClassificationId(aggregate.getClassificationId());
+    copy.setClassificationKey(aggregate.getClassificationKey());
+    copy.setClassificationCategory(aggregate.getClassificationCategory());
+    copy.setState(aggregate.getState());
+    copy.setDueDay(aggregate.getDueDay());
+    return copy;
+  }
+}
@@ -0,0 +1,49 @@
+package pro.taskana.task.internal;
+
+/**
+ * One sort criterion of a keyset paginated {@link TaskQueryImpl}, together with the value of the
+ * task the result has to continue after.
+ */
+public class SeekColumn {
+
+  private final String column;
+  private final Object value;
+  private final boolean ascending;
+  private final boolean nullsFirst;
+
+  public SeekColumn(String column, Object value, boolean ascending, boolean nullsFirst) {
+    this.column = column;
+    this.value = value;
+    this.ascending = ascending;
+    this.nullsFirst = nullsFirst;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public Object getValue() {
+    return value;
+  }
+
+  public String getComparator() {
+    return ascending ? ">" : "<";
+  }
+
+  public boolean isNullsFirst() {
+    return nullsFirst;
+  }
+
+  @Override
+  public String toString() {
+    return "SeekColumn [column="
+        + column
+        + ", value="
+        + value
+        + ", ascending="
+        + ascending
+        + ", nullsFirst="
+        + nullsFirst
+        + "]";
+  }
+}
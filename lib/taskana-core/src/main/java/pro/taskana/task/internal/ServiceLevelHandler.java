@@ -359,7 +359,7 @@ class ServiceLevelHandler {
         getFollowingWorkingDays(referenceTask.getPlanned(), durationHolder.getDuration()));
     List<String> taskIdsToUpdate =
         taskDurationList.stream().map(TaskDuration::getTaskId).collect(Collectors.toList());
-    long numTasksUpdated = taskMapper.updateTaskDueDates(taskIdsToUpdate, referenceTask);
+    long numTasksUpdated = updateTaskDueDates(taskIdsToUpdate, referenceTask);
     if (numTasksUpdated != taskIdsToUpdate.size()) {
       BulkLog checkResult =
           checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
@@ -378,7 +378,7 @@ class ServiceLevelHandler {
     for (Map.Entry<Duration, List<String>> entry : durationToTaskIdsMap.entrySet()) {
       List<String> taskIdsToUpdate = entry.getValue();
       referenceTask.setDue(getFollowingWorkingDays(referenceTask.getPlanned(), entry.getKey()));
-      long numTasksUpdated = taskMapper.updateTaskDueDates(taskIdsToUpdate, referenceTask);
+      long numTasksUpdated = updateTaskDueDates(taskIdsToUpdate, referenceTask);
       if (numTasksUpdated != taskIdsToUpdate.size()) {
         BulkLog checkResult =
             checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
@@ -389,6 +389,14 @@ class ServiceLevelHandler {
     return bulkLog;
   }
 
+  private long updateTaskDueDates(List<String> taskIds, TaskImpl referenceTask) {
+    List<ReportAggregate> aggregatesBefore =
+        taskanaEngine.getReportAggregateStore().capture(taskIds);
+    long numTasksUpdated = taskMapper.updateTaskDueDates(taskIds, referenceTask);
+    taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
+    return numTasksUpdated;
+  }
+
   private BulkLog checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
       List<String> taskIdsToUpdate, TaskImpl referenceTask, long numTasksUpdated) {
     BulkLog bulkLog = new BulkLog();
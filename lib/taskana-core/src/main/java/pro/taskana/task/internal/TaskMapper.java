@@ -15,6 +15,7 @@ import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.CallbackState;
+import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.MinimalTaskSummary;
 import pro.taskana.task.internal.models.TaskImpl;
@@ -104,6 +105,21 @@ public interface TaskMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(TaskImpl task);
 
+  @Insert(
+      "<script>INSERT INTO TASK(ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE,  CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, "
+          + "POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, "
+          + "CUSTOM_9, CUSTOM_10, CUSTOM_11,  CUSTOM_12,  CUSTOM_13,  CUSTOM_14,  CUSTOM_15,  CUSTOM_16 ) "
+          + "VALUES <foreach item='task' collection='tasks' separator=',' >"
+          + "(#{task.id},#{task.externalId}, #{task.created}, #{task.claimed}, #{task.completed}, #{task.modified}, #{task.planned}, #{task.due}, #{task.name}, #{task.creator}, #{task.description}, #{task.note}, #{task.priority}, #{task.state}, #{task.classificationSummary.category}, "
+          + "#{task.classificationSummary.key}, #{task.classificationSummary.id}, #{task.workbasketSummary.id}, #{task.workbasketSummary.key}, #{task.workbasketSummary.domain}, #{task.businessProcessId}, "
+          + "#{task.parentBusinessProcessId}, #{task.owner}, #{task.primaryObjRef.company}, #{task.primaryObjRef.system}, #{task.primaryObjRef.systemInstance}, #{task.primaryObjRef.type}, #{task.primaryObjRef.value}, "
+          + "#{task.isRead}, #{task.isTransferred}, #{task.callbackInfo,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, #{task.callbackState}, "
+          + "#{task.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, "
+          + "#{task.custom1}, #{task.custom2}, #{task.custom3}, #{task.custom4}, #{task.custom5}, #{task.custom6}, #{task.custom7}, #{task.custom8}, #{task.custom9}, #{task.custom10}, "
+          + "#{task.custom11}, #{task.custom12}, #{task.custom13}, #{task.custom14}, #{task.custom15},  #{task.custom16})"
+          + "</foreach></script>")
+  void insertTasks(@Param("tasks") List<TaskImpl> tasks);
+
   @Update(
       "UPDATE TASK SET CLAIMED = #{claimed}, COMPLETED = #{completed}, MODIFIED = #{modified}, PLANNED = #{planned}, DUE = #{due}, NAME = #{name}, DESCRIPTION = #{description}, NOTE = #{note}, "
           + " PRIORITY = #{priority}, STATE = #{state}, CLASSIFICATION_CATEGORY = #{classificationSummary.category}, CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, "
@@ -165,6 +181,17 @@ public interface TaskMapper {
   void updateClaimed(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskSummary referenceTask);
 
+  @Update(
+      "<script>"
+          + " UPDATE TASK SET STATE = #{task.state}, OWNER = #{task.owner}, CLAIMED = #{task.claimed}, COMPLETED = #{task.completed}, MODIFIED = #{task.modified}, IS_READ = #{task.isRead}"
+          + " WHERE ID = #{task.id} AND MODIFIED = #{expectedModified}"
+          + " AND STATE IN <foreach item='state' separator=',' open='(' close=')' collection='expectedStates'>#{state}</foreach>"
+          + "</script>")
+  int updateState(
+      @Param("task") TaskSummary task,
+      @Param("expectedModified") Instant expectedModified,
+      @Param("expectedStates") List<TaskState> expectedStates);
+
   @Select(
       "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, MODIFIED, CLASSIFICATION_ID, "
           + "PLANNED, DUE, CALLBACK_STATE FROM TASK "
@@ -187,6 +214,24 @@ public interface TaskMapper {
   List<MinimalTaskSummary> findExistingTasks(
       @Param("taskIds") List<String> taskIds, @Param("externalIds") List<String> externalIds);
 
+  @Select(
+      "<script>SELECT T.ID FROM TASK T "
+          + "WHERE T.COMPLETED &lt;= #{completedBefore} "
+          + "<if test='afterTaskId != null'>AND T.ID &gt; #{afterTaskId} </if> "
+          + "<if test='allCompletedSameParentBusiness'>"
+          + "AND (T.PARENT_BUSINESS_PROCESS_ID IS NULL OR T.PARENT_BUSINESS_PROCESS_ID = '' OR NOT EXISTS ("
+          + "SELECT 1 FROM TASK T2 WHERE T2.PARENT_BUSINESS_PROCESS_ID = T.PARENT_BUSINESS_PROCESS_ID "
+          + "AND (T2.COMPLETED IS NULL OR T2.COMPLETED &gt; #{completedBefore}))) "
+          + "</if> "
+          + "ORDER BY T.ID FETCH FIRST ${maxCount} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findTaskIdsCompletedBefore(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("allCompletedSameParentBusiness") boolean allCompletedSameParentBusiness,
+      @Param("afterTaskId") String afterTaskId,
+      @Param("maxCount") int maxCount);
+
   @Update(
       "<script>"
           + " UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory} "
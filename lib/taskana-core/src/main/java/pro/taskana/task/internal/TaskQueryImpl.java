@@ -1,10 +1,33 @@
 package pro.taskana.task.internal;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +42,7 @@ import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.task.api.CallbackState;
+import pro.taskana.task.api.CountStrategy;
 import pro.taskana.task.api.ObjectReferenceQuery;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskQuery;
@@ -32,6 +56,7 @@ import pro.taskana.workbasket.api.WorkbasketPermission;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
 /** TaskQuery for generating dynamic sql. */
 public class TaskQueryImpl implements TaskQuery {
@@ -48,7 +73,11 @@ public class TaskQueryImpl implements TaskQuery {
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskColumnValues";
   private static final String TIME_INTERVAL = "TimeInterval ";
   private static final String IS_INVALID = " is invalid.";
+  private static final int MAX_READABLE_WORKBASKET_IDS = 1000;
+  private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
+  private static final Map<String, Function<TaskSummary, Object>> SEEK_VALUE_EXTRACTORS =
+      initSeekValueExtractors();
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskServiceImpl taskService;
   private final List<String> orderBy;
@@ -140,6 +169,7 @@ public class TaskQueryImpl implements TaskQuery {
   private String[] attachmentReferenceLike;
   private TimeInterval[] attachmentReceivedIn;
   private String[] accessIdIn;
+  private List<String> readableWorkbasketIds;
   private boolean filterByAccessIdIn;
   private TimeInterval[] createdIn;
   private TimeInterval[] claimedIn;
@@ -150,6 +180,10 @@ public class TaskQueryImpl implements TaskQuery {
   private WildcardSearchField[] wildcardSearchFieldIn;
   private String wildcardSearchValueLike;
   private boolean selectAndClaim;
+  private int selectAndClaimLimit = 1;
+  private TaskSummary seekAfter;
+  private List<SeekColumn> seekColumns;
+  private List<String> projection;
 
   private boolean useDistinctKeyword = false;
   private boolean joinWithAttachments = false;
@@ -915,6 +949,33 @@ public class TaskQueryImpl implements TaskQuery {
     return this;
   }
 
+  public TaskQuery selectAndClaimLimit(int selectAndClaimLimit) {
+    this.selectAndClaimLimit = selectAndClaimLimit;
+    return this;
+  }
+
+  @Override
+  public TaskQuery seekAfter(TaskSummary previousTask) {
+    this.seekAfter = previousTask;
+    return this;
+  }
+
+  @Override
+  public TaskQuery select(TaskQueryColumnName... columns) {
+    List<String> selectedColumns = new ArrayList<>();
+    selectedColumns.add(TaskQueryColumnName.ID.toString());
+    for (TaskQueryColumnName column : columns) {
+      if (column.isAttachmentColumn() || column == TaskQueryColumnName.CLASSIFICATION_NAME) {
+        throw new IllegalArgumentException("The column " + column + " can't be selected.");
+      }
+      if (!selectedColumns.contains(column.toString())) {
+        selectedColumns.add(column.toString());
+      }
+    }
+    this.projection = selectedColumns;
+    return this;
+  }
+
   @Override
   public List<TaskSummary> list() {
     List<TaskSummary> result = new ArrayList<>();
@@ -924,13 +985,15 @@ public class TaskQueryImpl implements TaskQuery {
       checkForIllegalParamCombinations();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupJoinAndOrderParameters();
-      setupAccessIds();
+      setupProjection();
+      setupSeekColumns();
+      setupAccessIds(getLinkToMapperScript());
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("mapper returned {} resulting Objects: {} ", tasks.size(), tasks);
       }
-      result = taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+      result = augmentTaskSummaries(tasks);
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -949,12 +1012,14 @@ public class TaskQueryImpl implements TaskQuery {
       taskanaEngine.openConnection();
       checkForIllegalParamCombinations();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
-      setupAccessIds();
+      setupAccessIds(getLinkToMapperScript());
       setupJoinAndOrderParameters();
+      setupProjection();
+      setupSeekColumns();
       RowBounds rowBounds = new RowBounds(offset, limit);
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this, rowBounds);
-      result = taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+      result = augmentTaskSummaries(tasks);
       return result;
     } catch (PersistenceException e) {
       if (e.getMessage().contains("ERRORCODE=-4470")) {
@@ -976,6 +1041,34 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public Stream<TaskSummary> stream() {
+    LOGGER.debug("entry to stream(), this = {}", this);
+    taskanaEngine.openConnection();
+    try {
+      checkForIllegalParamCombinations();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupJoinAndOrderParameters();
+      setupProjection();
+      setupSeekColumns();
+      setupAccessIds(getLinkToMapperScript());
+      Cursor<TaskSummaryImpl> cursor =
+          taskanaEngine.getSqlSession().selectCursor(getLinkToMapperScript(), this);
+      int windowSize = taskanaEngine.getEngine().getConfiguration().getQueryStreamWindowSize();
+      Iterator<List<TaskSummaryImpl>> windows = new WindowIterator<>(cursor.iterator(), windowSize);
+      return StreamSupport.stream(
+              Spliterators.spliteratorUnknownSize(
+                  windows, Spliterator.ORDERED | Spliterator.NONNULL),
+              false)
+          .map(this::augmentTaskSummaries)
+          .flatMap(List::stream)
+          .onClose(() -> closeCursorAndReturnConnection(cursor));
+    } catch (RuntimeException e) {
+      taskanaEngine.returnConnection();
+      throw e;
+    }
+  }
+
   @Override
   public List<String> listValues(TaskQueryColumnName columnName, SortDirection sortDirection) {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
@@ -987,7 +1080,7 @@ public class TaskQueryImpl implements TaskQuery {
       this.addOrderCriteria(columnName.toString(), sortDirection);
       checkForIllegalParamCombinations();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
-      setupAccessIds();
+      setupAccessIds(LINK_TO_VALUE_MAPPER);
 
       if (columnName.equals(TaskQueryColumnName.CLASSIFICATION_NAME)) {
         joinWithClassifications = true;
@@ -1020,8 +1113,10 @@ public class TaskQueryImpl implements TaskQuery {
     try {
       taskanaEngine.openConnection();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
-      setupAccessIds();
+      setupAccessIds(getLinkToMapperScript());
       setupJoinAndOrderParameters();
+      setupProjection();
+      setupSeekColumns();
       TaskSummaryImpl taskSummaryImpl =
           taskanaEngine.getSqlSession().selectOne(getLinkToMapperScript(), this);
       if (taskSummaryImpl == null) {
@@ -1029,8 +1124,7 @@ public class TaskQueryImpl implements TaskQuery {
       }
       List<TaskSummaryImpl> tasks = new ArrayList<>();
       tasks.add(taskSummaryImpl);
-      List<TaskSummary> augmentedList =
-          taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+      List<TaskSummary> augmentedList = augmentTaskSummaries(tasks);
       result = augmentedList.get(0);
 
       return result;
@@ -1047,7 +1141,7 @@ public class TaskQueryImpl implements TaskQuery {
     try {
       taskanaEngine.openConnection();
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
-      setupAccessIds();
+      setupAccessIds(getLinkToCounterTaskScript());
       setupJoinAndOrderParameters();
       rowCount = taskanaEngine.getSqlSession().selectOne(getLinkToCounterTaskScript(), this);
       return (rowCount == null) ? 0L : rowCount;
@@ -1057,10 +1151,92 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public long count(CountStrategy countStrategy) {
+    if (countStrategy == null || countStrategy == CountStrategy.EXACT) {
+      return count();
+    }
+    LOGGER.debug("entry to count(countStrategy = {}), this = {}", countStrategy, this);
+    Long rowCount = null;
+    try {
+      taskanaEngine.openConnection();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupAccessIds(getLinkToCounterTaskScript());
+      setupJoinAndOrderParameters();
+      if (countStrategy == CountStrategy.ESTIMATED && DB.isPostgres(getDatabaseId())) {
+        rowCount = estimateCount();
+      }
+      if (rowCount == null) {
+        rowCount = countCached();
+      }
+      return rowCount;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from count(countStrategy). Returning result {} ", rowCount);
+    }
+  }
+
+  private long countCached() {
+    Configuration configuration = taskanaEngine.getSqlSession().getConfiguration();
+    BoundSql boundSql =
+        configuration.getMappedStatement(getLinkToCounterTaskScript()).getBoundSql(this);
+    // the statement and its parameter values identify the query including the access ids
+    List<Object> query = new ArrayList<>();
+    query.add(boundSql.getSql());
+    MetaObject metaObject = configuration.newMetaObject(this);
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      String property = parameterMapping.getProperty();
+      query.add(
+          boundSql.hasAdditionalParameter(property)
+              ? boundSql.getAdditionalParameter(property)
+              : metaObject.getValue(property));
+    }
+    QueryCountCache queryCountCache = taskanaEngine.getQueryCountCache();
+    Long rowCount = queryCountCache.get(query);
+    if (rowCount == null) {
+      rowCount = taskanaEngine.getSqlSession().selectOne(getLinkToCounterTaskScript(), this);
+      rowCount = rowCount == null ? 0L : rowCount;
+      queryCountCache.put(query, rowCount);
+    }
+    return rowCount;
+  }
+
+  private Long estimateCount() {
+    MappedStatement mappedStatement =
+        taskanaEngine.getSqlSession().getConfiguration().getMappedStatement(LINK_TO_MAPPER);
+    BoundSql boundSql = mappedStatement.getBoundSql(this);
+    Connection connection = taskanaEngine.getSqlSession().getConnection();
+    try (PreparedStatement statement =
+        connection.prepareStatement("EXPLAIN (FORMAT JSON) " + boundSql.getSql())) {
+      new DefaultParameterHandler(mappedStatement, this, boundSql).setParameters(statement);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next()) {
+          return null;
+        }
+        // the first node of the plan is the root node, its rows are the rows of the result
+        Matcher matcher = PLAN_ROWS.matcher(resultSet.getString(1));
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+      }
+    } catch (SQLException e) {
+      throw new SystemException("Could not estimate the count of the task query.", e);
+    }
+  }
+
+  private void closeCursorAndReturnConnection(Cursor<TaskSummaryImpl> cursor) {
+    try {
+      cursor.close();
+    } catch (IOException e) {
+      throw new SystemException("Could not close the cursor of a streamed task query.", e);
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from stream()");
+    }
+  }
+
   // optimized query for db2 can't be used for now in case of selectAndClaim because of temporary
-  // tables and the "for update" clause clashing in db2
+  // tables and the "for update" clause clashing in db2. Projections don't need it either.
   public String getLinkToMapperScript() {
-    if (DB.isDb2(getDatabaseId()) && !selectAndClaim) {
+    if (DB.isDb2(getDatabaseId()) && !selectAndClaim && projection == null) {
       return LINK_TO_MAPPER_DB2;
     } else {
       return LINK_TO_MAPPER;
@@ -1169,6 +1345,10 @@ public class TaskQueryImpl implements TaskQuery {
     return selectAndClaim;
   }
 
+  public int getSelectAndClaimLimit() {
+    return selectAndClaimLimit;
+  }
+
   public String[] getPorCompanyIn() {
     return porCompanyIn;
   }
@@ -1217,6 +1397,14 @@ public class TaskQueryImpl implements TaskQuery {
     return orderColumns;
   }
 
+  public List<SeekColumn> getSeekColumns() {
+    return seekColumns;
+  }
+
+  public List<String> getProjection() {
+    return projection;
+  }
+
   public TimeInterval[] getCreatedIn() {
     return createdIn;
   }
@@ -1609,7 +1797,61 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
-  private void setupAccessIds() {
+  private void setupProjection() {
+    if (projection == null) {
+      return;
+    }
+    // the generic statement is used for projections, hence the sort criteria have to be
+    // qualified. With DISTINCT they have to be part of the select clause as well.
+    for (int i = 0; i < orderColumns.size(); i++) {
+      String column = getSeekColumnName(orderColumns.get(i));
+      if (!SEEK_VALUE_EXTRACTORS.containsKey(column)) {
+        throw new IllegalArgumentException(
+            "Projections can't be sorted by " + orderColumns.get(i));
+      }
+      String direction = orderBy.get(i).substring(orderColumns.get(i).length());
+      orderColumns.set(i, column);
+      orderBy.set(i, column + direction);
+      if (!projection.contains(column.toLowerCase())) {
+        projection.add(column.toLowerCase());
+      }
+    }
+  }
+
+  private List<TaskSummary> augmentTaskSummaries(List<TaskSummaryImpl> tasks) {
+    if (projection != null) {
+      return new ArrayList<>(tasks);
+    }
+    return taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+  }
+
+  private void setupSeekColumns() {
+    if (seekAfter == null) {
+      seekColumns = null;
+      return;
+    }
+    // the task id makes the sort order unique. Without it tasks with equal sort values
+    // could be skipped or returned twice.
+    if (!orderColumns.contains("ID")) {
+      addOrderCriteria("ID", SortDirection.ASCENDING);
+    }
+    // H2 sorts null values as the lowest values, DB2 and PostgreSQL as the highest values
+    boolean nullsHigh = !DB.isH2(getDatabaseId());
+    seekColumns = new ArrayList<>();
+    for (int i = 0; i < orderColumns.size(); i++) {
+      String column = getSeekColumnName(orderColumns.get(i));
+      Function<TaskSummary, Object> valueExtractor = SEEK_VALUE_EXTRACTORS.get(column);
+      if (valueExtractor == null) {
+        throw new IllegalArgumentException(
+            "Keyset pagination is not supported when sorting by " + orderColumns.get(i));
+      }
+      boolean ascending = !orderBy.get(i).endsWith(" " + SortDirection.DESCENDING);
+      Object value = valueExtractor.apply(seekAfter);
+      seekColumns.add(new SeekColumn(column, value, ascending, ascending != nullsHigh));
+    }
+  }
+
+  private void setupAccessIds(String statement) {
     if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)
         || !filterByAccessIdIn) {
       this.accessIdIn = null;
@@ -1623,6 +1865,27 @@ public class TaskQueryImpl implements TaskQuery {
       this.accessIdIn = accessIds;
       WorkbasketQueryImpl.lowercaseAccessIds(this.accessIdIn);
     }
+    setupReadableWorkbasketIds(statement);
+  }
+
+  // the readable workbaskets are resolved once per set of access ids and passed to the query as
+  // literals instead of aggregating the access list in every query. Too many literals would make
+  // the statement slower than the aggregation. The DB2 statements check the permission per row
+  // and don't use the literals, so they aren't resolved for them.
+  private void setupReadableWorkbasketIds(String statement) {
+    if (accessIdIn == null
+        || !taskanaEngine.getWorkbasketPermissionCache().isEnabled()
+        || LINK_TO_MAPPER_DB2.equals(statement)
+        || LINK_TO_COUNTER_DB2.equals(statement)) {
+      readableWorkbasketIds = null;
+    } else if (readableWorkbasketIds == null) {
+      List<String> workbasketIds =
+          ((WorkbasketServiceImpl) taskanaEngine.getEngine().getWorkbasketService())
+              .getReadableWorkbasketIds(Arrays.asList(accessIdIn));
+      if (!workbasketIds.isEmpty() && workbasketIds.size() <= MAX_READABLE_WORKBASKET_IDS) {
+        readableWorkbasketIds = workbasketIds;
+      }
+    }
   }
 
   private void checkOpenAndReadPermissionForSpecifiedWorkbaskets() {
@@ -1680,6 +1943,62 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  private static String getSeekColumnName(String orderColumn) {
+    if ("TCLASSIFICATION_KEY".equals(orderColumn)) {
+      return "t.CLASSIFICATION_KEY";
+    }
+    return orderColumn.startsWith("t.") ? orderColumn : "t." + orderColumn;
+  }
+
+  private static Map<String, Function<TaskSummary, Object>> initSeekValueExtractors() {
+    Map<String, Function<TaskSummary, Object>> extractors = new HashMap<>();
+    extractors.put("t.ID", TaskSummary::getId);
+    extractors.put("t.BUSINESS_PROCESS_ID", TaskSummary::getBusinessProcessId);
+    extractors.put("t.PARENT_BUSINESS_PROCESS_ID", TaskSummary::getParentBusinessProcessId);
+    extractors.put("t.CLAIMED", TaskSummary::getClaimed);
+    extractors.put("t.COMPLETED", TaskSummary::getCompleted);
+    extractors.put("t.CREATED", TaskSummary::getCreated);
+    extractors.put("t.MODIFIED", TaskSummary::getModified);
+    extractors.put("t.PLANNED", TaskSummary::getPlanned);
+    extractors.put("t.DUE", TaskSummary::getDue);
+    extractors.put("t.DOMAIN", TaskSummary::getDomain);
+    extractors.put("t.NAME", TaskSummary::getName);
+    extractors.put("t.CREATOR", TaskSummary::getCreator);
+    extractors.put("t.NOTE", TaskSummary::getNote);
+    extractors.put("t.OWNER", TaskSummary::getOwner);
+    extractors.put("t.PRIORITY", TaskSummary::getPriority);
+    extractors.put("t.STATE", task -> task.getState() == null ? null : task.getState().name());
+    extractors.put(
+        "t.CLASSIFICATION_KEY",
+        task ->
+            task.getClassificationSummary() == null
+                ? null
+                : task.getClassificationSummary().getKey());
+    extractors.put(
+        "t.WORKBASKET_ID",
+        task -> task.getWorkbasketSummary() == null ? null : task.getWorkbasketSummary().getId());
+    extractors.put(
+        "t.WORKBASKET_KEY",
+        task -> task.getWorkbasketSummary() == null ? null : task.getWorkbasketSummary().getKey());
+    extractors.put(
+        "t.POR_COMPANY", task -> getPrimaryObjRefValue(task, ObjectReference::getCompany));
+    extractors.put(
+        "t.POR_SYSTEM", task -> getPrimaryObjRefValue(task, ObjectReference::getSystem));
+    extractors.put(
+        "t.POR_INSTANCE", task -> getPrimaryObjRefValue(task, ObjectReference::getSystemInstance));
+    extractors.put("t.POR_TYPE", task -> getPrimaryObjRefValue(task, ObjectReference::getType));
+    extractors.put("t.POR_VALUE", task -> getPrimaryObjRefValue(task, ObjectReference::getValue));
+    for (TaskCustomField customField : TaskCustomField.values()) {
+      extractors.put("t." + customField.name(), task -> task.getCustomAttribute(customField));
+    }
+    return extractors;
+  }
+
+  private static String getPrimaryObjRefValue(
+      TaskSummary task, Function<ObjectReference, String> getter) {
+    return task.getPrimaryObjRef() == null ? null : getter.apply(task.getPrimaryObjRef());
+  }
+
   private TaskQuery addOrderCriteria(String columnName, SortDirection sortDirection) {
     String orderByDirection =
         " " + (sortDirection == null ? SortDirection.ASCENDING : sortDirection);
@@ -1698,6 +2017,10 @@ public class TaskQueryImpl implements TaskQuery {
         + orderBy
         + ", orderColumns="
         + orderColumns
+        + ", seekColumns="
+        + seekColumns
+        + ", projection="
+        + projection
         + ", columnName="
         + columnName
         + ", nameIn="
@@ -1872,6 +2195,8 @@ public class TaskQueryImpl implements TaskQuery {
         + Arrays.toString(attachmentReceivedIn)
         + ", accessIdIn="
         + Arrays.toString(accessIdIn)
+        + ", readableWorkbasketIds="
+        + readableWorkbasketIds
         + ", filterByAccessIdIn="
         + filterByAccessIdIn
         + ", createdIn="
@@ -1892,6 +2217,8 @@ public class TaskQueryImpl implements TaskQuery {
         + wildcardSearchValueLike
         + ", selectAndClaim="
         + selectAndClaim
+        + ", selectAndClaimLimit="
+        + selectAndClaimLimit
         + ", useDistinctKeyword="
         + useDistinctKeyword
         + ", joinWithAttachments="
@@ -1912,4 +2239,38 @@ public class TaskQueryImpl implements TaskQuery {
         + addWorkbasketNameToSelectClauseForOrdering
         + "]";
   }
+
+  /**
+   * Groups the elements of an iterator into consecutive lists of a fixed size. Only one window is
+   * read from the underlying iterator at a time.
+   *
+   * @param <T> the type of the elements
+   */
+  private static class WindowIterator<T> implements Iterator<List<T>> {
+
+    private final Iterator<T> source;
+    private final int windowSize;
+
+    WindowIterator(Iterator<T> source, int windowSize) {
+      this.source = source;
+      this.windowSize = Math.max(windowSize, 1);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return source.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+      if (!source.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<T> window = new ArrayList<>(windowSize);
+      while (window.size() < windowSize && source.hasNext()) {
+        window.add(source.next());
+      }
+      return window;
+    }
+  }
 }
@@ -13,7 +13,9 @@ public interface TaskQueryMapper {
 
   @Select(
       "<script> "
-          + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
+          + "SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> "
+          + "<choose><when test='projection != null'><foreach item='item' collection='projection' separator=', ' >${item}</foreach> </when><otherwise>"
+          + "t.ID, t.EXTERNAL_ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.CREATOR, t.DESCRIPTION, t.NOTE, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, "
           + "t.CLASSIFICATION_CATEGORY, t.CLASSIFICATION_ID, t.WORKBASKET_ID, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, "
           + "t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.CUSTOM_11, t.CUSTOM_12, t.CUSTOM_13, t.CUSTOM_14, "
           + "t.CUSTOM_15, t.CUSTOM_16"
@@ -29,6 +31,7 @@ public interface TaskQueryMapper {
           + "<if test=\"addWorkbasketNameToSelectClauseForOrdering\">"
           + ", w.NAME "
           + "</if>"
+          + "</otherwise></choose>"
           + "FROM TASK t "
           + "<if test=\"joinWithAttachments\">"
           + "LEFT JOIN ATTACHMENT AS a ON t.ID = a.TASK_ID "
@@ -43,12 +46,17 @@ public interface TaskQueryMapper {
           + "LEFT JOIN WORKBASKET AS w ON t.WORKBASKET_ID = w.ID "
           + "</if>"
           + "<where>"
-          + "<if test='accessIdIn != null'> "
+          + "<choose>"
+          + "<when test='readableWorkbasketIds != null'>"
+          + "AND t.WORKBASKET_ID IN (<foreach item='item' collection='readableWorkbasketIds' separator=',' >#{item}</foreach>) "
+          + "</when>"
+          + "<when test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
           + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
           + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
           + "group by WORKBASKET_ID ) AS f where max_read = 1 ) "
-          + "</if> "
+          + "</when>"
+          + "</choose>"
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdLike != null'>AND (<foreach item='item' collection='externalIdLike' separator=' OR '>UPPER(t.EXTERNAL_ID) LIKE #{item}</foreach>)</if> "
@@ -148,10 +156,17 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "<if test='wildcardSearchValueLike != null and wildcardSearchFieldIn != null'>AND (<foreach item='item' collection='wildcardSearchFieldIn' separator=' OR '>t.${item} LIKE #{wildcardSearchValueLike}</foreach>)</if> "
           + "<if test='selectAndClaim == true'> AND t.STATE = 'READY' </if>"
+          + "<if test='seekColumns != null'>AND (<foreach item='item' index='seekIndex' collection='seekColumns' separator=' OR '>("
+          + "<foreach item='previous' index='previousIndex' collection='seekColumns'><if test='previousIndex &lt; seekIndex'>${previous.column} <choose><when test='previous.value == null'>IS NULL</when><otherwise>= #{previous.value}</otherwise></choose> AND </if></foreach>"
+          + "<choose><when test='item.value == null and item.nullsFirst'>${item.column} IS NOT NULL</when><when test='item.value == null'>1 = 0</when>"
+          + "<otherwise>(${item.column} ${item.comparator} #{item.value}<if test='!item.nullsFirst'> OR ${item.column} IS NULL</if>)</otherwise></choose>"
+          + ")</foreach>)</if> "
           + "</where>"
           + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
-          + "<if test='selectAndClaim == true'> FETCH FIRST ROW ONLY FOR UPDATE </if>"
-          + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS </if> "
+          + "<if test='selectAndClaim == true'> FETCH FIRST ${selectAndClaimLimit} ROWS ONLY FOR UPDATE "
+          + "<if test=\"_databaseId == 'postgres'\">SKIP LOCKED </if>"
+          + "</if>"
+          + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS <if test='selectAndClaim == true'>SKIP LOCKED DATA </if></if> "
           + "</script>")
   @Result(property = "id", column = "ID")
   @Result(property = "externalId", column = "EXTERNAL_ID")
@@ -349,6 +364,11 @@ public interface TaskQueryMapper {
           + "<if test='attachmentReferenceLike != null'>AND (<foreach item='item' collection='attachmentReferenceLike' separator=' OR '>UPPER(a.REF_VALUE) LIKE #{item}</foreach>)</if> "
           + "<if test='attachmentReceivedIn !=null'> AND ( <foreach item='item' collection='attachmentReceivedIn' separator=' OR ' > ( <if test='item.begin!=null'> a.RECEIVED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> a.RECEIVED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "<if test='wildcardSearchValueLike != null and wildcardSearchFieldIn != null'>AND (<foreach item='item' collection='wildcardSearchFieldIn' separator=' OR '>t.${item} LIKE #{wildcardSearchValueLike}</foreach>)</if> "
+          + "<if test='seekColumns != null'>AND (<foreach item='item' index='seekIndex' collection='seekColumns' separator=' OR '>("
+          + "<foreach item='previous' index='previousIndex' collection='seekColumns'><if test='previousIndex &lt; seekIndex'>${previous.column} <choose><when test='previous.value == null'>IS NULL</when><otherwise>= #{previous.value}</otherwise></choose> AND </if></foreach>"
+          + "<choose><when test='item.value == null and item.nullsFirst'>${item.column} IS NOT NULL</when><when test='item.value == null'>1 = 0</when>"
+          + "<otherwise>(${item.column} ${item.comparator} #{item.value}<if test='!item.nullsFirst'> OR ${item.column} IS NULL</if>)</otherwise></choose>"
+          + ")</foreach>)</if> "
           + "</where> "
           + "), Y (ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, TCLASSIFICATION_KEY, "
           + " CLASSIFICATION_CATEGORY, CLASSIFICATION_ID, WORKBASKET_ID, DOMAIN, WORKBASKET_KEY, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, "
@@ -498,12 +518,17 @@ public interface TaskQueryMapper {
           + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
           + "</if>"
           + "<where>"
-          + "<if test='accessIdIn != null'> "
+          + "<choose>"
+          + "<when test='readableWorkbasketIds != null'>"
+          + "AND t.WORKBASKET_ID IN (<foreach item='item' collection='readableWorkbasketIds' separator=',' >#{item}</foreach>) "
+          + "</when>"
+          + "<when test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
           + "select WID from (select WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
           + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
           + "group by WORKBASKET_ID ) AS f where max_read = 1 ) "
-          + "</if> "
+          + "</when>"
+          + "</choose>"
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdLike != null'>AND (<foreach item='item' collection='externalIdLike' separator=' OR '>UPPER(t.EXTERNAL_ID) LIKE #{item}</foreach>)</if> "
@@ -740,12 +765,17 @@ public interface TaskQueryMapper {
           + "LEFT JOIN CLASSIFICATION AS ac ON a.CLASSIFICATION_ID = ac.ID "
           + "</if>"
           + "<where>"
-          + "<if test='accessIdIn != null'> "
+          + "<choose>"
+          + "<when test='readableWorkbasketIds != null'>"
+          + "AND t.WORKBASKET_ID IN (<foreach item='item' collection='readableWorkbasketIds' separator=',' >#{item}</foreach>) "
+          + "</when>"
+          + "<when test='accessIdIn != null'> "
           + "AND t.WORKBASKET_ID IN ( "
           + "select WID from (select WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST where "
           + "ACCESS_ID IN (<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
           + "group by WORKBASKET_ID ) where max_read = 1 ) "
-          + "</if> "
+          + "</when>"
+          + "</choose>"
           + "<if test='taskIds != null'>AND t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdIn != null'>AND t.EXTERNAL_ID IN(<foreach item='item' collection='externalIdIn' separator=',' >#{item}</foreach>)</if> "
           + "<if test='externalIdLike != null'>AND (<foreach item='item' collection='externalIdLike' separator=' OR '>UPPER(t.EXTERNAL_ID) LIKE #{item}</foreach>)</if> "
@@ -1,18 +1,24 @@
 package pro.taskana.task.internal;
 
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -25,6 +31,7 @@ import pro.taskana.classification.api.exceptions.ClassificationNotFoundException
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -49,6 +56,7 @@ import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
@@ -82,6 +90,11 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class TaskServiceImpl implements TaskService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  // number of tasks which are inserted with one statement by createTasks
+  private static final int CREATE_TASKS_BATCH_SIZE = 100;
+  private static final int MAX_STATE_CHANGE_ATTEMPTS = 3;
+  private static final List<TaskState> STATES_BEFORE_STATE_CHANGE =
+      Arrays.asList(TaskState.READY, TaskState.CLAIMED);
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketService workbasketService;
@@ -117,42 +130,63 @@ public class TaskServiceImpl implements TaskService {
   public Task claim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return claim(taskId, false);
+    return claim(taskId, false, true);
   }
 
   @Override
   public Task forceClaim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return claim(taskId, true);
+    return claim(taskId, true, true);
   }
 
   @Override
   public Task cancelClaim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return this.cancelClaim(taskId, false);
+    return this.cancelClaim(taskId, false, true);
   }
 
   @Override
   public Task forceCancelClaim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return this.cancelClaim(taskId, true);
+    return this.cancelClaim(taskId, true, true);
   }
 
   @Override
   public Task completeTask(String taskId)
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException {
-    return completeTask(taskId, false);
+    return completeTask(taskId, false, true);
   }
 
   @Override
   public Task forceCompleteTask(String taskId)
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException {
-    return completeTask(taskId, true);
+    return completeTask(taskId, true, true);
+  }
+
+  @Override
+  public void claimWithoutResult(String taskId, boolean force)
+      throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
+          NotAuthorizedException {
+    claim(taskId, force, false);
+  }
+
+  @Override
+  public void cancelClaimWithoutResult(String taskId, boolean force)
+      throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
+          NotAuthorizedException {
+    cancelClaim(taskId, force, false);
+  }
+
+  @Override
+  public void completeTaskWithoutResult(String taskId, boolean force)
+      throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
+          NotAuthorizedException {
+    completeTask(taskId, force, false);
   }
 
   @Override
@@ -169,68 +203,20 @@ public class TaskServiceImpl implements TaskService {
 
     try {
       taskanaEngine.openConnection();
-
-      if (task.getId() != null && !task.getId().equals("")) {
-        throw new TaskAlreadyExistException(task.getId());
-      }
-
-      LOGGER.debug("Task {} cannot be found, so it can be created.", task.getId());
-      Workbasket workbasket;
-
-      if (task.getWorkbasketSummary().getId() != null) {
-        workbasket = workbasketService.getWorkbasket(task.getWorkbasketSummary().getId());
-      } else if (task.getWorkbasketKey() != null) {
-        workbasket = workbasketService.getWorkbasket(task.getWorkbasketKey(), task.getDomain());
-      } else {
-        String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
-        if (workbasketId != null) {
-          workbasket = workbasketService.getWorkbasket(workbasketId);
-          task.setWorkbasketSummary(workbasket.asSummary());
-        } else {
-          throw new InvalidArgumentException("Cannot create a task outside a workbasket");
-        }
-      }
-
-      if (workbasket.isMarkedForDeletion()) {
-        throw new WorkbasketNotFoundException(
-            workbasket.getId(),
-            "The workbasket " + workbasket.getId() + " was marked for deletion");
-      }
-
-      task.setWorkbasketSummary(workbasket.asSummary());
-      task.setDomain(workbasket.getDomain());
-
-      workbasketService.checkAuthorization(
-          task.getWorkbasketSummary().getId(), WorkbasketPermission.APPEND);
-
-      // we do use the key and not the ID to make sure that we use the classification from the right
-      // domain.
-      // otherwise we would have to check the classification and its domain for validity.
-      String classificationKey = task.getClassificationKey();
-      if (classificationKey == null || classificationKey.length() == 0) {
-        throw new InvalidArgumentException("classificationKey of task must not be empty");
+      prepareTaskForCreation(task, new TaskCreationLookups());
+      try {
+        attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
+      } catch (AttachmentPersistenceException e) {
+        throw new SystemException(
+            "Internal error when trying to insert new Attachments on Task Creation.", e);
       }
-
-      Classification classification =
-          this.classificationService.getClassification(classificationKey, workbasket.getDomain());
-      task.setClassificationSummary(classification.asSummary());
-      ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
-      standardSettings(task, classification);
-      setCallbackStateOnTaskCreation(task);
       try {
         this.taskMapper.insert(task);
+        taskanaEngine
+            .getReportAggregateStore()
+            .recordChanges(Collections.emptyList(), Collections.singletonList(task.getId()));
         LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
-        if (HistoryEventManager.isHistoryEnabled()) {
-
-          String details =
-              ObjectAttributeChangeDetector.determineChangesInAttributes(newTask(), task);
-          historyEventManager.createEvent(
-              new TaskCreatedEvent(
-                  IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
-                  task,
-                  taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
-                  details));
-        }
+        createTaskCreatedEvent(task);
       } catch (PersistenceException e) {
         // Error messages:
         // Postgres: ERROR: duplicate key value violates unique constraint "uc_external_id"
@@ -253,10 +239,7 @@ public class TaskServiceImpl implements TaskService {
         // Error: SQLCODE=-803, SQLSTATE=23505, SQLERRMC=2;TASKANA.TASK, DRIVER=4.22.29
         // H2:   ### Error updating database.  Cause: org.h2.jdbc.JdbcSQLException: Unique index or
         // primary key violation: "UC_EXTERNAL_ID_INDEX_2 ON TASKANA.TASK(EXTERNAL_ID) ...
-        String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
-        if (msg != null
-            && (msg.contains("violation") || msg.contains("violates") || msg.contains("verletzt"))
-            && msg.contains("external_id")) {
+        if (isExternalIdViolation(e)) {
           throw new TaskAlreadyExistException(
               "Task with external id " + task.getExternalId() + " already exists");
         } else {
@@ -270,6 +253,50 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException {
+    LOGGER.debug("entry to createTasks(tasks = {})", tasksToCreate);
+    if (tasksToCreate == null) {
+      throw new InvalidArgumentException("List of tasks must not be null.");
+    }
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    try {
+      taskanaEngine.openConnection();
+      TaskCreationLookups lookups = new TaskCreationLookups();
+      Map<String, TaskImpl> preparedTasks = new LinkedHashMap<>();
+      for (Task taskToCreate : tasksToCreate) {
+        if (CreateTaskPreprocessorManager.isCreateTaskPreprocessorEnabled()) {
+          taskToCreate = createTaskPreprocessorManager.processTaskBeforeCreation(taskToCreate);
+        }
+        TaskImpl task = (TaskImpl) taskToCreate;
+        // the external id identifies the task in the result, so it is needed before validation
+        if (task.getExternalId() == null) {
+          task.setExternalId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_EXT_TASK));
+        }
+        try {
+          if (preparedTasks.containsKey(task.getExternalId())) {
+            throw new TaskAlreadyExistException(
+                "Task with external id " + task.getExternalId() + " already exists");
+          }
+          prepareTaskForCreation(task, lookups);
+          preparedTasks.put(task.getExternalId(), task);
+        } catch (TaskanaException e) {
+          bulkLog.addError(task.getExternalId(), e);
+        }
+      }
+
+      for (List<TaskImpl> batch :
+          CollectionUtil.partitionBasedOnSize(preparedTasks.values(), CREATE_TASKS_BATCH_SIZE)) {
+        insertTasks(batch, bulkLog);
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from createTasks(), returning {}", bulkLog);
+    }
+  }
+
   @Override
   public Task getTask(String id) throws NotAuthorizedException, TaskNotFoundException {
     LOGGER.debug("entry to getTaskById(id = {})", id);
@@ -279,46 +306,7 @@ public class TaskServiceImpl implements TaskService {
 
       resultTask = taskMapper.findById(id);
       if (resultTask != null) {
-        WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
-        query.setUsedToAugmentTasks(true);
-        String workbasketId = resultTask.getWorkbasketSummary().getId();
-        List<WorkbasketSummary> workbaskets = query.idIn(workbasketId).list();
-        if (workbaskets.isEmpty()) {
-          String currentUser = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
-          throw new NotAuthorizedException(
-              "The current user "
-                  + currentUser
-                  + " has no read permission for workbasket "
-                  + workbasketId,
-              taskanaEngine.getEngine().getCurrentUserContext().getUserid());
-        } else {
-          resultTask.setWorkbasketSummary(workbaskets.get(0));
-        }
-
-        List<AttachmentImpl> attachmentImpls =
-            attachmentMapper.findAttachmentsByTaskId(resultTask.getId());
-        if (attachmentImpls == null) {
-          attachmentImpls = new ArrayList<>();
-        }
-
-        List<ClassificationSummary> classifications;
-        classifications = findClassificationForTaskImplAndAttachments(resultTask, attachmentImpls);
-        List<Attachment> attachments =
-            addClassificationSummariesToAttachments(attachmentImpls, classifications);
-        resultTask.setAttachments(attachments);
-
-        String classificationId = resultTask.getClassificationSummary().getId();
-        ClassificationSummary classification =
-            classifications.stream()
-                .filter(c -> c.getId().equals(classificationId))
-                .findFirst()
-                .orElse(null);
-        if (classification == null) {
-          throw new SystemException(
-              "Could not find a Classification for task " + resultTask.getId());
-        }
-
-        resultTask.setClassificationSummary(classification);
+        addSummariesToTask(resultTask);
         return resultTask;
       } else {
         throw new TaskNotFoundException(id, String.format("Task with id %s was not found.", id));
@@ -418,6 +406,9 @@ public class TaskServiceImpl implements TaskService {
       oldTaskImpl = (TaskImpl) getTask(newTaskImpl.getId());
 
       checkConcurrencyAndSetModified(newTaskImpl, oldTaskImpl);
+      List<String> taskIds = Collections.singletonList(newTaskImpl.getId());
+      final List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(taskIds);
 
       attachmentHandler.insertAndDeleteAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
       ObjectReference.validate(newTaskImpl.getPrimaryObjRef(), "primary ObjectReference", "Task");
@@ -425,6 +416,7 @@ public class TaskServiceImpl implements TaskService {
       standardUpdateActions(oldTaskImpl, newTaskImpl);
 
       taskMapper.update(newTaskImpl);
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
 
       LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
 
@@ -507,6 +499,40 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public List<Task> selectAndClaim(TaskQuery taskQuery, int maxCount)
+      throws InvalidArgumentException, NotAuthorizedException, InvalidOwnerException {
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("entry to selectAndClaim(taskQuery = {}, maxCount = {})", taskQuery, maxCount);
+    }
+
+    if (maxCount < 1) {
+      throw new InvalidArgumentException("maxCount must be greater than 0, but was " + maxCount);
+    }
+
+    List<Task> claimedTasks = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+
+      ((TaskQueryImpl) taskQuery).selectAndClaimEquals(true);
+      ((TaskQueryImpl) taskQuery).selectAndClaimLimit(maxCount);
+
+      for (TaskSummary taskSummary : taskQuery.list()) {
+        claimedTasks.add(claim(taskSummary.getId()));
+      }
+      return claimedTasks;
+
+    } catch (InvalidStateException | TaskNotFoundException e) {
+      throw new SystemException("Caught exception ", e);
+    } finally {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("exit from selectAndClaim(). Returning {} claimed tasks", claimedTasks.size());
+      }
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public BulkOperationResults<String, TaskanaException> deleteTasks(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
@@ -537,8 +563,11 @@ public class TaskServiceImpl implements TaskService {
       }
 
       if (!taskIds.isEmpty()) {
+        List<ReportAggregate> aggregatesBefore =
+            taskanaEngine.getReportAggregateStore().capture(taskIds);
         attachmentMapper.deleteMultipleByTaskIds(taskIds);
         taskMapper.deleteMultiple(taskIds);
+        taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
 
         if (taskanaEngine.getEngine().isHistoryEnabled()
             && taskanaEngine
@@ -839,6 +868,40 @@ public class TaskServiceImpl implements TaskService {
     return terminatedTask;
   }
 
+  /**
+   * Finds the ids of the tasks which were completed before the given instant, ordered by id. If
+   * allCompletedSameParentBusiness is set, tasks of a parent business process are only found if
+   * all tasks of that parent business process were completed before the given instant.
+   *
+   * @param completedBefore the instant before which the tasks were completed
+   * @param allCompletedSameParentBusiness whether all tasks of the parent business process must
+   *     be completed
+   * @param afterTaskId only ids greater than this id are returned, if not null
+   * @param maxCount the maximal number of ids to return
+   * @return the ids of the found tasks
+   */
+  public List<String> findTaskIdsCompletedBefore(
+      Instant completedBefore,
+      boolean allCompletedSameParentBusiness,
+      String afterTaskId,
+      int maxCount) {
+    LOGGER.debug(
+        "entry to findTaskIdsCompletedBefore(completedBefore = {}, "
+            + "allCompletedSameParentBusiness = {}, afterTaskId = {}, maxCount = {})",
+        completedBefore,
+        allCompletedSameParentBusiness,
+        afterTaskId,
+        maxCount);
+    try {
+      taskanaEngine.openConnection();
+      return taskMapper.findTaskIdsCompletedBefore(
+          completedBefore, allCompletedSameParentBusiness, afterTaskId, maxCount);
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from findTaskIdsCompletedBefore()");
+    }
+  }
+
   public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
     LOGGER.debug(
         "entry to findTasksIdsAffectedByClassificationChange(classificationId = {})",
@@ -848,6 +911,7 @@ public class TaskServiceImpl implements TaskService {
         createTaskQuery()
             .classificationIdIn(classificationId)
             .stateIn(TaskState.READY, TaskState.CLAIMED)
+            .select(TaskQueryColumnName.PLANNED)
             .list();
 
     // tasks indirectly affected via attachments
@@ -1026,12 +1090,15 @@ public class TaskServiceImpl implements TaskService {
     List<AttachmentSummaryImpl> attachmentSummaries =
         attachmentMapper.findAttachmentSummariesByTaskIds(taskIds);
 
-    List<ClassificationSummary> classifications =
-        findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries);
+    // index all fetched summaries by id once, so that joining them with the task summaries
+    // stays linear in the number of tasks instead of scanning the fetched lists per task.
+    Map<String, ClassificationSummary> classificationsById =
+        mapClassificationsById(
+            findClassificationsForTasksAndAttachments(taskSummaries, attachmentSummaries));
 
-    addClassificationSummariesToTaskSummaries(taskSummaries, classifications);
+    addClassificationSummariesToTaskSummaries(taskSummaries, classificationsById);
     addWorkbasketSummariesToTaskSummaries(taskSummaries);
-    addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classifications);
+    addAttachmentSummariesToTaskSummaries(taskSummaries, attachmentSummaries, classificationsById);
 
     return taskSummaries;
   }
@@ -1082,8 +1149,9 @@ public class TaskServiceImpl implements TaskService {
   private Stream<TaskSummaryImpl> filterNotExistingTaskIds(
       List<String> taskIds, BulkOperationResults<String, TaskanaException> bulkLog) {
 
+    // the preconditions and the history events of the completion need the complete summaries
     Map<String, TaskSummaryImpl> taskSummaryMap =
-        getTasksToChange(taskIds).stream()
+        createTaskQuery().idIn(taskIds.toArray(new String[0])).list().stream()
             .collect(Collectors.toMap(TaskSummary::getId, TaskSummaryImpl.class::cast));
     return taskIds.stream()
         .map(id -> Pair.of(id, taskSummaryMap.get(id)))
@@ -1144,11 +1212,15 @@ public class TaskServiceImpl implements TaskService {
           String.format("Task with Id %s is already in an end state.", taskId));
     }
 
+    List<String> taskIds = Collections.singletonList(taskId);
+    final List<ReportAggregate> aggregatesBefore =
+        taskanaEngine.getReportAggregateStore().capture(taskIds);
     Instant now = Instant.now();
     task.setModified(now);
     task.setCompleted(now);
     task.setState(targetState);
     taskMapper.update(task);
+    taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
     LOGGER.debug(
         "Task '{}' cancelled by user '{}'.",
         taskId,
@@ -1180,7 +1252,7 @@ public class TaskServiceImpl implements TaskService {
     return bulkLog;
   }
 
-  private Task claim(String taskId, boolean forceClaim)
+  private Task claim(String taskId, boolean forceClaim, boolean loadTask)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
     String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
@@ -1189,13 +1261,19 @@ public class TaskServiceImpl implements TaskService {
     TaskImpl task;
     try {
       taskanaEngine.openConnection();
-      task = (TaskImpl) getTask(taskId);
-      Instant now = Instant.now();
-
-      checkPreconditionsForClaimTask(task, forceClaim);
-      claimActionsOnTask(task, userId, now);
-      taskMapper.update(task);
+      for (int attempt = 1; ; attempt++) {
+        task = getTaskForStateChange(taskId);
+        final Instant expectedModified = task.getModified();
+        checkPreconditionsForClaimTask(task, forceClaim);
+        claimActionsOnTask(task, userId, Instant.now());
+        if (updateTaskState(task, expectedModified, attempt)) {
+          break;
+        }
+      }
       LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
+      if (loadTask || HistoryEventManager.isHistoryEnabled()) {
+        addSummariesToTask(task);
+      }
       if (HistoryEventManager.isHistoryEnabled()) {
         historyEventManager.createEvent(
             new TaskClaimedEvent(
@@ -1210,6 +1288,84 @@ public class TaskServiceImpl implements TaskService {
     return task;
   }
 
+  // loads the task row without its summaries and checks that the current user may read it.
+  // Admins and task admins may read every task, just like in getTask()
+  private TaskImpl getTaskForStateChange(String taskId)
+      throws TaskNotFoundException, NotAuthorizedException {
+    TaskImpl task = taskMapper.findById(taskId);
+    if (task == null) {
+      throw new TaskNotFoundException(
+          taskId, String.format("Task with id %s was not found.", taskId));
+    }
+    if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)) {
+      String workbasketId = task.getWorkbasketSummary().getId();
+      try {
+        workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.READ);
+      } catch (WorkbasketNotFoundException e) {
+        throw new SystemException(
+            String.format("Could not find workbasket %s of task %s", workbasketId, taskId), e);
+      }
+    }
+    return task;
+  }
+
+  // writes the new state of the task unless it was modified since it was read.
+  // Returns false if the state change has to be retried with a freshly read task
+  private boolean updateTaskState(TaskImpl task, Instant expectedModified, int attempt) {
+    List<String> taskIds = Collections.singletonList(task.getId());
+    List<ReportAggregate> aggregatesBefore =
+        taskanaEngine.getReportAggregateStore().capture(taskIds);
+    if (taskMapper.updateState(task, expectedModified, STATES_BEFORE_STATE_CHANGE) == 1) {
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
+      return true;
+    }
+    if (attempt >= MAX_STATE_CHANGE_ATTEMPTS) {
+      throw new SystemException(
+          String.format(
+              "Task %s was modified concurrently %d times while changing its state.",
+              task.getId(), attempt));
+    }
+    LOGGER.debug("Task '{}' was modified concurrently. Retrying the state change.", task.getId());
+    return false;
+  }
+
+  private void addSummariesToTask(TaskImpl task) throws NotAuthorizedException {
+    WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+    query.setUsedToAugmentTasks(true);
+    String workbasketId = task.getWorkbasketSummary().getId();
+    List<WorkbasketSummary> workbaskets = query.idIn(workbasketId).list();
+    if (workbaskets.isEmpty()) {
+      String currentUser = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+      throw new NotAuthorizedException(
+          "The current user "
+              + currentUser
+              + " has no read permission for workbasket "
+              + workbasketId,
+          taskanaEngine.getEngine().getCurrentUserContext().getUserid());
+    } else {
+      task.setWorkbasketSummary(workbaskets.get(0));
+    }
+
+    List<AttachmentImpl> attachmentImpls = attachmentMapper.findAttachmentsByTaskId(task.getId());
+    if (attachmentImpls == null) {
+      attachmentImpls = new ArrayList<>();
+    }
+
+    Map<String, ClassificationSummary> classificationsById =
+        mapClassificationsById(findClassificationForTaskImplAndAttachments(task, attachmentImpls));
+    List<Attachment> attachments =
+        addClassificationSummariesToAttachments(attachmentImpls, classificationsById);
+    task.setAttachments(attachments);
+
+    ClassificationSummary classification =
+        classificationsById.get(task.getClassificationSummary().getId());
+    if (classification == null) {
+      throw new SystemException("Could not find a Classification for task " + task.getId());
+    }
+
+    task.setClassificationSummary(classification);
+  }
+
   private static void claimActionsOnTask(TaskSummaryImpl task, String userId, Instant now) {
     task.setOwner(userId);
     task.setModified(now);
@@ -1274,7 +1430,7 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
-  private Task cancelClaim(String taskId, boolean forceUnclaim)
+  private Task cancelClaim(String taskId, boolean forceUnclaim, boolean loadTask)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
     String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
@@ -1286,24 +1442,32 @@ public class TaskServiceImpl implements TaskService {
     TaskImpl task;
     try {
       taskanaEngine.openConnection();
-      task = (TaskImpl) getTask(taskId);
-      TaskState state = task.getState();
-      if (state.isEndState()) {
-        throw new InvalidStateException(
-            String.format("Task with Id %s is already in an end state.", taskId));
-      }
-      if (state == TaskState.CLAIMED && !forceUnclaim && !userId.equals(task.getOwner())) {
-        throw new InvalidOwnerException(
-            String.format("Task with id %s is already claimed by %s.", taskId, task.getOwner()));
+      for (int attempt = 1; ; attempt++) {
+        task = getTaskForStateChange(taskId);
+        final Instant expectedModified = task.getModified();
+        TaskState state = task.getState();
+        if (state.isEndState()) {
+          throw new InvalidStateException(
+              String.format("Task with Id %s is already in an end state.", taskId));
+        }
+        if (state == TaskState.CLAIMED && !forceUnclaim && !userId.equals(task.getOwner())) {
+          throw new InvalidOwnerException(
+              String.format(
+                  "Task with id %s is already claimed by %s.", taskId, task.getOwner()));
+        }
+        task.setOwner(null);
+        task.setModified(Instant.now());
+        task.setClaimed(null);
+        task.setRead(true);
+        task.setState(TaskState.READY);
+        if (updateTaskState(task, expectedModified, attempt)) {
+          break;
+        }
       }
-      Instant now = Instant.now();
-      task.setOwner(null);
-      task.setModified(now);
-      task.setClaimed(null);
-      task.setRead(true);
-      task.setState(TaskState.READY);
-      taskMapper.update(task);
       LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
+      if (loadTask || HistoryEventManager.isHistoryEnabled()) {
+        addSummariesToTask(task);
+      }
       if (HistoryEventManager.isHistoryEnabled()) {
         historyEventManager.createEvent(
             new TaskClaimCancelledEvent(
@@ -1318,33 +1482,52 @@ public class TaskServiceImpl implements TaskService {
     return task;
   }
 
-  private Task completeTask(String taskId, boolean isForced)
+  private Task completeTask(String taskId, boolean isForced, boolean loadTask)
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException {
     String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
     LOGGER.debug(
         "entry to completeTask(id = {}, userId = {}, isForced = {})", taskId, userId, isForced);
     TaskImpl task;
+    boolean claimedForCompletion;
     try {
       taskanaEngine.openConnection();
-      task = (TaskImpl) this.getTask(taskId);
-
-      if (task.getState() == TaskState.COMPLETED) {
-        return task;
-      }
-
-      checkIfTaskIsTerminatedOrCancelled(task);
-
-      if (!isForced) {
-        checkPreconditionsForCompleteTask(task);
-      } else if (taskIsNotClaimed(task)) {
-        task = (TaskImpl) this.forceClaim(taskId);
+      for (int attempt = 1; ; attempt++) {
+        task = getTaskForStateChange(taskId);
+        if (task.getState() == TaskState.COMPLETED) {
+          if (loadTask) {
+            addSummariesToTask(task);
+          }
+          return task;
+        }
+        final Instant expectedModified = task.getModified();
+        checkIfTaskIsTerminatedOrCancelled(task);
+
+        Instant now = Instant.now();
+        claimedForCompletion = false;
+        if (!isForced) {
+          checkPreconditionsForCompleteTask(task);
+        } else if (taskIsNotClaimed(task)) {
+          checkPreconditionsForClaimTask(task, true);
+          claimActionsOnTask(task, userId, now);
+          claimedForCompletion = true;
+        }
+        completeActionsOnTask(task, userId, now);
+        if (updateTaskState(task, expectedModified, attempt)) {
+          break;
+        }
       }
-
-      Instant now = Instant.now();
-      completeActionsOnTask(task, userId, now);
-      taskMapper.update(task);
       LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
+      if (loadTask || HistoryEventManager.isHistoryEnabled()) {
+        addSummariesToTask(task);
+      }
+      if (HistoryEventManager.isHistoryEnabled() && claimedForCompletion) {
+        historyEventManager.createEvent(
+            new TaskClaimedEvent(
+                IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                task,
+                taskanaEngine.getEngine().getCurrentUserContext().getUserid()));
+      }
       if (HistoryEventManager.isHistoryEnabled()) {
         historyEventManager.createEvent(
             new TaskCompletedEvent(
@@ -1380,8 +1563,13 @@ public class TaskServiceImpl implements TaskService {
                 taskId));
       }
 
+      List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(Collections.singletonList(taskId));
       attachmentMapper.deleteMultipleByTaskIds(Collections.singletonList(taskId));
       taskMapper.delete(taskId);
+      taskanaEngine
+          .getReportAggregateStore()
+          .recordChanges(aggregatesBefore, Collections.singletonList(taskId));
 
       if (taskanaEngine.getEngine().isHistoryEnabled()
           && taskanaEngine.getEngine().getConfiguration().isDeleteHistoryOnTaskDeletionEnabled()) {
@@ -1495,6 +1683,184 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  private void insertTasks(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    List<String> externalIds =
+        tasks.stream().map(TaskImpl::getExternalId).collect(Collectors.toList());
+    Set<String> existingExternalIds =
+        taskMapper.findExistingTasks(null, externalIds).stream()
+            .map(MinimalTaskSummary::getExternalId)
+            .collect(Collectors.toSet());
+    List<TaskImpl> newTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      if (existingExternalIds.contains(task.getExternalId())) {
+        bulkLog.addError(
+            task.getExternalId(),
+            new TaskAlreadyExistException(
+                "Task with external id " + task.getExternalId() + " already exists"));
+      } else {
+        newTasks.add(task);
+      }
+    }
+    if (newTasks.isEmpty()) {
+      return;
+    }
+    List<TaskImpl> createdTasks = newTasks;
+    Savepoint savepoint = setSavepoint();
+    try {
+      taskMapper.insertTasks(newTasks);
+      attachmentHandler.insertNewAttachmentsOnTasksCreation(newTasks);
+      releaseSavepoint(savepoint);
+    } catch (PersistenceException e) {
+      LOGGER.debug("Inserting the batch failed, inserting its tasks one by one.", e);
+      rollbackToSavepoint(savepoint);
+      createdTasks = insertTasksOneByOne(newTasks, bulkLog);
+    }
+    if (createdTasks.isEmpty()) {
+      return;
+    }
+    taskanaEngine
+        .getReportAggregateStore()
+        .recordChanges(
+            Collections.emptyList(),
+            createdTasks.stream().map(TaskImpl::getId).collect(Collectors.toList()));
+    LOGGER.debug("Method createTasks() created {} Tasks.", createdTasks.size());
+    createdTasks.forEach(this::createTaskCreatedEvent);
+  }
+
+  // every task is inserted within a savepoint, so a failing task doesn't abort the transaction
+  private List<TaskImpl> insertTasksOneByOne(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    List<TaskImpl> createdTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      Savepoint savepoint = setSavepoint();
+      try {
+        taskMapper.insert(task);
+      } catch (PersistenceException e) {
+        rollbackToSavepoint(savepoint);
+        bulkLog.addError(
+            task.getExternalId(),
+            isExternalIdViolation(e)
+                ? new TaskAlreadyExistException(
+                    "Task with external id " + task.getExternalId() + " already exists")
+                : new InvalidArgumentException(
+                    "Task with external id " + task.getExternalId() + " could not be inserted",
+                    e));
+        continue;
+      }
+      try {
+        attachmentHandler.insertNewAttachmentsOnTasksCreation(Collections.singletonList(task));
+      } catch (PersistenceException e) {
+        rollbackToSavepoint(savepoint);
+        bulkLog.addError(
+            task.getExternalId(),
+            new AttachmentPersistenceException(
+                "The attachments of task with external id "
+                    + task.getExternalId()
+                    + " could not be inserted",
+                e));
+        continue;
+      }
+      releaseSavepoint(savepoint);
+      createdTasks.add(task);
+    }
+    return createdTasks;
+  }
+
+  private Savepoint setSavepoint() {
+    try {
+      return taskanaEngine.getSqlSession().getConnection().setSavepoint();
+    } catch (SQLException e) {
+      throw new SystemException("Could not set a savepoint.", e);
+    }
+  }
+
+  private void rollbackToSavepoint(Savepoint savepoint) {
+    try {
+      taskanaEngine.getSqlSession().getConnection().rollback(savepoint);
+    } catch (SQLException e) {
+      throw new SystemException("Could not roll back to a savepoint.", e);
+    }
+  }
+
+  private void releaseSavepoint(Savepoint savepoint) {
+    try {
+      taskanaEngine.getSqlSession().getConnection().releaseSavepoint(savepoint);
+    } catch (SQLException e) {
+      throw new SystemException("Could not release a savepoint.", e);
+    }
+  }
+
+  private static boolean isExternalIdViolation(PersistenceException e) {
+    String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
+    return msg != null
+        && (msg.contains("violation") || msg.contains("violates") || msg.contains("verletzt"))
+        && msg.contains("external_id");
+  }
+
+  private void createTaskCreatedEvent(TaskImpl task) {
+    if (HistoryEventManager.isHistoryEnabled()) {
+      String details = ObjectAttributeChangeDetector.determineChangesInAttributes(newTask(), task);
+      historyEventManager.createEvent(
+          new TaskCreatedEvent(
+              IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+              task,
+              taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+              details));
+    }
+  }
+
+  private void prepareTaskForCreation(TaskImpl task, TaskCreationLookups lookups)
+      throws TaskAlreadyExistException, InvalidArgumentException, WorkbasketNotFoundException,
+          NotAuthorizedException, ClassificationNotFoundException {
+    if (task.getId() != null && !task.getId().equals("")) {
+      throw new TaskAlreadyExistException(task.getId());
+    }
+
+    LOGGER.debug("Task {} cannot be found, so it can be created.", task.getId());
+    Workbasket workbasket;
+
+    if (task.getWorkbasketSummary().getId() != null) {
+      workbasket = lookups.getWorkbasket(task.getWorkbasketSummary().getId());
+    } else if (task.getWorkbasketKey() != null) {
+      workbasket = lookups.getWorkbasket(task.getWorkbasketKey(), task.getDomain());
+    } else {
+      String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
+      if (workbasketId != null) {
+        workbasket = lookups.getWorkbasket(workbasketId);
+        task.setWorkbasketSummary(workbasket.asSummary());
+      } else {
+        throw new InvalidArgumentException("Cannot create a task outside a workbasket");
+      }
+    }
+
+    if (workbasket.isMarkedForDeletion()) {
+      throw new WorkbasketNotFoundException(
+          workbasket.getId(),
+          "The workbasket " + workbasket.getId() + " was marked for deletion");
+    }
+
+    task.setWorkbasketSummary(workbasket.asSummary());
+    task.setDomain(workbasket.getDomain());
+
+    lookups.checkAppendPermission(task.getWorkbasketSummary().getId());
+
+    // we do use the key and not the ID to make sure that we use the classification from the right
+    // domain.
+    // otherwise we would have to check the classification and its domain for validity.
+    String classificationKey = task.getClassificationKey();
+    if (classificationKey == null || classificationKey.length() == 0) {
+      throw new InvalidArgumentException("classificationKey of task must not be empty");
+    }
+
+    Classification classification =
+        lookups.getClassification(classificationKey, workbasket.getDomain());
+    task.setClassificationSummary(classification.asSummary());
+    ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
+    standardSettings(task, classification);
+    setCallbackStateOnTaskCreation(task);
+  }
+
   private void standardSettings(TaskImpl task, Classification classification)
       throws InvalidArgumentException {
     TaskImpl task1 = task;
@@ -1538,12 +1904,7 @@ public class TaskServiceImpl implements TaskService {
     if (task1.getDescription() == null && classification != null) {
       task1.setDescription(classification.getDescription());
     }
-    try {
-      attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
-    } catch (AttachmentPersistenceException e) {
-      throw new SystemException(
-          "Internal error when trying to insert new Attachments on Task Creation.", e);
-    }
+    attachmentHandler.initAttachmentsOnTaskCreation(task);
     LOGGER.debug("exit from standardSettings()");
   }
 
@@ -1594,10 +1955,13 @@ public class TaskServiceImpl implements TaskService {
             .orElse(null);
 
     if (!taskSummaryList.isEmpty()) {
+      List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(taskIds);
       taskMapper.updateCompleted(taskIds, taskSummaryList.get(0));
       if (!updateClaimedTaskIds.isEmpty()) {
         taskMapper.updateClaimed(updateClaimedTaskIds, claimedReference);
       }
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
       if (HistoryEventManager.isHistoryEnabled()) {
         createTasksCompletedEvents(taskSummaryList);
       }
@@ -1606,12 +1970,12 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private void addClassificationSummariesToTaskSummaries(
-      List<TaskSummaryImpl> tasks, List<ClassificationSummary> classifications) {
+      List<TaskSummaryImpl> tasks, Map<String, ClassificationSummary> classificationsById) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to addClassificationSummariesToTaskSummaries(tasks = {}, classifications = {})",
           tasks,
-          classifications);
+          classificationsById.values());
     }
 
     if (tasks == null || tasks.isEmpty()) {
@@ -1620,12 +1984,8 @@ public class TaskServiceImpl implements TaskService {
     }
     // assign query results to appropriate tasks.
     for (TaskSummaryImpl task : tasks) {
-      String classificationId = task.getClassificationSummary().getId();
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(c -> c.getId().equals(classificationId))
-              .findFirst()
-              .orElse(null);
+          classificationsById.get(task.getClassificationSummary().getId());
       if (classificationSummary == null) {
         throw new SystemException(
             "Did not find a Classification for task (Id="
@@ -1689,6 +2049,12 @@ public class TaskServiceImpl implements TaskService {
         .list();
   }
 
+  private static Map<String, ClassificationSummary> mapClassificationsById(
+      List<ClassificationSummary> classifications) {
+    return classifications.stream()
+        .collect(Collectors.toMap(ClassificationSummary::getId, Function.identity()));
+  }
+
   private void addWorkbasketSummariesToTaskSummaries(List<TaskSummaryImpl> taskSummaries) {
     LOGGER.debug("entry to addWorkbasketSummariesToTaskSummaries()");
     if (taskSummaries == null || taskSummaries.isEmpty()) {
@@ -1704,17 +2070,16 @@ public class TaskServiceImpl implements TaskService {
     WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
     query.setUsedToAugmentTasks(true);
 
-    List<WorkbasketSummary> workbaskets = query.idIn(workbasketIdArray).list();
+    Map<String, WorkbasketSummary> workbasketsById =
+        query.idIn(workbasketIdArray).list().stream()
+            .collect(Collectors.toMap(WorkbasketSummary::getId, Function.identity()));
     Iterator<TaskSummaryImpl> taskIterator = taskSummaries.iterator();
     while (taskIterator.hasNext()) {
       TaskSummaryImpl task = taskIterator.next();
       String workbasketId = task.getWorkbasketSummaryImpl().getId();
 
       WorkbasketSummary workbasketSummary =
-          workbaskets.stream()
-              .filter(x -> workbasketId != null && workbasketId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
+          workbasketId == null ? null : workbasketsById.get(workbasketId);
       if (workbasketSummary == null) {
         LOGGER.warn("Could not find a Workbasket for task {}.", task.getId());
         taskIterator.remove();
@@ -1729,14 +2094,14 @@ public class TaskServiceImpl implements TaskService {
   private void addAttachmentSummariesToTaskSummaries(
       List<TaskSummaryImpl> taskSummaries,
       List<AttachmentSummaryImpl> attachmentSummaries,
-      List<ClassificationSummary> classifications) {
+      Map<String, ClassificationSummary> classificationsById) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to addAttachmentSummariesToTaskSummaries(taskSummaries = {}, "
               + "attachmentSummaries = {}, classifications = {})",
           taskSummaries,
           attachmentSummaries,
-          classifications);
+          classificationsById.values());
     }
 
     if (taskSummaries == null || taskSummaries.isEmpty()) {
@@ -1748,14 +2113,16 @@ public class TaskServiceImpl implements TaskService {
     // the mapper sets for each Attachment summary the property classificationSummary.key from the
     // CLASSIFICATION_KEY property in the DB
     addClassificationSummariesToAttachmentSummaries(
-        attachmentSummaries, taskSummaries, classifications);
+        attachmentSummaries, taskSummaries, classificationsById);
     // assign attachment summaries to task summaries
+    Map<String, List<AttachmentSummaryImpl>> attachmentSummariesByTaskId =
+        attachmentSummaries.stream()
+            .filter(attachment -> attachment.getTaskId() != null)
+            .collect(Collectors.groupingBy(AttachmentSummaryImpl::getTaskId));
     for (TaskSummaryImpl task : taskSummaries) {
-      for (AttachmentSummaryImpl attachment : attachmentSummaries) {
-        if (attachment.getTaskId() != null && attachment.getTaskId().equals(task.getId())) {
-          task.addAttachmentSummary(attachment);
-        }
-      }
+      attachmentSummariesByTaskId
+          .getOrDefault(task.getId(), Collections.emptyList())
+          .forEach(task::addAttachmentSummary);
     }
 
     LOGGER.debug("exit from addAttachmentSummariesToTaskSummaries()");
@@ -1764,7 +2131,7 @@ public class TaskServiceImpl implements TaskService {
   private void addClassificationSummariesToAttachmentSummaries(
       List<AttachmentSummaryImpl> attachmentSummaries,
       List<TaskSummaryImpl> taskSummaries,
-      List<ClassificationSummary> classifications) {
+      Map<String, ClassificationSummary> classificationsById) {
     LOGGER.debug("entry to addClassificationSummariesToAttachmentSummaries()");
     // prereq: in each attachmentSummary, the classificationSummary.key property is set.
     if (attachmentSummaries == null
@@ -1778,10 +2145,7 @@ public class TaskServiceImpl implements TaskService {
     for (AttachmentSummaryImpl att : attachmentSummaries) {
       String classificationId = att.getClassificationSummary().getId();
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(x -> classificationId != null && classificationId.equals(x.getId()))
-              .findFirst()
-              .orElse(null);
+          classificationId == null ? null : classificationsById.get(classificationId);
       if (classificationSummary == null) {
         throw new SystemException("Could not find a Classification for attachment " + att);
       }
@@ -1791,12 +2155,13 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private List<Attachment> addClassificationSummariesToAttachments(
-      List<AttachmentImpl> attachmentImpls, List<ClassificationSummary> classifications) {
+      List<AttachmentImpl> attachmentImpls,
+      Map<String, ClassificationSummary> classificationsById) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to addClassificationSummariesToAttachments(targetWbId = {}, taskIds = {})",
           attachmentImpls,
-          classifications);
+          classificationsById.values());
     }
 
     if (attachmentImpls == null || attachmentImpls.isEmpty()) {
@@ -1808,10 +2173,7 @@ public class TaskServiceImpl implements TaskService {
     for (AttachmentImpl att : attachmentImpls) {
       // find the associated task to use the correct domain
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(c -> c != null && c.getId().equals(att.getClassificationSummary().getId()))
-              .findFirst()
-              .orElse(null);
+          classificationsById.get(att.getClassificationSummary().getId());
 
       if (classificationSummary == null) {
         throw new SystemException("Could not find a Classification for attachment " + att);
@@ -1865,7 +2227,7 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private List<TaskSummary> getTasksToChange(List<String> taskIds) {
-    return createTaskQuery().idIn(taskIds.toArray(new String[0])).list();
+    return createTaskQuery().idIn(taskIds.toArray(new String[0])).select().list();
   }
 
   private List<TaskSummary> getTasksToChange(ObjectReference selectionCriteria) {
@@ -1875,6 +2237,7 @@ public class TaskServiceImpl implements TaskService {
         .primaryObjectReferenceSystemInstanceIn(selectionCriteria.getSystemInstance())
         .primaryObjectReferenceTypeIn(selectionCriteria.getType())
         .primaryObjectReferenceValueIn(selectionCriteria.getValue())
+        .select()
         .list();
   }
 
@@ -1943,4 +2306,56 @@ public class TaskServiceImpl implements TaskService {
                     task,
                     taskanaEngine.getEngine().getCurrentUserContext().getUserid())));
   }
+
+  /**
+   * Resolves the workbaskets, permissions and classifications needed to create tasks, so that each
+   * of them is read only once per call.
+   */
+  private class TaskCreationLookups {
+
+    private final Map<String, Workbasket> workbasketsById = new HashMap<>();
+    private final Map<KeyDomain, Workbasket> workbasketsByKey = new HashMap<>();
+    private final Set<String> appendableWorkbasketIds = new HashSet<>();
+    private final Map<KeyDomain, Classification> classifications = new HashMap<>();
+
+    Workbasket getWorkbasket(String workbasketId)
+        throws WorkbasketNotFoundException, NotAuthorizedException {
+      Workbasket workbasket = workbasketsById.get(workbasketId);
+      if (workbasket == null) {
+        workbasket = workbasketService.getWorkbasket(workbasketId);
+        workbasketsById.put(workbasketId, workbasket);
+      }
+      return workbasket;
+    }
+
+    Workbasket getWorkbasket(String key, String domain)
+        throws WorkbasketNotFoundException, NotAuthorizedException {
+      KeyDomain keyDomain = new KeyDomain(key, domain);
+      Workbasket workbasket = workbasketsByKey.get(keyDomain);
+      if (workbasket == null) {
+        workbasket = workbasketService.getWorkbasket(key, domain);
+        workbasketsByKey.put(keyDomain, workbasket);
+      }
+      return workbasket;
+    }
+
+    void checkAppendPermission(String workbasketId)
+        throws WorkbasketNotFoundException, NotAuthorizedException {
+      if (!appendableWorkbasketIds.contains(workbasketId)) {
+        workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.APPEND);
+        appendableWorkbasketIds.add(workbasketId);
+      }
+    }
+
+    Classification getClassification(String key, String domain)
+        throws ClassificationNotFoundException {
+      KeyDomain keyDomain = new KeyDomain(key, domain);
+      Classification classification = classifications.get(keyDomain);
+      if (classification == null) {
+        classification = classificationService.getClassification(key, domain);
+        classifications.put(keyDomain, classification);
+      }
+      return classification;
+    }
+  }
 }
@@ -2,10 +2,13 @@ package pro.taskana.task.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +18,9 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskTransferredEvent;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.task.api.TaskState;
@@ -41,6 +46,8 @@ class TaskTransferrer {
   private static final String TASK_WITH_ID = "Task with id ";
   private static final String WAS_MARKED_FOR_DELETION = " was marked for deletion";
   private static final String THE_WORKBASKET = "The workbasket ";
+  // the tasks of a bulk transfer are read, updated and logged in batches of this size
+  private static final int TRANSFER_TASKS_BATCH_SIZE = 1000;
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskTransferrer.class);
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketService workbasketService;
@@ -104,7 +111,11 @@ class TaskTransferrer {
       task.setModified(Instant.now());
       task.setState(TaskState.READY);
       task.setOwner(null);
+      List<String> taskIds = Collections.singletonList(taskId);
+      List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(taskIds);
       taskMapper.update(task);
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -162,7 +173,11 @@ class TaskTransferrer {
       task.setModified(Instant.now());
       task.setState(TaskState.READY);
       task.setOwner(null);
+      List<String> taskIds = Collections.singletonList(taskId);
+      List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(taskIds);
       taskMapper.update(task);
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -261,17 +276,23 @@ class TaskTransferrer {
       throw new InvalidArgumentException("TaskIds must not be null.");
     }
     BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
-    List<String> taskIds = new ArrayList<>(taskIdsToBeTransferred);
+    List<String> taskIds = new ArrayList<>(new LinkedHashSet<>(taskIdsToBeTransferred));
     taskService.removeNonExistingTasksFromTaskIdList(taskIds, bulkLog);
 
     if (taskIds.isEmpty()) {
       throw new InvalidArgumentException("TaskIds must not contain only invalid arguments.");
     }
 
-    List<MinimalTaskSummary> taskSummaries;
-    taskSummaries = taskMapper.findExistingTasks(taskIds, null);
-    checkIfTransferConditionsAreFulfilled(taskIds, taskSummaries, bulkLog);
-    updateTasksToBeTransferred(taskIds, taskSummaries, destinationWorkbasket);
+    // the source workbaskets are checked once, even if their tasks are spread over several batches
+    Map<String, Boolean> transferPermissionBySourceWorkbasket = new HashMap<>();
+    for (List<String> batch :
+        CollectionUtil.partitionBasedOnSize(taskIds, TRANSFER_TASKS_BATCH_SIZE)) {
+      List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(batch, null);
+      List<MinimalTaskSummary> tasksToBeTransferred =
+          checkIfTransferConditionsAreFulfilled(
+              batch, taskSummaries, transferPermissionBySourceWorkbasket, bulkLog);
+      updateTasksToBeTransferred(tasksToBeTransferred, destinationWorkbasket);
+    }
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("exit from transferTasks(), returning {}", bulkLog);
     }
@@ -279,9 +300,10 @@ class TaskTransferrer {
     return bulkLog;
   }
 
-  private void checkIfTransferConditionsAreFulfilled(
+  private List<MinimalTaskSummary> checkIfTransferConditionsAreFulfilled(
       List<String> taskIds,
       List<MinimalTaskSummary> taskSummaries,
+      Map<String, Boolean> transferPermissionBySourceWorkbasket,
       BulkOperationResults<String, TaskanaException> bulkLog) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
@@ -292,70 +314,75 @@ class TaskTransferrer {
           bulkLog);
     }
 
-    Set<String> workbasketIds = new HashSet<>();
-    taskSummaries.forEach(t -> workbasketIds.add(t.getWorkbasketId()));
-    WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
-    query.setUsedToAugmentTasks(true);
-    List<WorkbasketSummary> sourceWorkbaskets;
-    if (taskSummaries.isEmpty()) {
-      sourceWorkbaskets = new ArrayList<>();
-    } else {
-      sourceWorkbaskets =
+    Set<String> uncheckedWorkbasketIds =
+        taskSummaries.stream()
+            .map(MinimalTaskSummary::getWorkbasketId)
+            .filter(id -> !transferPermissionBySourceWorkbasket.containsKey(id))
+            .collect(Collectors.toSet());
+    if (!uncheckedWorkbasketIds.isEmpty()) {
+      WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+      query.setUsedToAugmentTasks(true);
+      Set<String> permittedWorkbasketIds =
           query
               .callerHasPermission(WorkbasketPermission.TRANSFER)
-              .idIn(workbasketIds.toArray(new String[0]))
-              .list();
+              .idIn(uncheckedWorkbasketIds.toArray(new String[0]))
+              .list()
+              .stream()
+              .map(WorkbasketSummary::getId)
+              .collect(Collectors.toSet());
+      uncheckedWorkbasketIds.forEach(
+          id -> transferPermissionBySourceWorkbasket.put(id, permittedWorkbasketIds.contains(id)));
     }
-    checkIfTasksMatchTransferCriteria(taskIds, taskSummaries, sourceWorkbaskets, bulkLog);
+    List<MinimalTaskSummary> tasksToBeTransferred =
+        checkIfTasksMatchTransferCriteria(
+            taskIds, taskSummaries, transferPermissionBySourceWorkbasket, bulkLog);
     LOGGER.debug("exit from checkIfTransferConditionsAreFulfilled()");
+    return tasksToBeTransferred;
   }
 
-  private void checkIfTasksMatchTransferCriteria(
+  private List<MinimalTaskSummary> checkIfTasksMatchTransferCriteria(
       List<String> taskIds,
       List<MinimalTaskSummary> taskSummaries,
-      List<WorkbasketSummary> sourceWorkbaskets,
+      Map<String, Boolean> transferPermissionBySourceWorkbasket,
       BulkOperationResults<String, TaskanaException> bulkLog) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "entry to checkIfTasksMatchTransferCriteria(taskIds = {}, taskSummaries = {}, "
-              + "sourceWorkbaskets = {}, bulkLog = {})",
+              + "transferPermissionBySourceWorkbasket = {}, bulkLog = {})",
           taskIds,
           taskSummaries,
-          sourceWorkbaskets,
+          transferPermissionBySourceWorkbasket,
           bulkLog);
     }
 
-    Iterator<String> taskIdIterator = taskIds.iterator();
-    while (taskIdIterator.hasNext()) {
-      String currentTaskId = taskIdIterator.next();
-      MinimalTaskSummary taskSummary =
-          taskSummaries.stream()
-              .filter(t -> currentTaskId.equals(t.getTaskId()))
-              .findFirst()
-              .orElse(null);
+    Map<String, MinimalTaskSummary> taskSummaryById =
+        taskSummaries.stream()
+            .collect(Collectors.toMap(MinimalTaskSummary::getTaskId, Function.identity()));
+    List<MinimalTaskSummary> tasksToBeTransferred = new ArrayList<>(taskSummaries.size());
+    for (String currentTaskId : taskIds) {
+      MinimalTaskSummary taskSummary = taskSummaryById.get(currentTaskId);
       if (taskSummary == null) {
         bulkLog.addError(
             currentTaskId,
             new TaskNotFoundException(
                 currentTaskId, TASK_WITH_ID + currentTaskId + WAS_NOT_FOUND2));
-        taskIdIterator.remove();
       } else if (taskSummary.getTaskState().isEndState()) {
         bulkLog.addError(
             currentTaskId,
             new InvalidStateException(
                 String.format(TASK_IN_END_STATE_WITH_ID_CANNOT_BE_TRANSFERRED, currentTaskId)));
-        taskIdIterator.remove();
-      } else if (sourceWorkbaskets.stream()
-          .noneMatch(wb -> taskSummary.getWorkbasketId().equals(wb.getId()))) {
+      } else if (!transferPermissionBySourceWorkbasket.get(taskSummary.getWorkbasketId())) {
         bulkLog.addError(
             currentTaskId,
             new NotAuthorizedException(
                 "The workbasket of this task got not TRANSFER permissions. TaskId=" + currentTaskId,
                 taskanaEngine.getEngine().getCurrentUserContext().getUserid()));
-        taskIdIterator.remove();
+      } else {
+        tasksToBeTransferred.add(taskSummary);
       }
     }
     LOGGER.debug("exit from checkIfTasksMatchTransferCriteria()");
+    return tasksToBeTransferred;
   }
 
   private void createTaskTransferredEvent(
@@ -370,22 +397,14 @@ class TaskTransferrer {
   }
 
   private void updateTasksToBeTransferred(
-      List<String> taskIds,
-      List<MinimalTaskSummary> taskSummaries,
-      Workbasket destinationWorkbasket) {
+      List<MinimalTaskSummary> taskSummaries, Workbasket destinationWorkbasket) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "entry to updateTasksToBeTransferred(taskIds = {}, taskSummaries = {}, "
-              + "destinationWorkbasket = {})",
-          taskIds,
+          "entry to updateTasksToBeTransferred(taskSummaries = {}, destinationWorkbasket = {})",
           taskSummaries,
           destinationWorkbasket.getId());
     }
 
-    taskSummaries =
-        taskSummaries.stream()
-            .filter(ts -> taskIds.contains(ts.getTaskId()))
-            .collect(Collectors.toList());
     if (!taskSummaries.isEmpty()) {
       Instant now = Instant.now();
       TaskSummaryImpl updateObject = new TaskSummaryImpl();
@@ -396,7 +415,12 @@ class TaskTransferrer {
       updateObject.setModified(now);
       updateObject.setState(TaskState.READY);
       updateObject.setOwner(null);
+      List<String> taskIds =
+          taskSummaries.stream().map(MinimalTaskSummary::getTaskId).collect(Collectors.toList());
+      List<ReportAggregate> aggregatesBefore =
+          taskanaEngine.getReportAggregateStore().capture(taskIds);
       taskMapper.updateTransfered(taskIds, updateObject);
+      taskanaEngine.getReportAggregateStore().recordChanges(aggregatesBefore, taskIds);
       if (HistoryEventManager.isHistoryEnabled()) {
         createTasksTransferredEvents(taskSummaries, updateObject);
       }
@@ -406,19 +430,28 @@ class TaskTransferrer {
 
   private void createTasksTransferredEvents(
       List<MinimalTaskSummary> taskSummaries, TaskSummaryImpl updateObject) {
-    taskSummaries.forEach(
-        task -> {
-          TaskImpl transferredTask = (TaskImpl) taskService.newTask(task.getWorkbasketId());
-          transferredTask.setId(task.getTaskId());
-          transferredTask.setRead(updateObject.isRead());
-          transferredTask.setTransferred(updateObject.isTransferred());
-          transferredTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
-          transferredTask.setDomain(updateObject.getDomain());
-          transferredTask.setModified(updateObject.getModified());
-          transferredTask.setState(updateObject.getState());
-          transferredTask.setOwner(updateObject.getOwner());
-          createTaskTransferredEvent(
-              transferredTask, task.getWorkbasketId(), updateObject.getWorkbasketSummary().getId());
-        });
+    String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+    List<TaskHistoryEvent> events =
+        taskSummaries.stream()
+            .map(
+                task -> {
+                  TaskImpl transferredTask = (TaskImpl) taskService.newTask(task.getWorkbasketId());
+                  transferredTask.setId(task.getTaskId());
+                  transferredTask.setRead(updateObject.isRead());
+                  transferredTask.setTransferred(updateObject.isTransferred());
+                  transferredTask.setWorkbasketSummary(updateObject.getWorkbasketSummary());
+                  transferredTask.setDomain(updateObject.getDomain());
+                  transferredTask.setModified(updateObject.getModified());
+                  transferredTask.setState(updateObject.getState());
+                  transferredTask.setOwner(updateObject.getOwner());
+                  return new TaskTransferredEvent(
+                      IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                      transferredTask,
+                      task.getWorkbasketId(),
+                      updateObject.getWorkbasketSummary().getId(),
+                      userId);
+                })
+            .collect(Collectors.toList());
+    historyEventManager.createEvents(events);
   }
 }
@@ -0,0 +1,89 @@
+package pro.taskana.task.internal.jobs;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.ScheduledJob.Type;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.task.internal.ReportAggregate;
+import pro.taskana.task.internal.ReportAggregateStore;
+
+/**
+ * Job to verify the report aggregates against the tasks. Afterwards the aggregates are rebuilt,
+ * which repairs any deviation and merges the appended changes into one aggregate per group.
+ */
+public class ReportAggregateJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ReportAggregateJob.class);
+
+  public ReportAggregateJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob);
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    LOGGER.info("Running job to verify and rebuild the report aggregates");
+    try {
+      ReportAggregateStore reportAggregateStore = taskanaEngineImpl.getReportAggregateStore();
+      if (!reportAggregateStore.isEnabled()) {
+        LOGGER.info("Job ended successfully. The report aggregates are disabled.");
+        return;
+      }
+      List<ReportAggregate> deviations = reportAggregateStore.findDeviations();
+      if (!deviations.isEmpty()) {
+        LOGGER.warn(
+            "{} report aggregates deviate from the tasks: {}", deviations.size(), deviations);
+      }
+      rebuildTransactionally(reportAggregateStore);
+      LOGGER.info(
+          "Job ended successfully. {} deviating report aggregates repaired.", deviations.size());
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing ReportAggregateJob.", e);
+    } finally {
+      scheduleNextReportAggregateJob();
+    }
+  }
+
+  /**
+   * Initializes the ReportAggregateJob schedule. <br>
+   * All scheduled report aggregate jobs are cancelled/deleted and a new one is scheduled.
+   *
+   * @param taskanaEngine the taskana engine
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    jobService.deleteJobs(Type.REPORTAGGREGATEJOB);
+    ReportAggregateJob job = new ReportAggregateJob(taskanaEngine, null, null);
+    job.scheduleNextReportAggregateJob();
+  }
+
+  private void rebuildTransactionally(ReportAggregateStore reportAggregateStore) {
+    if (txProvider != null) {
+      txProvider.executeInTransaction(
+          () -> {
+            reportAggregateStore.rebuild();
+            return null;
+          });
+    } else {
+      reportAggregateStore.rebuild();
+    }
+  }
+
+  private void scheduleNextReportAggregateJob() {
+    LOGGER.debug("Entry to scheduleNextReportAggregateJob.");
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.REPORTAGGREGATEJOB);
+    job.setDue(getNextDueForCleanupJob());
+    taskanaEngineImpl.getJobService().createJob(job);
+    LOGGER.debug("Exit from scheduleNextReportAggregateJob.");
+  }
+}
@@ -2,36 +2,29 @@ package pro.taskana.task.internal.jobs;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.ScheduledJob.Type;
 import pro.taskana.common.api.TaskanaEngine;
-import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
-import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 /** Job to cleanup completed tasks after a period of time. */
 public class TaskCleanupJob extends AbstractTaskanaJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskCleanupJob.class);
 
-  private static final SortDirection ASCENDING = SortDirection.ASCENDING;
-
   // Parameter
   private final Duration minimumAge;
   private final int batchSize;
@@ -53,12 +46,16 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     Instant completedBefore = Instant.now().minus(minimumAge);
     LOGGER.info("Running job to delete all tasks completed before ({})", completedBefore);
     try {
-      List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
-
-      int totalNumberOfTasksDeleted =
-          CollectionUtil.partitionBasedOnSize(tasksCompletedBefore, batchSize).stream()
-              .mapToInt(this::deleteTasksTransactionally)
-              .sum();
+      int totalNumberOfTasksDeleted = 0;
+      List<String> taskIdsToDelete = getTaskIdsCompletedBefore(completedBefore, null);
+      while (!taskIdsToDelete.isEmpty()) {
+        totalNumberOfTasksDeleted += deleteTasksTransactionally(taskIdsToDelete);
+        String lastTaskId = taskIdsToDelete.get(taskIdsToDelete.size() - 1);
+        taskIdsToDelete =
+            taskIdsToDelete.size() < batchSize
+                ? Collections.emptyList()
+                : getTaskIdsCompletedBefore(completedBefore, lastTaskId);
+      }
 
       LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksDeleted);
     } catch (Exception e) {
@@ -81,62 +78,30 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     job.scheduleNextCleanupJob();
   }
 
-  private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
-    LOGGER.debug("entry to getTasksCompletedBefore(untilDate = {})", untilDate);
-
-    List<TaskSummary> tasksToDelete =
-        taskanaEngineImpl
-            .getTaskService()
-            .createTaskQuery()
-            .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(ASCENDING)
-            .list();
-
-    if (allCompletedSameParentBusiness) {
-      Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
-      Map<String, Long> countParentTask = new HashMap<>();
-
-      tasksToDelete.forEach(
-          task -> {
-            if (!numberParentTasksShouldHave.containsKey(task.getParentBusinessProcessId())) {
-              numberParentTasksShouldHave.put(
-                  task.getParentBusinessProcessId(),
-                  taskanaEngineImpl
-                      .getTaskService()
-                      .createTaskQuery()
-                      .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
-                      .count());
-            }
-            countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
-          });
-
-      List<String> taskIdsNotAllCompletedSameParentBusiness =
-          numberParentTasksShouldHave.entrySet().stream()
-              .filter(entry -> entry.getKey() != null)
-              .filter(entry -> !entry.getKey().isEmpty())
-              .filter(entry -> !entry.getValue().equals(countParentTask.get(entry.getKey())))
-              .map(Map.Entry::getKey)
-              .collect(Collectors.toList());
-
-      tasksToDelete =
-          tasksToDelete.stream()
-              .filter(
-                  taskSummary ->
-                      !taskIdsNotAllCompletedSameParentBusiness.contains(
-                          taskSummary.getParentBusinessProcessId()))
-              .collect(Collectors.toList());
-    }
+  // the eligible tasks are read batch by batch in the order of their ids, so neither the ids of
+  // all tasks nor a cursor have to be held while the previous batches are deleted
+  private List<String> getTaskIdsCompletedBefore(Instant untilDate, String afterTaskId) {
+    LOGGER.debug(
+        "entry to getTaskIdsCompletedBefore(untilDate = {}, afterTaskId = {})",
+        untilDate,
+        afterTaskId);
+
+    List<String> taskIdsToDelete =
+        ((TaskServiceImpl) taskanaEngineImpl.getTaskService())
+            .findTaskIdsCompletedBefore(
+                untilDate, allCompletedSameParentBusiness, afterTaskId, batchSize);
 
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("exit from getTasksCompletedBefore(), returning {}", tasksToDelete);
+      LOGGER.debug("exit from getTaskIdsCompletedBefore(), returning {}", taskIdsToDelete);
     }
 
-    return tasksToDelete;
+    return taskIdsToDelete;
   }
 
-  private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+  private int deleteTasksTransactionally(List<String> tasksIdsToBeDeleted) {
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("entry to deleteTasksTransactionally(tasksToBeDeleted = {})", tasksToBeDeleted);
+      LOGGER.debug(
+          "entry to deleteTasksTransactionally(tasksIdsToBeDeleted = {})", tasksIdsToBeDeleted);
     }
 
     int deletedTaskCount = 0;
@@ -146,7 +111,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
               txProvider.executeInTransaction(
                   () -> {
                     try {
-                      return deleteTasks(tasksToBeDeleted);
+                      return deleteTasks(tasksIdsToBeDeleted);
                     } catch (Exception e) {
                       LOGGER.warn("Could not delete tasks.", e);
                       return 0;
@@ -156,7 +121,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
       return count;
     } else {
       try {
-        deletedTaskCount = deleteTasks(tasksToBeDeleted);
+        deletedTaskCount = deleteTasks(tasksIdsToBeDeleted);
       } catch (Exception e) {
         LOGGER.warn("Could not delete tasks.", e);
       }
@@ -165,14 +130,12 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return deletedTaskCount;
   }
 
-  private int deleteTasks(List<TaskSummary> tasksToBeDeleted)
+  private int deleteTasks(List<String> tasksIdsToBeDeleted)
       throws InvalidArgumentException, NotAuthorizedException {
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("entry to deleteTasks(tasksToBeDeleted = {})", tasksToBeDeleted);
+      LOGGER.debug("entry to deleteTasks(tasksIdsToBeDeleted = {})", tasksIdsToBeDeleted);
     }
 
-    List<String> tasksIdsToBeDeleted =
-        tasksToBeDeleted.stream().map(TaskSummary::getId).collect(Collectors.toList());
     BulkOperationResults<String, TaskanaException> results =
         taskanaEngineImpl.getTaskService().deleteTasks(tasksIdsToBeDeleted);
     LOGGER.debug("{} tasks deleted.", tasksIdsToBeDeleted.size() - results.getFailedIds().size());
@@ -160,6 +160,18 @@ public interface WorkbasketAccessMapper {
   WorkbasketAccessItemImpl findByWorkbasketAndAccessId(
       @Param("workbasketId") String workbasketId, @Param("accessIds") List<String> accessIds);
 
+  @Select(
+      "<script>SELECT WORKBASKET_ID FROM WORKBASKET_ACCESS_LIST "
+          + "WHERE ACCESS_ID IN(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "GROUP BY WORKBASKET_ID "
+          + "<choose>"
+          + "<when test=\"_databaseId == 'db2'\">HAVING MAX(PERM_READ) = 1 </when>"
+          + "<otherwise>HAVING MAX(PERM_READ::int) = 1 </otherwise>"
+          + "</choose>"
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findReadableWorkbasketIds(@Param("accessIds") List<String> accessIds);
+
   @Select(
       "<script>"
           + "<choose>"
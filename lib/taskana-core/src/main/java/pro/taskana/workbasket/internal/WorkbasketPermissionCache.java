@@ -0,0 +1,198 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import pro.taskana.common.internal.util.TimeToLiveMap;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/**
+ * Caches the effective permissions of a set of access ids on a workbasket and the workbaskets
+ * which a set of access ids may read. An entry is only kept for the configured time to live, so
+ * changes made by other TASKANA instances become visible after that time at the latest. Changes
+ * made by this instance invalidate the affected entries immediately.
+ */
+public class WorkbasketPermissionCache {
+
+  private final boolean enabled;
+  private final TimeToLiveMap<Key, Integer> entries;
+  private final TimeToLiveMap<Set<String>, List<String>> readableWorkbasketIds;
+  // incremented on every invalidation to discard results which were read before it
+  private final AtomicLong generation = new AtomicLong();
+
+  public WorkbasketPermissionCache(int maxSize, Duration timeToLive) {
+    this.enabled = maxSize > 0 && timeToLive.toNanos() > 0;
+    this.entries = new TimeToLiveMap<>(maxSize, timeToLive);
+    this.readableWorkbasketIds = new TimeToLiveMap<>(maxSize, timeToLive);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the generation of the cache. It has to be read before the permissions are read from
+   * the database and passed to {@link #put(String, Collection, int, long)} or {@link
+   * #putReadableWorkbasketIds(Collection, List, long)} afterwards.
+   *
+   * @return the current generation
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Returns the cached permissions of the access ids on the workbasket.
+   *
+   * @param workbasketId the id of the workbasket
+   * @param accessIds the access ids of the current user
+   * @return the permission bitmask or null if there is no valid entry
+   */
+  public Integer get(String workbasketId, Collection<String> accessIds) {
+    if (!isEnabled()) {
+      return null;
+    }
+    return entries.get(new Key(workbasketId, accessIds));
+  }
+
+  /**
+   * Caches the permissions of the access ids on the workbasket unless the cache was invalidated
+   * since the given generation.
+   *
+   * @param workbasketId the id of the workbasket
+   * @param accessIds the access ids of the current user
+   * @param permissions the permission bitmask
+   * @param readGeneration the generation before the permissions were read
+   */
+  public void put(
+      String workbasketId, Collection<String> accessIds, int permissions, long readGeneration) {
+    if (!isEnabled()) {
+      return;
+    }
+    putValue(entries, new Key(workbasketId, accessIds), permissions, readGeneration);
+  }
+
+  /**
+   * Returns the cached ids of the workbaskets which the access ids may read.
+   *
+   * @param accessIds the access ids of the current user
+   * @return the workbasket ids or null if there is no valid entry
+   */
+  public List<String> getReadableWorkbasketIds(Collection<String> accessIds) {
+    if (!isEnabled()) {
+      return null;
+    }
+    return readableWorkbasketIds.get(new HashSet<>(accessIds));
+  }
+
+  /**
+   * Caches the ids of the workbaskets which the access ids may read unless the cache was
+   * invalidated since the given generation.
+   *
+   * @param accessIds the access ids of the current user
+   * @param workbasketIds the ids of the readable workbaskets
+   * @param readGeneration the generation before the workbasket ids were read
+   */
+  public void putReadableWorkbasketIds(
+      Collection<String> accessIds, List<String> workbasketIds, long readGeneration) {
+    if (!isEnabled()) {
+      return;
+    }
+    putValue(
+        readableWorkbasketIds,
+        new HashSet<>(accessIds),
+        Collections.unmodifiableList(new ArrayList<>(workbasketIds)),
+        readGeneration);
+  }
+
+  public void invalidate(String workbasketId) {
+    generation.incrementAndGet();
+    entries.removeIf(key -> key.getWorkbasketId().equals(workbasketId));
+    // the workbasket may have become readable or unreadable for any set of access ids
+    readableWorkbasketIds.clear();
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    entries.clear();
+    readableWorkbasketIds.clear();
+  }
+
+  public static int toBitmask(WorkbasketAccessItem accessItem) {
+    int permissions = 0;
+    if (accessItem != null) {
+      for (WorkbasketPermission permission : WorkbasketPermission.values()) {
+        if (accessItem.getPermission(permission)) {
+          permissions |= 1 << permission.ordinal();
+        }
+      }
+    }
+    return permissions;
+  }
+
+  public static boolean hasPermission(int permissions, WorkbasketPermission permission) {
+    return (permissions & (1 << permission.ordinal())) != 0;
+  }
+
+  public static List<WorkbasketPermission> toPermissions(int permissions) {
+    List<WorkbasketPermission> result = new ArrayList<>();
+    for (WorkbasketPermission permission : WorkbasketPermission.values()) {
+      if (hasPermission(permissions, permission)) {
+        result.add(permission);
+      }
+    }
+    return result;
+  }
+
+  private <K, V> void putValue(TimeToLiveMap<K, V> map, K key, V value, long readGeneration) {
+    map.put(key, value);
+    if (generation.get() != readGeneration) {
+      map.remove(key);
+    }
+  }
+
+  private static final class Key {
+
+    private final String workbasketId;
+    private final Set<String> accessIds;
+
+    private Key(String workbasketId, Collection<String> accessIds) {
+      this.workbasketId = workbasketId;
+      this.accessIds = new HashSet<>(accessIds);
+    }
+
+    public String getWorkbasketId() {
+      return workbasketId;
+    }
+
+    public Set<String> getAccessIds() {
+      return accessIds;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(workbasketId, accessIds);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return Objects.equals(workbasketId, other.workbasketId)
+          && Objects.equals(accessIds, other.accessIds);
+    }
+  }
+}
@@ -62,6 +62,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
   private final DistributionTargetMapper distributionTargetMapper;
   private final WorkbasketAccessMapper workbasketAccessMapper;
   private final HistoryEventManager historyEventManager;
+  private final WorkbasketPermissionCache permissionCache;
 
   public WorkbasketServiceImpl(
       InternalTaskanaEngine taskanaEngine,
@@ -73,6 +74,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     this.distributionTargetMapper = distributionTargetMapper;
     this.workbasketAccessMapper = workbasketAccessMapper;
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
+    this.permissionCache = taskanaEngine.getWorkbasketPermissionCache();
   }
 
   @Override
@@ -262,6 +264,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       try {
         workbasketAccessMapper.insert(accessItem);
+        invalidatePermissions(accessItem.getWorkbasketId());
 
         if (HistoryEventManager.isHistoryEnabled()) {
 
@@ -321,6 +324,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      invalidatePermissions(accessItem.getWorkbasketId());
 
       if (HistoryEventManager.isHistoryEnabled()) {
 
@@ -361,6 +365,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.delete(accessItemId);
+      invalidateAllPermissions();
 
       if (HistoryEventManager.isHistoryEnabled() && accessItem != null) {
 
@@ -392,19 +397,29 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
-        throw new WorkbasketNotFoundException(
-            workbasketId, "Workbasket with id " + workbasketId + " was not found.");
-      }
+      List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+      // a cached entry implies that the workbasket exists
+      Integer grantedPermissions = permissionCache.get(workbasketId, accessIds);
+      if (grantedPermissions == null) {
+        final long cacheGeneration = permissionCache.getGeneration();
+        if (workbasketMapper.findById(workbasketId) == null) {
+          throw new WorkbasketNotFoundException(
+              workbasketId, "Workbasket with id " + workbasketId + " was not found.");
+        }
 
-      if (skipAuthorizationCheck(requestedPermissions)) {
+        if (skipAuthorizationCheck(requestedPermissions)) {
+          return;
+        }
+
+        WorkbasketAccessItem wbAcc =
+            workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
+        grantedPermissions = WorkbasketPermissionCache.toBitmask(wbAcc);
+        permissionCache.put(workbasketId, accessIds, grantedPermissions, cacheGeneration);
+      } else if (skipAuthorizationCheck(requestedPermissions)) {
         return;
       }
 
-      List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
-      WorkbasketAccessItem wbAcc =
-          workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
-      if (wbAcc == null) {
+      if (grantedPermissions == 0) {
         throw new NotAuthorizedException(
             "Not authorized. Permission '"
                 + Arrays.toString(requestedPermissions)
@@ -414,11 +429,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             taskanaEngine.getEngine().getCurrentUserContext().getUserid());
       }
 
-      List<WorkbasketPermission> grantedPermissions =
-          this.getPermissionsFromWorkbasketAccessItem(wbAcc);
-
       for (WorkbasketPermission perm : requestedPermissions) {
-        if (!grantedPermissions.contains(perm)) {
+        if (!WorkbasketPermissionCache.hasPermission(grantedPermissions, perm)) {
           isAuthorized = false;
           throw new NotAuthorizedException(
               "Not authorized. Permission '"
@@ -536,6 +548,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
       accessItems.forEach(workbasketAccessMapper::insert);
+      invalidatePermissions(workbasketId);
 
       if (HistoryEventManager.isHistoryEnabled()) {
 
@@ -579,10 +592,36 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
   @Override
   public List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId) {
-    WorkbasketAccessItem wbAcc =
-        workbasketAccessMapper.findByWorkbasketAndAccessId(
-            workbasketId, taskanaEngine.getEngine().getCurrentUserContext().getAccessIds());
-    return this.getPermissionsFromWorkbasketAccessItem(wbAcc);
+    List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+    Integer permissions = permissionCache.get(workbasketId, accessIds);
+    if (permissions == null) {
+      WorkbasketAccessItem wbAcc =
+          workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
+      return this.getPermissionsFromWorkbasketAccessItem(wbAcc);
+    }
+    return WorkbasketPermissionCache.toPermissions(permissions);
+  }
+
+  /**
+   * Returns the ids of the workbaskets which the given access ids may read. The result is cached
+   * until the access items of a workbasket are changed or the cache entry expires.
+   *
+   * @param accessIds the lowercase access ids of the current user
+   * @return the ids of the readable workbaskets
+   */
+  public List<String> getReadableWorkbasketIds(List<String> accessIds) {
+    List<String> workbasketIds = permissionCache.getReadableWorkbasketIds(accessIds);
+    if (workbasketIds == null) {
+      final long cacheGeneration = permissionCache.getGeneration();
+      try {
+        taskanaEngine.openConnection();
+        workbasketIds = workbasketAccessMapper.findReadableWorkbasketIds(accessIds);
+      } finally {
+        taskanaEngine.returnConnection();
+      }
+      permissionCache.putReadableWorkbasketIds(accessIds, workbasketIds, cacheGeneration);
+    }
+    return workbasketIds;
   }
 
   @Override
@@ -1012,6 +1051,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         workbasketAccessItems = workbasketAccessMapper.findByAccessId(accessId);
       }
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      invalidateAllPermissions();
 
       if (HistoryEventManager.isHistoryEnabled()) {
 
@@ -1221,5 +1261,18 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     distributionTargetMapper.deleteAllDistributionTargetsBySourceId(workbasketId);
     distributionTargetMapper.deleteAllDistributionTargetsByTargetId(workbasketId);
     workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
+    invalidatePermissions(workbasketId);
+  }
+
+  // the permissions are invalidated at once and again after the commit, because a concurrent call
+  // may read and cache the old permissions until the changes are committed
+  private void invalidatePermissions(String workbasketId) {
+    permissionCache.invalidate(workbasketId);
+    taskanaEngine.runAfterCommit(() -> permissionCache.invalidate(workbasketId));
+  }
+
+  private void invalidateAllPermissions() {
+    permissionCache.invalidateAll();
+    taskanaEngine.runAfterCommit(permissionCache::invalidateAll);
   }
 }
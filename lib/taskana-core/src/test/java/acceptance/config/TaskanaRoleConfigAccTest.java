@@ -115,6 +115,43 @@ class TaskanaRoleConfigAccTest extends TaskanaEngineImpl {
     }
   }
 
+  @Test
+  void should_ReturnRolesOfAccessId_When_RolesAreConfigured() {
+    assertThat(getConfiguration().getRolesOfAccessId("admin")).containsExactly(TaskanaRole.ADMIN);
+    assertThat(getConfiguration().getRolesOfAccessId("teamlead-1"))
+        .containsExactly(TaskanaRole.USER);
+    assertThat(getConfiguration().getRolesOfAccessId("unknown")).isEmpty();
+    assertThat(getConfiguration().getRolesOfAccessId(null)).isEmpty();
+  }
+
+  @Test
+  void should_ApplyChangedRoles_When_RolesAreReloaded() throws Exception {
+    String propertiesFileName = createNewConfigFileWithSameDelimiter("/dummyTestConfig.properties");
+    try {
+      TaskanaEngineConfiguration configuration =
+          new TaskanaEngineConfiguration(
+              TaskanaEngineTestConfiguration.getDataSource(),
+              true,
+              true,
+              propertiesFileName,
+              "|",
+              TaskanaEngineTestConfiguration.getSchemaName());
+      assertThat(configuration.getRolesOfAccessId("nobody")).containsExactly(TaskanaRole.USER);
+
+      Files.write(
+          Paths.get(propertiesFileName),
+          List.of("taskana.roles.admin = nobody", "taskana.roles.user = somebody"),
+          StandardCharsets.UTF_8);
+      configuration.reloadRoles();
+
+      assertThat(configuration.getRolesOfAccessId("nobody")).containsExactly(TaskanaRole.ADMIN);
+      assertThat(configuration.getRolesOfAccessId("somebody")).containsExactly(TaskanaRole.USER);
+      assertThat(configuration.getRoleMap().get(TaskanaRole.ADMIN)).containsExactly("nobody");
+    } finally {
+      deleteFile(propertiesFileName);
+    }
+  }
+
   private String createNewConfigFileWithDifferentDelimiter(String filename, String delimiter)
       throws Exception {
     Path file = Files.createFile(Paths.get(System.getProperty("user.home") + filename));
@@ -0,0 +1,102 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.JobServiceImpl;
+
+/** Acceptance test for all "claim jobs" scenarios. */
+class ClaimJobsAccTest extends AbstractAccTest {
+
+  private static final int JOB_COUNT = 6;
+
+  private final JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+
+  @BeforeEach
+  void createJobs() {
+    for (int i = 0; i < JOB_COUNT; i++) {
+      ScheduledJob job = new ScheduledJob();
+      job.setType(ScheduledJob.Type.WORKBASKETCLEANUPJOB);
+      job.setDue(Instant.now().minus(Duration.ofSeconds(1)));
+      jobService.createJob(job);
+    }
+  }
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @Test
+  void should_ClaimAtMostMaxCountJobs_When_MoreJobsAreDue() throws Exception {
+    List<ScheduledJob> claimedJobs = jobService.claimJobs("owner", 4, Instant.now());
+
+    assertThat(claimedJobs)
+        .hasSize(4)
+        .extracting(ScheduledJob::getLockedBy)
+        .doesNotContainNull()
+        .containsOnly(claimedJobs.get(0).getLockedBy());
+    assertThat(claimedJobs)
+        .allSatisfy(job -> assertThat(job.getLockExpires()).isAfter(Instant.now()));
+    assertThat(claimedJobs)
+        .extracting(ScheduledJob::getRetryCount)
+        .containsOnly(taskanaEngineConfiguration.getMaxNumberOfJobRetries() - 1);
+    assertThat(getJobMapper().findJobsToRun(Instant.now())).hasSize(JOB_COUNT - 4);
+    assertThat(jobService.countJobsToRun(Instant.now())).isEqualTo(JOB_COUNT - 4);
+  }
+
+  @Test
+  void should_NotClaimJobsOfOtherOwners_When_TheirLockIsNotExpired() {
+    List<ScheduledJob> firstClaim = jobService.claimJobs("owner 1", JOB_COUNT, Instant.now());
+    List<ScheduledJob> secondClaim = jobService.claimJobs("owner 2", JOB_COUNT, Instant.now());
+
+    assertThat(firstClaim).hasSize(JOB_COUNT);
+    assertThat(secondClaim).isEmpty();
+  }
+
+  @Test
+  void should_NotClaimJobs_When_TheyAreDueLater() {
+    List<ScheduledJob> claimedJobs =
+        jobService.claimJobs("owner", JOB_COUNT, Instant.now().minus(Duration.ofDays(1)));
+
+    assertThat(claimedJobs).isEmpty();
+  }
+
+  @Test
+  void should_ClaimEveryJobOnlyOnce_When_ClaimingConcurrently() throws Exception {
+    List<ScheduledJob> claimedJobs = Collections.synchronizedList(new ArrayList<>());
+    Instant now = Instant.now();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String owner = "owner " + i;
+      threads.add(
+          new Thread(
+              () -> {
+                List<ScheduledJob> jobs = jobService.claimJobs(owner, 1, now);
+                while (!jobs.isEmpty()) {
+                  claimedJobs.addAll(jobs);
+                  jobs = jobService.claimJobs(owner, 1, now);
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(claimedJobs)
+        .hasSize(JOB_COUNT)
+        .extracting(ScheduledJob::getJobId)
+        .doesNotHaveDuplicates();
+  }
+}
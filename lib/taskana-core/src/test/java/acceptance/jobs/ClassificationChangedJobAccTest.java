@@ -0,0 +1,146 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.ScheduledJob.Type;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.internal.TaskServiceImpl;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
+
+/** Acceptance test for all "classification changed job" scenarios. */
+@ExtendWith(JaasExtension.class)
+class ClassificationChangedJobAccTest extends AbstractAccTest {
+
+  private static final String CLASSIFICATION_ID = "CLI:100000000000000000000000000000000003";
+  private static final String OTHER_CLASSIFICATION_ID = "CLI:100000000000000000000000000000000004";
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassOnlyTheirBatchToTaskRefreshJobs_When_RunningClassificationChangedJob()
+      throws Exception {
+    taskanaEngineConfiguration.setMaxNumberOfUpdatesPerTransaction(5);
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    final List<String> affectedTaskIds =
+        ((TaskServiceImpl) taskanaEngine.getTaskService())
+            .findTasksIdsAffectedByClassificationChange(CLASSIFICATION_ID);
+    updatePriority(1000);
+
+    List<ScheduledJob> classificationChangedJobs =
+        jobService.findJobsNotLockedYet(Type.CLASSIFICATIONCHANGEDJOB);
+    assertThat(classificationChangedJobs).hasSize(1);
+    new ClassificationChangedJob(taskanaEngine, null, classificationChangedJobs.get(0)).run();
+
+    List<String> refreshedTaskIds = new ArrayList<>();
+    for (ScheduledJob job : jobService.findJobsNotLockedYet(Type.UPDATETASKSJOB)) {
+      List<String> taskIds =
+          Arrays.asList(job.getArguments().get(TaskRefreshJob.TASK_IDS).split(","));
+      assertThat(taskIds).hasSizeLessThanOrEqualTo(5);
+      refreshedTaskIds.addAll(taskIds);
+    }
+    assertThat(affectedTaskIds).hasSizeGreaterThan(5);
+    assertThat(refreshedTaskIds).containsExactlyInAnyOrderElementsOf(affectedTaskIds);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_MergeChanges_When_ClassificationIsChangedAgainBeforeTheJobRuns() throws Exception {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+
+    updatePriority(1000);
+    updateServiceLevel("P15D");
+
+    List<ScheduledJob> jobs = jobService.findJobsNotLockedYet(Type.CLASSIFICATIONCHANGEDJOB);
+    assertThat(jobs).hasSize(1);
+    assertThat(jobs.get(0).getArguments())
+        .containsEntry(ClassificationChangedJob.PRIORITY_CHANGED, "true")
+        .containsEntry(ClassificationChangedJob.SERVICE_LEVEL_CHANGED, "true");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_OnlyMergeIntoJobOfSameClassification_When_OtherClassificationHasPendingJob()
+      throws Exception {
+    updatePriority(OTHER_CLASSIFICATION_ID, 1000);
+
+    updatePriority(CLASSIFICATION_ID, 1000);
+    updateServiceLevel("P15D");
+
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    List<ScheduledJob> jobs =
+        jobService.findJobsNotLockedYet(
+            Type.CLASSIFICATIONCHANGEDJOB,
+            ClassificationChangedJob.CLASSIFICATION_ID,
+            CLASSIFICATION_ID);
+    assertThat(jobs).hasSize(1);
+    assertThat(jobs.get(0).getArguments())
+        .containsEntry(ClassificationChangedJob.PRIORITY_CHANGED, "true")
+        .containsEntry(ClassificationChangedJob.SERVICE_LEVEL_CHANGED, "true");
+    List<ScheduledJob> otherJobs =
+        jobService.findJobsNotLockedYet(
+            Type.CLASSIFICATIONCHANGEDJOB,
+            ClassificationChangedJob.CLASSIFICATION_ID,
+            OTHER_CLASSIFICATION_ID);
+    assertThat(otherJobs).hasSize(1);
+    assertThat(otherJobs.get(0).getArguments())
+        .containsEntry(ClassificationChangedJob.SERVICE_LEVEL_CHANGED, "false");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_CreateNewJob_When_PendingJobIsLockedAlready() throws Exception {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    updatePriority(1000);
+    ScheduledJob pendingJob = jobService.findJobsNotLockedYet(Type.CLASSIFICATIONCHANGEDJOB).get(0);
+    assertThat(jobService.claimJobs("owner", 100, Instant.now().plus(Duration.ofDays(1))))
+        .extracting(ScheduledJob::getJobId)
+        .contains(pendingJob.getJobId());
+
+    updateServiceLevel("P15D");
+
+    List<ScheduledJob> jobs = jobService.findJobsNotLockedYet(Type.CLASSIFICATIONCHANGEDJOB);
+    assertThat(jobs).hasSize(1);
+    assertThat(jobs.get(0).getJobId()).isNotEqualTo(pendingJob.getJobId());
+    assertThat(jobs.get(0).getArguments())
+        .containsEntry(ClassificationChangedJob.PRIORITY_CHANGED, "false")
+        .containsEntry(ClassificationChangedJob.SERVICE_LEVEL_CHANGED, "true");
+  }
+
+  private void updatePriority(int priority) throws Exception {
+    updatePriority(CLASSIFICATION_ID, priority);
+  }
+
+  private void updatePriority(String classificationId, int priority) throws Exception {
+    ClassificationService classificationService = taskanaEngine.getClassificationService();
+    Classification classification = classificationService.getClassification(classificationId);
+    classification.setPriority(priority);
+    classificationService.updateClassification(classification);
+  }
+
+  private void updateServiceLevel(String serviceLevel) throws Exception {
+    ClassificationService classificationService = taskanaEngine.getClassificationService();
+    Classification classification = classificationService.getClassification(CLASSIFICATION_ID);
+    classification.setServiceLevel(serviceLevel);
+    classificationService.updateClassification(classification);
+  }
+}
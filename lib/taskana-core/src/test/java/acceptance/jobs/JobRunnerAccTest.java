@@ -0,0 +1,122 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.JobMapper;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.internal.jobs.JobRunnerMetrics;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
+
+/** Acceptance test for all "run jobs with the job runner" scenarios. */
+@ExtendWith(JaasExtension.class)
+class JobRunnerAccTest extends AbstractAccTest {
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RunEveryJobExactlyOnce_When_RunningJobsWithSeveralWorkers() throws Exception {
+    taskanaEngineConfiguration.setJobWorkerCount(3);
+    List<TaskSummary> tasks = taskanaEngine.getTaskService().createTaskQuery().list(0, 8);
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    for (TaskSummary task : tasks) {
+      jobService.createJob(createTaskRefreshJob(task.getId()));
+    }
+
+    JobRunner runner = new JobRunner(taskanaEngine);
+    runner.runJobs();
+
+    JobMapper jobMapper = getJobMapper();
+    assertThat(jobMapper.findJobsToRun(Instant.now().plus(Duration.ofDays(1)))).isEmpty();
+    JobRunnerMetrics metrics = runner.getMetrics();
+    assertThat(metrics.getClaimedJobs()).isEqualTo(tasks.size());
+    assertThat(metrics.getSucceededJobs()).isEqualTo(tasks.size());
+    assertThat(metrics.getFailedJobs()).isZero();
+    assertThat(metrics.getQueueDepth()).isZero();
+    assertThat(metrics.getMaxLag()).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RunAllDueJobs_When_WorkersCompeteForMoreJobsThanWorkers() throws Exception {
+    taskanaEngineConfiguration.setJobWorkerCount(4);
+    List<TaskSummary> tasks = taskanaEngine.getTaskService().createTaskQuery().list(0, 30);
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    for (TaskSummary task : tasks) {
+      jobService.createJob(createTaskRefreshJob(task.getId()));
+    }
+
+    JobRunner runner = new JobRunner(taskanaEngine);
+    runner.runJobs();
+
+    assertThat(getJobMapper().findJobsToRun(Instant.now().plus(Duration.ofDays(1)))).isEmpty();
+    JobRunnerMetrics metrics = runner.getMetrics();
+    assertThat(metrics.getClaimedJobs()).isEqualTo(tasks.size());
+    assertThat(metrics.getSucceededJobs()).isEqualTo(tasks.size());
+    assertThat(metrics.getQueueDepth()).isZero();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ExtendLock_When_RenewingLockOfLockedJob() throws Exception {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    ScheduledJob lockedJob = createAndClaimTaskRefreshJob(jobService);
+    Instant firstLockExpiration = lockedJob.getLockExpires();
+
+    Thread.sleep(10);
+    boolean renewed = jobService.renewJobLock(lockedJob);
+
+    assertThat(renewed).isTrue();
+    assertThat(lockedJob.getLockExpires()).isAfter(firstLockExpiration);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotRenewLock_When_JobIsLockedByAnotherOwner() throws Exception {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    ScheduledJob job = createAndClaimTaskRefreshJob(jobService);
+    job.setLockedBy("someone else");
+
+    boolean renewed = jobService.renewJobLock(job);
+
+    assertThat(renewed).isFalse();
+  }
+
+  private ScheduledJob createAndClaimTaskRefreshJob(JobServiceImpl jobService) {
+    jobService.createJob(createTaskRefreshJob("TKI:000000000000000000000000000000000000"));
+    List<ScheduledJob> jobs =
+        jobService.claimJobs("owner", 1, Instant.now().plus(Duration.ofSeconds(1)));
+    assertThat(jobs).hasSize(1);
+    return jobs.get(0);
+  }
+
+  private ScheduledJob createTaskRefreshJob(String taskId) {
+    Map<String, String> args = new HashMap<>();
+    args.put(TaskRefreshJob.TASK_IDS, taskId);
+    args.put(TaskRefreshJob.PRIORITY_CHANGED, Boolean.TRUE.toString());
+    args.put(TaskRefreshJob.SERVICE_LEVEL_CHANGED, Boolean.FALSE.toString());
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.UPDATETASKSJOB);
+    job.setArguments(args);
+    job.setDue(Instant.now().minus(Duration.ofSeconds(1)));
+    return job;
+  }
+}
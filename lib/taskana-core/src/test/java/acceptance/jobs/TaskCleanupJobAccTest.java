@@ -90,6 +90,19 @@ class TaskCleanupJobAccTest extends AbstractAccTest {
     assertThat(totalTasksCount).isEqualTo(67);
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_CleanAllCompletedTasks_When_BatchSizeIsSmallerThanNumberOfTasks() throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(3);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    long totalTasksCount = taskService.createTaskQuery().count();
+    assertThat(totalTasksCount).isEqualTo(68);
+  }
+
   @WithAccessId(user = "admin")
   @Test
   void shouldNotCleanCompleteTasksAfterDefinedDay() throws Exception {
@@ -15,7 +15,6 @@ import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.common.api.JobService;
 import pro.taskana.common.api.ScheduledJob;
-import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.task.api.TaskCustomField;
@@ -189,8 +188,7 @@ class UpdateObjectsUseUtcTimeStampsAccTest extends AbstractAccTest {
     TimeZone originalZone = TimeZone.getDefault();
     TimeZone.setDefault(TimeZone.getTimeZone("EST"));
 
-    JobServiceImpl jobServiceImpl = (JobServiceImpl) jobService;
-    List<ScheduledJob> jobs = jobServiceImpl.findJobsToRun();
+    List<ScheduledJob> jobs = getJobMapper().findJobsToRun(Instant.now());
     final ScheduledJob jobForLambda = job;
     ScheduledJob retrievedJob =
         jobs.stream()
@@ -0,0 +1,236 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.ReportAggregateStore;
+import pro.taskana.task.internal.jobs.ReportAggregateJob;
+
+/** Acceptance test for the reports which are answered from the report aggregates. */
+@ExtendWith(JaasExtension.class)
+class ProvideReportFromAggregatesAccTest extends AbstractAccTest {
+
+  private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS =
+      List.of(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+          new TimeIntervalColumnHeader(-10, -2),
+          new TimeIntervalColumnHeader(-1),
+          new TimeIntervalColumnHeader(0),
+          new TimeIntervalColumnHeader(1),
+          new TimeIntervalColumnHeader(2, 10),
+          new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+
+  @BeforeAll
+  static void enableReportAggregates() {
+    taskanaEngineConfiguration.setMonitorAggregatesEnabled(true);
+    getReportAggregateStore().rebuild();
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ProvideSameReportsAsTaskScan_When_AggregatesAreRebuilt() throws Exception {
+    assertThat(getReportAggregateStore().findDeviations()).isEmpty();
+    assertThatReportsMatchTaskScan();
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_KeepAggregatesConsistent_When_TasksAreChanged() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> readyTasks =
+        taskService.createTaskQuery().stateIn(TaskState.READY).list();
+
+    taskService.forceClaim(readyTasks.get(0).getId());
+    taskService.forceCompleteTask(readyTasks.get(1).getId());
+    taskService.forceCompleteTasks(
+        List.of(readyTasks.get(2).getId(), readyTasks.get(3).getId()));
+    taskService.transfer(readyTasks.get(4).getId(), "USER-1-2", "DOMAIN_A");
+    taskService.transferTasks(
+        "WBI:100000000000000000000000000000000006",
+        List.of(readyTasks.get(5).getId(), readyTasks.get(6).getId()));
+    taskService.forceDeleteTask(readyTasks.get(7).getId());
+
+    Task task = taskService.getTask(readyTasks.get(8).getId());
+    task.setDue(Instant.now().plus(3, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
+    task.setPlanned(null);
+    task.addAttachment(
+        createAttachment(
+            "DOCTYPE_DEFAULT",
+            createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "1"),
+            "E-MAIL",
+            "2018-01-15",
+            null));
+    taskService.updateTask(task);
+
+    Task newTask = taskService.newTask("USER-1-1", "DOMAIN_A");
+    newTask.setClassificationKey("T2100");
+    newTask.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    taskService.createTask(newTask);
+
+    assertThat(getReportAggregateStore().findDeviations()).isEmpty();
+    assertThatReportsMatchTaskScan();
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_ComputeSameAgeAsTaskScan_When_TasksAreDueAtDifferentTimesOfDay() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    Instant startOfToday = Instant.now().truncatedTo(ChronoUnit.DAYS);
+    List<Instant> dueTimestamps =
+        List.of(
+            startOfToday.minus(1, ChronoUnit.MINUTES),
+            startOfToday.plus(1, ChronoUnit.MINUTES),
+            startOfToday.plus(1, ChronoUnit.DAYS).minus(1, ChronoUnit.MINUTES),
+            startOfToday.plus(1, ChronoUnit.DAYS).plus(1, ChronoUnit.MINUTES),
+            Instant.now().plus(23, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS));
+    for (Instant due : dueTimestamps) {
+      Task task = taskService.newTask("USER-1-1", "DOMAIN_A");
+      task.setClassificationKey("T2100");
+      task.setPrimaryObjRef(
+          createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+      task.setDue(due);
+      taskService.createTask(task);
+    }
+
+    assertThat(getReportAggregateStore().findDeviations()).isEmpty();
+    assertThatReportsMatchTaskScan();
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_KeepAggregatesConsistent_When_TaskIsCancelled() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    String taskId =
+        taskService.createTaskQuery().stateIn(TaskState.READY).list().get(0).getId();
+    final int cancelledTasks = countTasksInReport(TaskState.CANCELLED);
+    final long changedTasks = getReportAggregateStore().getNumberOfChangedTasks();
+
+    taskService.cancelTask(taskId);
+
+    assertThat(getReportAggregateStore().getNumberOfChangedTasks()).isGreaterThan(changedTasks);
+    assertThat(countTasksInReport(TaskState.CANCELLED)).isEqualTo(cancelledTasks + 1);
+    assertThat(getReportAggregateStore().findDeviations()).isEmpty();
+    assertThatReportsMatchTaskScan();
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_KeepAggregatesConsistent_When_TaskIsTerminated() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    String taskId =
+        taskService.createTaskQuery().stateIn(TaskState.READY).list().get(0).getId();
+    final int terminatedTasks = countTasksInReport(TaskState.TERMINATED);
+    final long changedTasks = getReportAggregateStore().getNumberOfChangedTasks();
+
+    taskService.terminateTask(taskId);
+
+    assertThat(getReportAggregateStore().getNumberOfChangedTasks()).isGreaterThan(changedTasks);
+    assertThat(countTasksInReport(TaskState.TERMINATED)).isEqualTo(terminatedTasks + 1);
+    assertThat(getReportAggregateStore().findDeviations()).isEmpty();
+    assertThatReportsMatchTaskScan();
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_RepairAggregates_When_ReportAggregateJobRuns() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    String taskId =
+        taskService.createTaskQuery().stateIn(TaskState.READY).list().get(0).getId();
+    taskanaEngineConfiguration.setMonitorAggregatesEnabled(false);
+    try {
+      taskService.forceCompleteTask(taskId);
+    } finally {
+      taskanaEngineConfiguration.setMonitorAggregatesEnabled(true);
+    }
+    assertThat(getReportAggregateStore().findDeviations()).isNotEmpty();
+
+    new ReportAggregateJob(taskanaEngine, null, null).run();
+
+    assertThat(getReportAggregateStore().findDeviations()).isEmpty();
+    assertThatReportsMatchTaskScan();
+  }
+
+  private static ReportAggregateStore getReportAggregateStore() {
+    return ((TaskanaEngineImpl) taskanaEngine).getReportAggregateStore();
+  }
+
+  private static Map<String, List<Integer>> toCells(Report<?, ?> report) {
+    return report.getRows().entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Entry::getKey,
+                e -> Arrays.stream(e.getValue().getCells()).boxed().collect(Collectors.toList())));
+  }
+
+  private int countTasksInReport(TaskState state) throws Exception {
+    return taskanaEngine
+        .getMonitorService()
+        .createWorkbasketReportBuilder()
+        .withColumnHeaders(COLUMN_HEADERS)
+        .stateIn(List.of(state))
+        .buildReport()
+        .getSumRow()
+        .getTotalValue();
+  }
+
+  private void assertThatReportsMatchTaskScan() throws Exception {
+    List<Map<String, List<Integer>>> reportsFromAggregates = buildReports();
+    taskanaEngineConfiguration.setMonitorAggregatesEnabled(false);
+    try {
+      assertThat(reportsFromAggregates).isEqualTo(buildReports());
+    } finally {
+      taskanaEngineConfiguration.setMonitorAggregatesEnabled(true);
+    }
+  }
+
+  private List<Map<String, List<Integer>>> buildReports() throws Exception {
+    MonitorService monitorService = taskanaEngine.getMonitorService();
+    return List.of(
+        toCells(
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .buildReport()),
+        toCells(
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .stateIn(List.of(TaskState.READY, TaskState.CLAIMED))
+                .inWorkingDays()
+                .buildReport()),
+        toCells(
+            monitorService
+                .createClassificationCategoryReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .domainIn(List.of("DOMAIN_A"))
+                .buildReport()),
+        toCells(
+            monitorService
+                .createClassificationReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .excludedClassificationIdIn(List.of("CLI:100000000000000000000000000000000001"))
+                .buildReport()));
+  }
+}
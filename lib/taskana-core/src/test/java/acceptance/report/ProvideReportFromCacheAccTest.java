@@ -0,0 +1,121 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.internal.ReportCache;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+
+/** Acceptance test for the reports which are answered from the report cache. */
+@ExtendWith(JaasExtension.class)
+class ProvideReportFromCacheAccTest extends AbstractAccTest {
+
+  private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS =
+      List.of(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -2),
+          new TimeIntervalColumnHeader(-1, 1),
+          new TimeIntervalColumnHeader(2, Integer.MAX_VALUE));
+
+  @BeforeAll
+  static void enableReportCache() throws Exception {
+    taskanaEngineConfiguration.setMonitorReportCacheMaxWeight(1000);
+    taskanaEngineConfiguration.setMonitorReportCacheMaxTaskChanges(1);
+    taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @BeforeEach
+  void invalidateReportCache() {
+    getReportCache().invalidateAll();
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ProvideCachedQueryItems_When_ReportIsBuiltAgain() throws Exception {
+    long hitCount = getReportCache().getHitCount();
+
+    WorkbasketReport report = buildReport(true, COLUMN_HEADERS);
+    WorkbasketReport cachedReport = buildReport(true, COLUMN_HEADERS);
+
+    assertThat(getReportCache().getHitCount()).isEqualTo(hitCount + 1);
+    assertThat(toCells(cachedReport)).isEqualTo(toCells(report));
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ExecuteQuery_When_AgeBucketsAreDifferent() throws Exception {
+    long missCount = getReportCache().getMissCount();
+
+    WorkbasketReport report = buildReport(false, COLUMN_HEADERS);
+    WorkbasketReport reportInWorkingDays = buildReport(true, COLUMN_HEADERS);
+    WorkbasketReport reportWithOneColumn =
+        buildReport(
+            false, List.of(new TimeIntervalColumnHeader(Integer.MIN_VALUE, Integer.MAX_VALUE)));
+
+    assertThat(getReportCache().getMissCount()).isEqualTo(missCount + 3);
+    assertThat(reportInWorkingDays.getSumRow().getTotalValue())
+        .isEqualTo(report.getSumRow().getTotalValue());
+    assertThat(reportWithOneColumn.getSumRow().getCells())
+        .containsExactly(report.getSumRow().getTotalValue());
+  }
+
+  @WithAccessId(user = "monitor", groups = "admin")
+  @Test
+  void should_RebuildReport_When_TasksAreChanged() throws Exception {
+    long missCount = getReportCache().getMissCount();
+    WorkbasketReport report = buildReport(false, COLUMN_HEADERS);
+
+    TaskService taskService = taskanaEngine.getTaskService();
+    String taskId = taskService.createTaskQuery().stateIn(TaskState.READY).list().get(0).getId();
+    taskService.forceCompleteTask(taskId);
+    WorkbasketReport reportAfterChange = buildReport(false, COLUMN_HEADERS);
+
+    assertThat(getReportCache().getMissCount()).isEqualTo(missCount + 2);
+    assertThat(reportAfterChange.getSumRow().getTotalValue())
+        .isEqualTo(report.getSumRow().getTotalValue() - 1);
+  }
+
+  private static ReportCache getReportCache() {
+    return ((TaskanaEngineImpl) taskanaEngine).getReportCache();
+  }
+
+  private static Map<String, List<Integer>> toCells(Report<?, ?> report) {
+    return report.getRows().entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Entry::getKey,
+                e -> Arrays.stream(e.getValue().getCells()).boxed().collect(Collectors.toList())));
+  }
+
+  private WorkbasketReport buildReport(
+      boolean inWorkingDays, List<TimeIntervalColumnHeader> columnHeaders) throws Exception {
+    WorkbasketReport.Builder builder =
+        taskanaEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .stateIn(List.of(TaskState.READY, TaskState.CLAIMED))
+            .withColumnHeaders(columnHeaders);
+    if (inWorkingDays) {
+      builder.inWorkingDays();
+    }
+    return builder.buildReport();
+  }
+}
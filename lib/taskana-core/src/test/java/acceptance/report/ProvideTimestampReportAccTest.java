@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.TaskTimestamp;
 import pro.taskana.monitor.api.reports.TimestampReport;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.TimestampQueryItem;
@@ -49,6 +50,37 @@ class ProvideTimestampReportAccTest extends AbstractReportAccTest {
     assertThatCode(test).doesNotThrowAnyException();
   }
 
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_CountEveryTimestampSeparately_When_SeveralTimestampsAreRequested()
+      throws Exception {
+    List<TaskTimestamp> timestamps =
+        List.of(TaskTimestamp.CREATED, TaskTimestamp.PLANNED, TaskTimestamp.DUE);
+
+    TimestampReport report =
+        MONITOR_SERVICE.createTimestampReportBuilder().withTimestamps(timestamps).buildReport();
+
+    assertThat(report.getRows()).containsOnlyKeys("CREATED", "PLANNED", "DUE");
+    for (TaskTimestamp timestamp : timestamps) {
+      TimestampReport singleTimestampReport =
+          MONITOR_SERVICE
+              .createTimestampReportBuilder()
+              .withTimestamps(List.of(timestamp))
+              .buildReport();
+      assertThat(report.getRow(timestamp.name()).getTotalValue())
+          .isEqualTo(singleTimestampReport.getRow(timestamp.name()).getTotalValue());
+    }
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ReturnEmptyReport_When_NoTimestampIsRequested() throws Exception {
+    TimestampReport report =
+        MONITOR_SERVICE.createTimestampReportBuilder().withTimestamps(List.of()).buildReport();
+
+    assertThat(report.rowSize()).isZero();
+  }
+
   @WithAccessId(user = "monitor")
   @Test
   void should_FilterTasksAccordingToDomain_When_DomainFilterIsApplied() throws Exception {
@@ -0,0 +1,114 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.InvalidOwnerException;
+import pro.taskana.task.api.exceptions.InvalidStateException;
+import pro.taskana.task.api.exceptions.TaskNotFoundException;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for all "change task state without loading the task" scenarios. */
+@ExtendWith(JaasExtension.class)
+class ChangeTaskStateWithoutResultAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimTask_When_TaskIsReady() throws Exception {
+    taskService.claimWithoutResult("TKI:000000000000000000000000000000000025", false);
+
+    Task claimedTask = taskService.getTask("TKI:000000000000000000000000000000000025");
+    assertThat(claimedTask.getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(claimedTask.getOwner()).isEqualTo("user-1-2");
+    assertThat(claimedTask.getClaimed()).isNotNull();
+    assertThat(claimedTask.getModified()).isEqualTo(claimedTask.getClaimed());
+    assertThat(claimedTask.isRead()).isTrue();
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_TaskIsClaimedByAnotherUser() {
+    assertThatThrownBy(
+            () -> taskService.claimWithoutResult("TKI:000000000000000000000000000000000026", false))
+        .isInstanceOf(InvalidOwnerException.class);
+    assertThatThrownBy(
+            () ->
+                taskService.cancelClaimWithoutResult(
+                    "TKI:000000000000000000000000000000000030", false))
+        .isInstanceOf(InvalidOwnerException.class);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimTask_When_TaskIsClaimedByAnotherUserAndClaimIsForced() throws Exception {
+    taskService.claimWithoutResult("TKI:000000000000000000000000000000000026", true);
+
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000026").getOwner())
+        .isEqualTo("user-1-2");
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CancelClaim_When_TaskIsClaimedByCurrentUser() throws Exception {
+    taskService.cancelClaimWithoutResult("TKI:000000000000000000000000000000000029", false);
+
+    Task unclaimedTask = taskService.getTask("TKI:000000000000000000000000000000000029");
+    assertThat(unclaimedTask.getState()).isEqualTo(TaskState.READY);
+    assertThat(unclaimedTask.getOwner()).isNull();
+    assertThat(unclaimedTask.getClaimed()).isNull();
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimAndCompleteTask_When_ReadyTaskIsForceCompleted() throws Exception {
+    taskService.completeTaskWithoutResult("TKI:000000000000000000000000000000000025", true);
+
+    Task completedTask = taskService.getTask("TKI:000000000000000000000000000000000025");
+    assertThat(completedTask.getState()).isEqualTo(TaskState.COMPLETED);
+    assertThat(completedTask.getOwner()).isEqualTo("user-1-2");
+    assertThat(completedTask.getClaimed()).isEqualTo(completedTask.getCompleted());
+    assertThat(completedTask.getModified()).isEqualTo(completedTask.getCompleted());
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_ReadyTaskIsCompletedWithoutForce() {
+    assertThatThrownBy(
+            () ->
+                taskService.completeTaskWithoutResult(
+                    "TKI:000000000000000000000000000000000025", false))
+        .isInstanceOf(InvalidStateException.class);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_UserHasNoReadPermissionForWorkbasketOfTask() {
+    assertThatThrownBy(
+            () -> taskService.claimWithoutResult("TKI:000000000000000000000000000000000025", false))
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_TaskDoesNotExist() {
+    assertThatThrownBy(() -> taskService.claimWithoutResult("TKI:invalid", false))
+        .isInstanceOf(TaskNotFoundException.class);
+  }
+}
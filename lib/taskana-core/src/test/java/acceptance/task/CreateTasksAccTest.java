@@ -0,0 +1,212 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.models.AttachmentSummary;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+
+/** Acceptance test for all "create tasks" scenarios. */
+@ExtendWith(JaasExtension.class)
+class CreateTasksAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_CreateAllTasks_When_AllTasksAreValid() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasks.add(newTask("T2100"));
+    }
+    Task taskWithAttachment = newTask("L12010");
+    taskWithAttachment.addAttachment(
+        createAttachment(
+            "DOCTYPE_DEFAULT",
+            createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "4711"),
+            "E-MAIL",
+            "2018-01-15",
+            null));
+    tasks.add(taskWithAttachment);
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.containsErrors()).isFalse();
+    for (Task task : tasks) {
+      Task createdTask = taskService.getTask(task.getId());
+      assertThat(createdTask.getExternalId()).isEqualTo(task.getExternalId());
+      assertThat(createdTask.getState()).isEqualTo(TaskState.READY);
+      assertThat(createdTask.getCreator()).isEqualTo("user-1-1");
+      assertThat(createdTask.getWorkbasketSummary().getId()).isNotNull();
+      assertThat(createdTask.getPlanned()).isNotNull();
+      assertThat(createdTask.getDue()).isNotNull();
+    }
+    assertThat(taskService.getTask(taskWithAttachment.getId()).getAttachments())
+        .hasSize(1)
+        .extracting(AttachmentSummary::getTaskId)
+        .containsOnly(taskWithAttachment.getId());
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_InsertAllAttachments_When_TasksHaveMoreAttachmentsThanOneBatch() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Task task = newTask("L12010");
+      for (int j = 0; j < 250; j++) {
+        task.addAttachment(
+            createAttachment(
+                "DOCTYPE_DEFAULT",
+                createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "4711"),
+                "E-MAIL",
+                "2018-01-15",
+                null));
+      }
+      tasks.add(task);
+    }
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.containsErrors()).isFalse();
+    for (Task task : tasks) {
+      assertThat(taskService.getTask(task.getId()).getAttachments())
+          .hasSize(250)
+          .extracting(AttachmentSummary::getTaskId)
+          .containsOnly(task.getId());
+    }
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReportEveryFailedTask_When_SomeTasksAreInvalid() throws Exception {
+    Task validTask = newTask("T2100");
+    validTask.setExternalId("valid-external-id");
+    final Task unknownClassification = newTask("UNKNOWN");
+    final Task unknownWorkbasket = taskService.newTask("UNKNOWN", "DOMAIN_A");
+    unknownWorkbasket.setClassificationKey("T2100");
+    unknownWorkbasket.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    final Task notPermittedWorkbasket = taskService.newTask("USER-1-2", "DOMAIN_A");
+    notPermittedWorkbasket.setClassificationKey("T2100");
+    notPermittedWorkbasket.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    Task existingExternalId = newTask("T2100");
+    existingExternalId.setExternalId("ETI:000000000000000000000000000000000000");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(
+            List.of(
+                validTask,
+                unknownClassification,
+                unknownWorkbasket,
+                notPermittedWorkbasket,
+                existingExternalId));
+
+    assertThat(results.getErrorMap())
+        .hasSize(4)
+        .hasEntrySatisfying(
+            unknownClassification.getExternalId(),
+            e -> assertThat(e).isInstanceOf(ClassificationNotFoundException.class))
+        .hasEntrySatisfying(
+            unknownWorkbasket.getExternalId(),
+            e -> assertThat(e).isInstanceOf(WorkbasketNotFoundException.class))
+        .hasEntrySatisfying(
+            notPermittedWorkbasket.getExternalId(),
+            e -> assertThat(e).isInstanceOf(NotAuthorizedException.class))
+        .hasEntrySatisfying(
+            existingExternalId.getExternalId(),
+            e -> assertThat(e).isInstanceOf(TaskAlreadyExistException.class));
+    assertThat(taskService.getTask(validTask.getId()).getExternalId())
+        .isEqualTo(validTask.getExternalId());
+
+    Task duplicateExternalId = newTask("T2100");
+    duplicateExternalId.setExternalId("valid-external-id");
+    results = taskService.createTasks(List.of(duplicateExternalId));
+    assertThat(results.getErrorForId("valid-external-id"))
+        .isInstanceOf(TaskAlreadyExistException.class);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_CreateOtherTasksOfBatch_When_DatabaseRejectsOneTask() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      tasks.add(newTask("T2100"));
+    }
+    Task rejectedTask = newTask("T2100");
+    rejectedTask.setName("x".repeat(300));
+    tasks.add(1, rejectedTask);
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.getFailedIds()).containsExactly(rejectedTask.getExternalId());
+    assertThat(results.getErrorForId(rejectedTask.getExternalId()))
+        .isInstanceOf(InvalidArgumentException.class);
+    for (Task task : tasks) {
+      if (task != rejectedTask) {
+        assertThat(taskService.getTask(task.getId()).getExternalId())
+            .isEqualTo(task.getExternalId());
+      }
+    }
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .externalIdIn(rejectedTask.getExternalId())
+                .count())
+        .isZero();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReportDuplicate_When_ListContainsExternalIdTwice() throws Exception {
+    Task first = newTask("T2100");
+    first.setExternalId("my-external-id");
+    Task second = newTask("T2100");
+    second.setExternalId("my-external-id");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(List.of(first, second));
+
+    assertThat(results.getErrorForId("my-external-id"))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(taskService.createTaskQuery().externalIdIn("my-external-id").count()).isOne();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_ListOfTasksIsNull() {
+    assertThatThrownBy(() -> taskService.createTasks(null))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+
+  private Task newTask(String classificationKey) {
+    Task task = taskService.newTask("USER-1-1", "DOMAIN_A");
+    task.setClassificationKey(classificationKey);
+    task.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    return task;
+  }
+}
@@ -0,0 +1,100 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
+
+/** Acceptance test for all "stream tasks" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksAsStreamAccTest extends AbstractAccTest {
+
+  private static final int DEFAULT_WINDOW_SIZE = 1000;
+
+  @AfterEach
+  void resetWindowSize() {
+    taskanaEngine.getConfiguration().setQueryStreamWindowSize(DEFAULT_WINDOW_SIZE);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_StreamSameTasksAsList_When_WindowSizeIsSmallerThanResult() {
+    taskanaEngine.getConfiguration().setQueryStreamWindowSize(7);
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    List<TaskSummary> expected =
+        taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING).list();
+    List<TaskSummary> streamed;
+    try (Stream<TaskSummary> stream =
+        taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING).stream()) {
+      streamed = stream.collect(Collectors.toList());
+    }
+
+    assertThat(expected).hasSizeGreaterThan(7);
+    assertThat(streamed).containsExactlyElementsOf(expected);
+  }
+
+  @WithAccessId(user = "teamlead-1")
+  @Test
+  void should_AugmentStreamedTasks_When_TasksAreStreamed() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskQuery query =
+        taskService.createTaskQuery().workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"));
+
+    List<TaskSummary> streamed;
+    try (Stream<TaskSummary> stream = query.stream()) {
+      streamed = stream.collect(Collectors.toList());
+    }
+
+    assertThat(streamed)
+        .hasSize(22)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getWorkbasketSummary().getName()).isNotNull();
+              assertThat(task.getClassificationSummary().getName()).isNotNull();
+            });
+  }
+
+  @WithAccessId(user = "teamlead-1")
+  @Test
+  void should_ReadOnlyFirstWindow_When_StreamIsShortCircuited() {
+    taskanaEngine.getConfiguration().setQueryStreamWindowSize(2);
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    List<TaskSummary> streamed;
+    try (Stream<TaskSummary> stream = taskService.createTaskQuery().stream()) {
+      streamed = stream.limit(1).collect(Collectors.toList());
+    }
+
+    assertThat(streamed).hasSize(1);
+    // the connection has been returned, further queries still work
+    assertThat(taskService.createTaskQuery().count()).isPositive();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_StreamingTasksOfUnauthorizedWorkbasket() {
+    TaskQuery query =
+        taskanaEngine
+            .getTaskService()
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("USER-2-1", "DOMAIN_A"));
+
+    assertThatThrownBy(query::stream).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
+  }
+}
@@ -0,0 +1,78 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.CountStrategy;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for all "count tasks with count strategy" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithCountStrategyAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReuseCount_When_EqualQueryIsCountedWithCachedStrategy() throws Exception {
+    long exactCount = taskService.createTaskQuery().stateIn(TaskState.READY).count();
+    long cachedCount =
+        taskService.createTaskQuery().stateIn(TaskState.READY).count(CountStrategy.CACHED);
+    assertThat(cachedCount).isEqualTo(exactCount);
+
+    Task task = taskService.newTask("USER-1-1", "DOMAIN_A");
+    task.setClassificationKey("T2100");
+    task.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    taskService.createTask(task);
+
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .stateIn(TaskState.READY)
+                .orderByDue(null)
+                .count(CountStrategy.CACHED))
+        .isEqualTo(exactCount);
+    assertThat(taskService.createTaskQuery().stateIn(TaskState.READY).count())
+        .isEqualTo(exactCount + 1);
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .stateIn(TaskState.READY, TaskState.CLAIMED)
+                .count(CountStrategy.CACHED))
+        .isEqualTo(
+            taskService.createTaskQuery().stateIn(TaskState.READY, TaskState.CLAIMED).count());
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_CountExactly_When_EstimatedStrategyIsNotSupportedByDatabase() {
+    long exactCount =
+        taskService
+            .createTaskQuery()
+            .workbasketIdIn("WBI:100000000000000000000000000000000006")
+            .count();
+
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .workbasketIdIn("WBI:100000000000000000000000000000000006")
+                .count(CountStrategy.ESTIMATED))
+        .isEqualTo(exactCount);
+    assertThat(taskService.createTaskQuery().count(null))
+        .isEqualTo(taskService.createTaskQuery().count());
+  }
+}
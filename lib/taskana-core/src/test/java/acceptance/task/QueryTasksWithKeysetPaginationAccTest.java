@@ -0,0 +1,124 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for all "query tasks with keyset pagination" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithKeysetPaginationAccTest extends AbstractAccTest {
+
+  private static final int PAGE_SIZE = 4;
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameTasksAsList_When_PagingWithKeysetByDue() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    Supplier<TaskQuery> query =
+        () ->
+            taskService
+                .createTaskQuery()
+                .orderByDue(SortDirection.DESCENDING)
+                .orderByTaskId(SortDirection.ASCENDING);
+
+    List<TaskSummary> pagedTasks = readAllPages(query);
+
+    assertThat(pagedTasks).hasSizeGreaterThan(PAGE_SIZE).isEqualTo(query.get().list());
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnSameTasksAsList_When_SortColumnsContainNullValues() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    Supplier<TaskQuery> query =
+        () ->
+            taskService
+                .createTaskQuery()
+                .orderByOwner(SortDirection.ASCENDING)
+                .orderByCustomAttribute(TaskCustomField.CUSTOM_1, SortDirection.DESCENDING)
+                .orderByState(SortDirection.ASCENDING)
+                .orderByTaskId(SortDirection.DESCENDING);
+
+    List<TaskSummary> pagedTasks = readAllPages(query);
+
+    assertThat(pagedTasks).isEqualTo(query.get().list());
+  }
+
+  @WithAccessId(user = "teamlead-1")
+  @Test
+  void should_AddTaskIdAsTieBreak_When_SeekingWithoutSortingByTaskId() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expected =
+        taskService
+            .createTaskQuery()
+            .orderByPriority(SortDirection.ASCENDING)
+            .orderByTaskId(SortDirection.ASCENDING)
+            .list();
+
+    List<TaskSummary> secondPage =
+        taskService
+            .createTaskQuery()
+            .orderByPriority(SortDirection.ASCENDING)
+            .seekAfter(expected.get(PAGE_SIZE - 1))
+            .list(0, PAGE_SIZE);
+
+    assertThat(secondPage).isEqualTo(expected.subList(PAGE_SIZE, 2 * PAGE_SIZE));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnEmptyList_When_SeekingAfterLastTask() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> tasks =
+        taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING).list();
+
+    List<TaskSummary> result =
+        taskService
+            .createTaskQuery()
+            .orderByTaskId(SortDirection.ASCENDING)
+            .seekAfter(tasks.get(tasks.size() - 1))
+            .list(0, PAGE_SIZE);
+
+    assertThat(result).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_SeekingWhileSortingByClassificationName() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    TaskSummary task = taskService.createTaskQuery().list(0, 1).get(0);
+    TaskQuery query =
+        taskService
+            .createTaskQuery()
+            .orderByClassificationName(SortDirection.ASCENDING)
+            .seekAfter(task);
+
+    ThrowingCallable call = () -> query.list(0, PAGE_SIZE);
+    assertThatThrownBy(call).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private List<TaskSummary> readAllPages(Supplier<TaskQuery> querySupplier) {
+    List<TaskSummary> result = new ArrayList<>();
+    List<TaskSummary> page = querySupplier.get().list(0, PAGE_SIZE);
+    while (!page.isEmpty()) {
+      result.addAll(page);
+      page = querySupplier.get().seekAfter(page.get(page.size() - 1)).list(0, PAGE_SIZE);
+    }
+    return result;
+  }
+}
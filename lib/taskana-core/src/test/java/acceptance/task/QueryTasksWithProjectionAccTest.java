@@ -0,0 +1,110 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQueryColumnName;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for all "query tasks with projection" scenarios. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithProjectionAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnOnlySelectedColumns_When_QueryUsesProjection() {
+    List<TaskSummary> fullResults =
+        taskService.createTaskQuery().stateIn(TaskState.READY).orderByTaskId(null).list();
+
+    List<TaskSummary> results =
+        taskService
+            .createTaskQuery()
+            .stateIn(TaskState.READY)
+            .orderByTaskId(null)
+            .select(
+                TaskQueryColumnName.STATE,
+                TaskQueryColumnName.DUE,
+                TaskQueryColumnName.WORKBASKET_KEY)
+            .list();
+
+    assertThat(results).hasSameSizeAs(fullResults);
+    for (int i = 0; i < results.size(); i++) {
+      TaskSummary expected = fullResults.get(i);
+      TaskSummary actual = results.get(i);
+      assertThat(actual.getId()).isEqualTo(expected.getId());
+      assertThat(actual.getState()).isEqualTo(expected.getState());
+      assertThat(actual.getDue()).isEqualTo(expected.getDue());
+      assertThat(actual.getWorkbasketSummary().getKey())
+          .isEqualTo(expected.getWorkbasketSummary().getKey());
+      assertThat(actual.getName()).isNull();
+      assertThat(actual.getOwner()).isNull();
+      assertThat(actual.getWorkbasketSummary().getName()).isNull();
+      assertThat(actual.getClassificationSummary()).isNull();
+      assertThat(actual.getAttachmentSummaries()).isEmpty();
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_SelectTaskIdOnly_When_NoColumnIsGiven() {
+    List<TaskSummary> results =
+        taskService
+            .createTaskQuery()
+            .classificationNameIn("Widerruf")
+            .orderByDue(SortDirection.DESCENDING)
+            .select()
+            .list(0, 5);
+
+    assertThat(results).isNotEmpty().allSatisfy(t -> assertThat(t.getId()).isNotNull());
+    assertThat(results).extracting(TaskSummary::getId).doesNotHaveDuplicates();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_StreamProjectedTasks_When_QueryUsesProjection() {
+    List<String> expectedIds =
+        taskService.createTaskQuery().orderByTaskId(null).list().stream()
+            .map(TaskSummary::getId)
+            .collect(Collectors.toList());
+
+    try (Stream<TaskSummary> stream =
+        taskService.createTaskQuery().orderByTaskId(null).select().stream()) {
+      assertThat(stream.map(TaskSummary::getId)).containsExactlyElementsOf(expectedIds);
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_SelectingAttachmentColumn() {
+    assertThatThrownBy(
+            () -> taskService.createTaskQuery().select(TaskQueryColumnName.A_CHANNEL))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_ProjectionIsSortedByClassificationName() {
+    assertThatThrownBy(
+            () ->
+                taskService
+                    .createTaskQuery()
+                    .orderByClassificationName(null)
+                    .select(TaskQueryColumnName.STATE)
+                    .list())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,106 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.security.auth.Subject;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.common.internal.util.CheckedConsumer;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for all "select and claim multiple tasks" scenarios. */
+@ExtendWith(JaasExtension.class)
+class SelectAndClaimMultipleTasksAccTest extends AbstractAccTest {
+
+  private static final int TASKS_PER_CALL = 2;
+
+  @Test
+  void should_ClaimDifferentTasks_For_ConcurrentSelectAndClaimCalls() throws Exception {
+    List<Task> selectedAndClaimedTasks = Collections.synchronizedList(new ArrayList<>());
+    List<String> accessIds =
+        Collections.synchronizedList(
+            Stream.of("admin", "teamlead-1", "teamlead-2", "taskadmin")
+                .collect(Collectors.toList()));
+
+    Runnable test = getRunnableTest(selectedAndClaimedTasks, accessIds);
+
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(test);
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(selectedAndClaimedTasks)
+        .hasSize(threads.length * TASKS_PER_CALL)
+        .extracting(Task::getId)
+        .doesNotHaveDuplicates();
+    assertThat(selectedAndClaimedTasks).extracting(Task::getState).containsOnly(TaskState.CLAIMED);
+    assertThat(selectedAndClaimedTasks.stream().collect(Collectors.groupingBy(Task::getOwner)))
+        .containsOnlyKeys("admin", "taskadmin", "teamlead-1", "teamlead-2")
+        .allSatisfy((owner, tasks) -> assertThat(tasks).hasSize(TASKS_PER_CALL));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnEmptyList_When_NoTaskMatchesTheQuery() throws Exception {
+    TaskQuery query = taskanaEngine.getTaskService().createTaskQuery().idIn("notexisting");
+
+    List<Task> tasks = taskanaEngine.getTaskService().selectAndClaim(query, TASKS_PER_CALL);
+
+    assertThat(tasks).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_MaxCountIsNotPositive() {
+    TaskQuery query = taskanaEngine.getTaskService().createTaskQuery();
+
+    ThrowingCallable call = () -> taskanaEngine.getTaskService().selectAndClaim(query, 0);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  private Runnable getRunnableTest(List<Task> selectedAndClaimedTasks, List<String> accessIds) {
+    return () -> {
+      Subject subject = new Subject();
+      subject.getPrincipals().add(new UserPrincipal(accessIds.remove(0)));
+
+      Consumer<TaskService> consumer =
+          CheckedConsumer.wrap(
+              taskService ->
+                  selectedAndClaimedTasks.addAll(
+                      taskService.selectAndClaim(getTaskQuery(), TASKS_PER_CALL)));
+      PrivilegedAction<Void> action =
+          () -> {
+            consumer.accept(taskanaEngine.getTaskService());
+            return null;
+          };
+      Subject.doAs(subject, action);
+    };
+  }
+
+  private TaskQuery getTaskQuery() {
+    return taskanaEngine.getTaskService().createTaskQuery().orderByTaskId(SortDirection.ASCENDING);
+  }
+}
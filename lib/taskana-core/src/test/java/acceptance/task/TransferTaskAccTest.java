@@ -289,6 +289,31 @@ class TransferTaskAccTest extends AbstractAccTest {
     assertThat(transferredTask.getWorkbasketKey()).isEqualTo("TEAMLEAD-1");
   }
 
+  @WithAccessId(user = "teamlead-1", groups = GROUP_1_DN)
+  @Test
+  void should_TransferEachTaskOnce_When_TaskIdsContainDuplicates() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<String> taskIds =
+        List.of(
+            "TKI:000000000000000000000000000000000004",
+            "TKI:000000000000000000000000000000000005",
+            "TKI:000000000000000000000000000000000004");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.transferTasks("WBI:100000000000000000000000000000000006", taskIds);
+
+    assertThat(results.containsErrors()).isFalse();
+    assertThat(
+            taskService
+                .createTaskQuery()
+                .idIn(
+                    "TKI:000000000000000000000000000000000004",
+                    "TKI:000000000000000000000000000000000005")
+                .workbasketIdIn("WBI:100000000000000000000000000000000006")
+                .count())
+        .isEqualTo(2);
+  }
+
   @WithAccessId(user = "teamlead-1")
   @Test
   void should_ThrowException_When_BulkTransferTasksWithoutAppendPermissionOnTarget() {
@@ -0,0 +1,166 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.internal.TaskanaEngineProxy;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQueryColumnName;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/** Acceptance test for all "cached workbasket permissions" scenarios. */
+@ExtendWith(JaasExtension.class)
+class WorkbasketPermissionCacheAccTest extends AbstractAccTest {
+
+  private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000002";
+  private static final String WORKBASKET_ID_WITH_TASKS = "WBI:100000000000000000000000000000000006";
+
+  @AfterEach
+  void after() throws Exception {
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_GrantPermission_When_AccessItemIsCreatedAfterPermissionWasChecked()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+
+    createReadAccessItem(workbasketService);
+
+    assertThatCode(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .doesNotThrowAnyException();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_RevokePermission_When_AccessItemIsUpdatedAfterPermissionWasChecked()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    WorkbasketAccessItem accessItem = createReadAccessItem(workbasketService);
+    workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ);
+
+    accessItem.setPermission(WorkbasketPermission.READ, false);
+    accessItem.setPermission(WorkbasketPermission.OPEN, true);
+    workbasketService.updateWorkbasketAccessItem(accessItem);
+
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+    assertThatCode(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.OPEN))
+        .doesNotThrowAnyException();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_RevokePermission_When_AccessItemsAreReplacedAfterPermissionWasChecked()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    createReadAccessItem(workbasketService);
+    workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ);
+
+    workbasketService.setWorkbasketAccessItems(WORKBASKET_ID, List.of());
+
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_FindTasksOfWorkbasket_When_AccessItemIsCreatedAfterTasksWereQueried()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    TaskService taskService = taskanaEngine.getTaskService();
+    assertThat(taskService.createTaskQuery().list()).isEmpty();
+
+    createReadAccessItem(workbasketService, WORKBASKET_ID_WITH_TASKS);
+
+    assertThat(taskService.createTaskQuery().list())
+        .isNotEmpty()
+        .extracting(task -> task.getWorkbasketSummary().getId())
+        .containsOnly(WORKBASKET_ID_WITH_TASKS);
+    assertThat(taskService.createTaskQuery().count())
+        .isEqualTo(taskService.createTaskQuery().list().size());
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_NotFindTasksOfWorkbasket_When_AccessItemIsDeletedAfterTasksWereQueried()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    TaskService taskService = taskanaEngine.getTaskService();
+    WorkbasketAccessItem accessItem =
+        createReadAccessItem(workbasketService, WORKBASKET_ID_WITH_TASKS);
+    assertThat(taskService.createTaskQuery().count()).isPositive();
+
+    workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
+
+    assertThat(taskService.createTaskQuery().count()).isZero();
+    assertThat(taskService.createTaskQuery().listValues(TaskQueryColumnName.ID, null)).isEmpty();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_RevokePermission_When_PermissionIsCachedBeforeDeletionIsCommitted()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    WorkbasketAccessItem accessItem = createReadAccessItem(workbasketService);
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    engineProxy.openConnection();
+    try {
+      workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
+      // a concurrent call still reads the committed access item and caches its permissions
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+      Thread concurrentCall =
+          new Thread(
+              () -> {
+                try {
+                  workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ);
+                } catch (Throwable e) {
+                  failure.set(e);
+                }
+              });
+      concurrentCall.start();
+      concurrentCall.join();
+      assertThat(failure.get()).isNull();
+    } finally {
+      engineProxy.returnConnection();
+    }
+
+    assertThatThrownBy(
+            () -> workbasketService.checkAuthorization(WORKBASKET_ID, WorkbasketPermission.READ))
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  private WorkbasketAccessItem createReadAccessItem(WorkbasketService workbasketService)
+      throws Exception {
+    return createReadAccessItem(workbasketService, WORKBASKET_ID);
+  }
+
+  private WorkbasketAccessItem createReadAccessItem(
+      WorkbasketService workbasketService, String workbasketId) throws Exception {
+    WorkbasketAccessItem accessItem =
+        workbasketService.newWorkbasketAccessItem(workbasketId, "businessadmin");
+    accessItem.setPermission(WorkbasketPermission.READ, true);
+    return workbasketService.createWorkbasketAccessItem(accessItem);
+  }
+}
@@ -5,6 +5,10 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import javax.sql.DataSource;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
@@ -17,6 +21,7 @@ public final class TaskanaEngineTestConfiguration {
   private static final Logger LOGGER =
       LoggerFactory.getLogger(TaskanaEngineTestConfiguration.class);
   private static final int POOL_TIME_TO_WAIT = 50;
+  private static final int POOL_SIZE = 10;
   private static final DataSource DATA_SOURCE;
   private static String schemaName = null;
 
@@ -187,8 +192,35 @@ public final class TaskanaEngineTestConfiguration {
             dbUserName,
             dbPassword);
     ds.setPoolTimeToWait(POOL_TIME_TO_WAIT);
+    ds.setPoolMaximumActiveConnections(POOL_SIZE);
+    ds.setPoolMaximumIdleConnections(POOL_SIZE);
     ds.forceCloseAll(); // otherwise the MyBatis pool is not initialized correctly
+    openAllConnections(ds);
 
     return ds;
   }
+
+  /**
+   * H2 executes the INIT statements of the url whenever a new connection is opened. Statements of
+   * other connections running at the same time may fail with "table not found". Therefore all
+   * connections of the pool are opened once up front and kept idle afterwards. Like connections
+   * which have been used by an engine before, they point to the TASKANA schema.
+   *
+   * @param ds the data source whose pool is filled
+   */
+  private static void openAllConnections(PooledDataSource ds) {
+    List<Connection> connections = new ArrayList<>();
+    try {
+      for (int i = 0; i < POOL_SIZE; i++) {
+        Connection connection = ds.getConnection();
+        connection.setSchema(getSchemaName());
+        connections.add(connection);
+      }
+      for (Connection connection : connections) {
+        connection.close();
+      }
+    } catch (SQLException e) {
+      LOGGER.warn("openAllConnections caught Exception " + e);
+    }
+  }
 }
@@ -0,0 +1,74 @@
+package pro.taskana.monitor.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+
+/** Unit Test for AgeBucket. */
+class AgeBucketTest {
+
+  @Test
+  void should_CoverAllAges_When_ColumnHeadersHaveGaps() {
+    List<TimeIntervalColumnHeader> columnHeaders =
+        List.of(
+            new TimeIntervalColumnHeader(-5, -1),
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(3, 10));
+
+    List<AgeBucket> buckets = AgeBucket.partition(columnHeaders, IntUnaryOperator.identity());
+
+    assertThat(buckets)
+        .containsExactly(
+            new AgeBucket(Integer.MIN_VALUE, -6, -6),
+            new AgeBucket(-5, -1, -1),
+            new AgeBucket(0, 0, 0),
+            new AgeBucket(1, 2, 1),
+            new AgeBucket(3, 10, 3),
+            new AgeBucket(11, Integer.MAX_VALUE, 11));
+  }
+
+  @Test
+  void should_SplitAges_When_ColumnHeadersOverlap() {
+    List<TimeIntervalColumnHeader> columnHeaders =
+        List.of(new TimeIntervalColumnHeader(0, 5), new TimeIntervalColumnHeader(3, 8));
+
+    List<AgeBucket> buckets = AgeBucket.partition(columnHeaders, IntUnaryOperator.identity());
+
+    assertThat(buckets)
+        .containsExactly(
+            new AgeBucket(Integer.MIN_VALUE, -1, -1),
+            new AgeBucket(0, 2, 0),
+            new AgeBucket(3, 5, 3),
+            new AgeBucket(6, 8, 6),
+            new AgeBucket(9, Integer.MAX_VALUE, 9));
+  }
+
+  @Test
+  void should_ReturnOneBucket_When_ThereAreNoColumnHeaders() {
+    List<AgeBucket> buckets = AgeBucket.partition(List.of(), IntUnaryOperator.identity());
+
+    assertThat(buckets).containsExactly(new AgeBucket(Integer.MIN_VALUE, Integer.MAX_VALUE, 0));
+  }
+
+  @Test
+  void should_ConvertLimitsToAgesInDays_When_ReportAgeIsConverted() {
+    List<TimeIntervalColumnHeader> columnHeaders =
+        List.of(
+            new TimeIntervalColumnHeader(Integer.MIN_VALUE, -1),
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(1, Integer.MAX_VALUE));
+
+    List<AgeBucket> buckets =
+        AgeBucket.partition(columnHeaders, ageInDays -> Math.floorDiv(ageInDays, 2));
+
+    assertThat(buckets)
+        .containsExactly(
+            new AgeBucket(Integer.MIN_VALUE, -1, -1),
+            new AgeBucket(0, 1, 0),
+            new AgeBucket(2, Integer.MAX_VALUE, 2));
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pro.taskana.TaskanaEngineConfiguration;
@@ -44,6 +46,8 @@ class ClassificationClassificationCategoryReportBuilderImplTest {
 
   @Mock private MonitorMapper monitorMapperMock;
 
+  @Spy private ReportCache reportCache = new ReportCache(0, Duration.ZERO, 0, () -> 0L);
+
   @BeforeEach
   void setup() {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
@@ -74,7 +78,8 @@ class ClassificationClassificationCategoryReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
 
     final ClassificationCategoryReport actualResult =
@@ -93,7 +98,8 @@ class ClassificationClassificationCategoryReportBuilderImplTest {
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getWorkingDaysToDaysConverter();
     verify(monitorMapperMock)
-        .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfCategories(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -134,7 +140,8 @@ class ClassificationClassificationCategoryReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
 
     final ClassificationCategoryReport actualResult =
@@ -154,7 +161,8 @@ class ClassificationClassificationCategoryReportBuilderImplTest {
     verify(taskanaEngineMock).checkRoleMembership(any());
     verify(taskanaEngineMock).getWorkingDaysToDaysConverter();
     verify(monitorMapperMock)
-        .getTaskCountOfCategories(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        .getTaskCountOfCategories(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
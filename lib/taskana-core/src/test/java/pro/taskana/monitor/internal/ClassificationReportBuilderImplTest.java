@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pro.taskana.TaskanaEngineConfiguration;
@@ -46,6 +48,7 @@ class ClassificationReportBuilderImplTest {
   @Mock private TaskanaEngineConfiguration taskanaEngineConfiguration;
   @Mock private MonitorMapper monitorMapperMock;
   @Mock private ClassificationService classificationService;
+  @Spy private ReportCache reportCache = new ReportCache(0, Duration.ZERO, 0, () -> 0L);
 
   private Object[] mocks;
 
@@ -88,7 +91,8 @@ class ClassificationReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
 
     ClassificationQuery queryMock = mock(ClassificationQuery.class);
@@ -116,7 +120,7 @@ class ClassificationReportBuilderImplTest {
 
     verify(monitorMapperMock)
         .getTaskCountOfClassifications(
-            any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
 
     verifyNoMoreInteractions(queryMock);
@@ -157,7 +161,8 @@ class ClassificationReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
     ClassificationQuery queryMock = mock(ClassificationQuery.class);
     when(classificationService.createClassificationQuery()).thenReturn(queryMock);
@@ -185,7 +190,7 @@ class ClassificationReportBuilderImplTest {
 
     verify(monitorMapperMock)
         .getTaskCountOfClassifications(
-            any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(queryMock);
     verifyNoMoreInteractions(mocks);
@@ -224,7 +229,8 @@ class ClassificationReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
     ClassificationQuery queryMock = mock(ClassificationQuery.class);
     when(classificationService.createClassificationQuery()).thenReturn(queryMock);
@@ -251,7 +257,7 @@ class ClassificationReportBuilderImplTest {
 
     verify(monitorMapperMock)
         .getTaskCountOfDetailedClassifications(
-            any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(queryMock);
     verifyNoMoreInteractions(mocks);
@@ -294,7 +300,8 @@ class ClassificationReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
     ClassificationQuery queryMock = mock(ClassificationQuery.class);
     when(classificationService.createClassificationQuery()).thenReturn(queryMock);
@@ -322,7 +329,7 @@ class ClassificationReportBuilderImplTest {
 
     verify(monitorMapperMock)
         .getTaskCountOfDetailedClassifications(
-            any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(queryMock);
     verifyNoMoreInteractions(mocks);
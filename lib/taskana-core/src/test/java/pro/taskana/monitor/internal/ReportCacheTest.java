@@ -0,0 +1,130 @@
+package pro.taskana.monitor.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
+
+/** Unit Test for ReportCache. */
+class ReportCacheTest {
+
+  private static final List<Object> FILTER = List.of("WorkbasketReport", "WORKBASKET_KEY");
+
+  private final AtomicLong taskChanges = new AtomicLong();
+  private final AtomicInteger queryCount = new AtomicInteger();
+  private Supplier<List<MonitorQueryItem>> query;
+
+  @BeforeEach
+  void setup() {
+    query =
+        () -> {
+          queryCount.incrementAndGet();
+          List<MonitorQueryItem> items = new ArrayList<>();
+          items.add(createItem("USER-1-1", 0, 3));
+          items.add(createItem("USER-1-2", -1, 5));
+          return items;
+        };
+  }
+
+  @Test
+  void should_ReturnCopiesOfCachedItems_When_FilterIsEqual() {
+    ReportCache cache = createCache(100, Duration.ofMinutes(1), 10);
+
+    List<MonitorQueryItem> first = cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+    first.get(0).setAgeInDays(42);
+    List<MonitorQueryItem> second =
+        cache.computeIfAbsent(
+            List.of("WorkbasketReport", "WORKBASKET_KEY"), query, ReportCacheTest::copy);
+
+    assertThat(queryCount).hasValue(1);
+    assertThat(second).extracting(MonitorQueryItem::getAgeInDays).containsExactly(0, -1);
+    assertThat(second).extracting(MonitorQueryItem::getValue).containsExactly(3, 5);
+    assertThat(cache.getHitCount()).isOne();
+    assertThat(cache.getMissCount()).isOne();
+  }
+
+  @Test
+  void should_ExecuteQuery_When_FilterIsDifferent() {
+    ReportCache cache = createCache(100, Duration.ofMinutes(1), 10);
+
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+    cache.computeIfAbsent(List.of("WorkbasketReport", "DOMAIN"), query, ReportCacheTest::copy);
+
+    assertThat(queryCount).hasValue(2);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_ExecuteQuery_When_MaxTaskChangesAreReached() {
+    ReportCache cache = createCache(100, Duration.ofMinutes(1), 10);
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+
+    taskChanges.addAndGet(9);
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+    taskChanges.incrementAndGet();
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+
+    assertThat(queryCount).hasValue(2);
+  }
+
+  @Test
+  void should_ExecuteQuery_When_TimeBucketHasPassed() throws Exception {
+    ReportCache cache = createCache(100, Duration.ofMillis(20), 10);
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+
+    Thread.sleep(50);
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+
+    assertThat(queryCount).hasValue(2);
+  }
+
+  @Test
+  void should_EvictEntries_When_MaxWeightIsExceeded() {
+    ReportCache cache = createCache(6, Duration.ofMinutes(1), 10);
+
+    cache.computeIfAbsent(List.of("first"), query, ReportCacheTest::copy);
+    cache.computeIfAbsent(List.of("second"), query, ReportCacheTest::copy);
+    cache.computeIfAbsent(List.of("second"), query, ReportCacheTest::copy);
+    cache.computeIfAbsent(List.of("third"), query, ReportCacheTest::copy);
+    cache.computeIfAbsent(List.of("third"), query, ReportCacheTest::copy);
+
+    assertThat(queryCount).hasValue(3);
+    assertThat(cache.getHitCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_NotCacheAnything_When_MaxWeightIsZero() {
+    ReportCache cache = createCache(0, Duration.ofMinutes(1), 10);
+
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+    cache.computeIfAbsent(FILTER, query, ReportCacheTest::copy);
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(queryCount).hasValue(2);
+    assertThat(cache.getMissCount()).isZero();
+  }
+
+  private static MonitorQueryItem createItem(String key, int ageInDays, int numberOfTasks) {
+    MonitorQueryItem item = new MonitorQueryItem();
+    item.setKey(key);
+    item.setAgeInDays(ageInDays);
+    item.setNumberOfTasks(numberOfTasks);
+    return item;
+  }
+
+  private static MonitorQueryItem copy(MonitorQueryItem item) {
+    return createItem(item.getKey(), item.getAgeInDays(), item.getValue());
+  }
+
+  private ReportCache createCache(long maxWeight, Duration timeToLive, long maxTaskChanges) {
+    return new ReportCache(maxWeight, timeToLive, maxTaskChanges, taskChanges::get);
+  }
+}
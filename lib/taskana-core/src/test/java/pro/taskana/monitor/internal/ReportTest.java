@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import pro.taskana.monitor.api.reports.Report;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.FoldableRow;
@@ -234,6 +235,59 @@ class ReportTest {
     assertThat(sumRow.getTotalValue()).isEqualTo(2 * item.getValue());
   }
 
+  @Test
+  void should_InsertItemIntoFittingColumns_When_HeadersHaveGapsAndOpenEnds() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        List.of(
+            new TimeIntervalColumnHeader(Integer.MIN_VALUE, -10),
+            new TimeIntervalColumnHeader(-5, -1),
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(2, Integer.MAX_VALUE));
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+    List<MonitorQueryItem> items =
+        IntStream.of(Integer.MIN_VALUE, -10, -7, -5, -1, 0, 1, 2, Integer.MAX_VALUE)
+            .mapToObj(
+                ageInDays -> {
+                  MonitorQueryItem item = new MonitorQueryItem();
+                  item.setKey("key");
+                  item.setAgeInDays(ageInDays);
+                  item.setNumberOfTasks(1);
+                  return item;
+                })
+            .collect(Collectors.toList());
+
+    // when
+    report.addItems(items);
+
+    // then
+    Row<MonitorQueryItem> sumRow = report.getSumRow();
+    assertThat(sumRow.getCells()).isEqualTo(new int[] {2, 2, 1, 2});
+    assertThat(sumRow.getTotalValue()).isEqualTo(7);
+  }
+
+  @Test
+  void should_UseFitsOfHeader_When_HeaderOverridesFits() {
+    // given
+    List<TimeIntervalColumnHeader> headers = new ArrayList<>(HEADERS);
+    headers.add(
+        new TimeIntervalColumnHeader(0) {
+          @Override
+          public boolean fits(AgeQueryItem item) {
+            return true;
+          }
+        });
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+    item.setAgeInDays(2);
+
+    // when
+    report.addItem(item);
+
+    // then
+    Row<MonitorQueryItem> row = report.getRow("key");
+    assertThat(row.getCells()).isEqualTo(new int[] {0, 0, item.getValue(), 0, item.getValue()});
+  }
+
   @Test
   void should_FallBackToKey_When_DisplayMapDoesNotContainName() {
     report.augmentDisplayNames(new HashMap<>());
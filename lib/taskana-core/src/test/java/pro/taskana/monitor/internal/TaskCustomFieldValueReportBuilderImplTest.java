@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pro.taskana.TaskanaEngineConfiguration;
@@ -43,6 +45,8 @@ class TaskCustomFieldValueReportBuilderImplTest {
 
   @Mock private MonitorMapper monitorMapperMock;
 
+  @Spy private ReportCache reportCache = new ReportCache(0, Duration.ZERO, 0, () -> 0L);
+
   @BeforeEach
   void setup() {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
@@ -74,7 +78,8 @@ class TaskCustomFieldValueReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
 
     final TaskCustomFieldValueReport actualResult =
@@ -94,7 +99,7 @@ class TaskCustomFieldValueReportBuilderImplTest {
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(monitorMapperMock)
         .getTaskCountOfTaskCustomFieldValues(
-            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -136,7 +141,8 @@ class TaskCustomFieldValueReportBuilderImplTest {
             eq(TaskTimestamp.DUE),
             eq(classificationIds),
             eq(excludedClassificationIds),
-            eq(customAttributeFilter)))
+            eq(customAttributeFilter),
+            any()))
         .thenReturn(expectedResult);
 
     final TaskCustomFieldValueReport actualResult =
@@ -157,7 +163,7 @@ class TaskCustomFieldValueReportBuilderImplTest {
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(monitorMapperMock)
         .getTaskCountOfTaskCustomFieldValues(
-            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verifyNoMoreInteractions(
         internalTaskanaEngineMock,
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pro.taskana.common.api.TaskanaEngine;
@@ -46,6 +48,8 @@ class WorkbasketReportBuilderImplTest {
 
   @Mock private MonitorMapper monitorMapperMock;
 
+  @Spy private ReportCache reportCache = new ReportCache(0, Duration.ZERO, 0, () -> 0L);
+
   @BeforeEach
   void setup() {
     when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngineMock);
@@ -82,7 +86,8 @@ class WorkbasketReportBuilderImplTest {
             eq(classificationIds),
             eq(excludedClassificationIds),
             eq(customAttributeFilter),
-            eq(combinedClassificationFilter)))
+            eq(combinedClassificationFilter),
+            any()))
         .thenReturn(expectedResult);
     when(internalTaskanaEngineMock.runAsAdmin(any())).thenReturn(Map.of());
 
@@ -104,7 +109,7 @@ class WorkbasketReportBuilderImplTest {
     verify(internalTaskanaEngineMock, times(3)).getEngine();
     verify(monitorMapperMock)
         .getTaskCountOfWorkbaskets(
-            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verify(internalTaskanaEngineMock).runAsAdmin(any());
     verify(taskanaEngineMock).getWorkbasketService();
@@ -150,7 +155,8 @@ class WorkbasketReportBuilderImplTest {
             eq(classificationIds),
             eq(excludedClassificationIds),
             eq(customAttributeFilter),
-            eq(combinedClassificationFilter)))
+            eq(combinedClassificationFilter),
+            any()))
         .thenReturn(expectedResult);
     when(internalTaskanaEngineMock.runAsAdmin(any())).thenReturn(Map.of());
 
@@ -173,7 +179,7 @@ class WorkbasketReportBuilderImplTest {
     verify(internalTaskanaEngineMock, times(3)).getEngine();
     verify(monitorMapperMock)
         .getTaskCountOfWorkbaskets(
-            any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     verify(internalTaskanaEngineMock).returnConnection();
     verify(taskanaEngineMock).getWorkbasketService();
     verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
@@ -364,7 +370,8 @@ class WorkbasketReportBuilderImplTest {
             eq(classificationIds),
             eq(excludedClassificationIds),
             eq(customAttributeFilter),
-            eq(combinedClassificationFilter)))
+            eq(combinedClassificationFilter),
+            any()))
         .thenReturn(expectedResult);
 
     when(internalTaskanaEngineMock.runAsAdmin(any())).thenReturn(Map.of());
@@ -396,7 +403,8 @@ class WorkbasketReportBuilderImplTest {
             eq(classificationIds),
             eq(excludedClassificationIds),
             eq(customAttributeFilter),
-            eq(combinedClassificationFilter));
+            eq(combinedClassificationFilter),
+            any());
     verify(internalTaskanaEngineMock).returnConnection();
     verify(taskanaEngineMock).getWorkbasketService();
     verifyNoMoreInteractions(internalTaskanaEngineMock, taskanaEngineMock, monitorMapperMock);
@@ -0,0 +1,152 @@
+package pro.taskana.spi.history.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.spi.history.api.HistoryEventOverflowPolicy;
+import pro.taskana.spi.history.api.TaskanaHistory;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+
+/** Unit Test for HistoryEventWriter. */
+class HistoryEventWriterTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Test
+  void should_HandEventsToProviderInBatches_When_EventsAreSubmitted() {
+    RecordingHistory history = new RecordingHistory();
+    HistoryEventWriter writer =
+        new HistoryEventWriter(List.of(history), 100, 4, HistoryEventOverflowPolicy.BLOCK);
+
+    for (int i = 0; i < 10; i++) {
+      writer.submit(new TaskHistoryEvent());
+    }
+    writer.submit(new WorkbasketHistoryEvent());
+    writer.start();
+
+    assertThat(writer.flush(TIMEOUT)).isTrue();
+    assertThat(history.taskEvents).hasSize(10).allMatch(event -> event.getCreated() != null);
+    assertThat(history.workbasketEvents).hasSize(1);
+    assertThat(history.batchSizes).allMatch(size -> size <= 4);
+    HistoryEventWriterMetrics metrics = writer.getMetrics();
+    assertThat(metrics.getWrittenEvents()).isEqualTo(11);
+    assertThat(metrics.getBatches()).isEqualTo(3);
+    assertThat(metrics.getQueueDepth()).isZero();
+    writer.shutdown(TIMEOUT);
+  }
+
+  @Test
+  void should_DropEvents_When_BufferIsFullAndOverflowPolicyIsDrop() {
+    RecordingHistory history = new RecordingHistory();
+    HistoryEventWriter writer =
+        new HistoryEventWriter(List.of(history), 2, 10, HistoryEventOverflowPolicy.DROP);
+
+    writer.submit(new TaskHistoryEvent());
+    writer.submit(new TaskHistoryEvent());
+    writer.submit(new TaskHistoryEvent());
+
+    HistoryEventWriterMetrics metrics = writer.getMetrics();
+    assertThat(metrics.getQueueDepth()).isEqualTo(2);
+    assertThat(metrics.getDroppedEvents()).isOne();
+    writer.start();
+    assertThat(writer.flush(TIMEOUT)).isTrue();
+    assertThat(history.taskEvents).hasSize(2);
+    writer.shutdown(TIMEOUT);
+  }
+
+  @Test
+  void should_WaitForSpaceInBuffer_When_BufferIsFullAndOverflowPolicyIsBlock() throws Exception {
+    RecordingHistory history = new RecordingHistory();
+    HistoryEventWriter writer =
+        new HistoryEventWriter(List.of(history), 1, 10, HistoryEventOverflowPolicy.BLOCK);
+    writer.submit(new TaskHistoryEvent());
+
+    Thread producer = new Thread(() -> writer.submit(new TaskHistoryEvent()));
+    producer.start();
+    while (producer.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(10);
+    }
+    writer.start();
+    producer.join();
+
+    assertThat(writer.flush(TIMEOUT)).isTrue();
+    assertThat(history.taskEvents).hasSize(2);
+    assertThat(writer.getMetrics().getDroppedEvents()).isZero();
+    assertThat(writer.getMetrics().getBlockedSubmissions()).isOne();
+    writer.shutdown(TIMEOUT);
+  }
+
+  @Test
+  void should_CountFailedEvents_When_ProviderThrowsException() {
+    RecordingHistory history = new RecordingHistory();
+    history.fail = true;
+    HistoryEventWriter writer =
+        new HistoryEventWriter(List.of(history), 10, 10, HistoryEventOverflowPolicy.BLOCK);
+    writer.start();
+
+    writer.submit(new ClassificationHistoryEvent());
+
+    assertThat(writer.flush(TIMEOUT)).isTrue();
+    assertThat(writer.getMetrics().getFailedEvents()).isOne();
+    assertThat(writer.getMetrics().getWrittenEvents()).isZero();
+    writer.shutdown(TIMEOUT);
+  }
+
+  @Test
+  void should_WriteBufferedEvents_When_WriterIsShutDown() {
+    RecordingHistory history = new RecordingHistory();
+    HistoryEventWriter writer =
+        new HistoryEventWriter(List.of(history), 10, 10, HistoryEventOverflowPolicy.BLOCK);
+    writer.start();
+    writer.submit(new TaskHistoryEvent());
+
+    writer.shutdown(TIMEOUT);
+    writer.submit(new TaskHistoryEvent());
+
+    assertThat(history.taskEvents).hasSize(2);
+  }
+
+  private static class RecordingHistory implements TaskanaHistory {
+
+    private final List<TaskHistoryEvent> taskEvents = new CopyOnWriteArrayList<>();
+    private final List<WorkbasketHistoryEvent> workbasketEvents = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private volatile boolean fail;
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {}
+
+    @Override
+    public void create(TaskHistoryEvent event) {
+      taskEvents.add(event);
+    }
+
+    @Override
+    public void create(WorkbasketHistoryEvent event) {
+      workbasketEvents.add(event);
+    }
+
+    @Override
+    public void create(ClassificationHistoryEvent event) {
+      if (fail) {
+        throw new IllegalStateException("history database is not available");
+      }
+    }
+
+    @Override
+    public void createTaskHistoryEvents(List<TaskHistoryEvent> events) {
+      batchSizes.add(events.size());
+      TaskanaHistory.super.createTaskHistoryEvents(events);
+    }
+
+    @Override
+    public void deleteHistoryEventsByTaskIds(List<String> taskIds) {}
+  }
+}
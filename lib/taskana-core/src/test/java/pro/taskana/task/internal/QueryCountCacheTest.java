@@ -0,0 +1,43 @@
+package pro.taskana.task.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit Test for QueryCountCache. */
+class QueryCountCacheTest {
+
+  private static final List<Object> QUERY = List.of("SELECT COUNT(*) FROM TASK", "user-1-1");
+
+  @Test
+  void should_ReturnCachedCount_When_QueryIsEqual() {
+    QueryCountCache cache = new QueryCountCache(10, Duration.ofMinutes(1));
+
+    cache.put(QUERY, 42);
+
+    assertThat(cache.get(List.of("SELECT COUNT(*) FROM TASK", "user-1-1"))).isEqualTo(42);
+    assertThat(cache.get(List.of("SELECT COUNT(*) FROM TASK", "user-1-2"))).isNull();
+  }
+
+  @Test
+  void should_ExpireEntries_When_TimeToLiveHasPassed() throws Exception {
+    QueryCountCache cache = new QueryCountCache(10, Duration.ofMillis(20));
+    cache.put(QUERY, 42);
+
+    Thread.sleep(50);
+
+    assertThat(cache.get(QUERY)).isNull();
+  }
+
+  @Test
+  void should_NotCacheAnything_When_MaxSizeIsZero() {
+    QueryCountCache cache = new QueryCountCache(0, Duration.ofMinutes(1));
+
+    cache.put(QUERY, 42);
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.get(QUERY)).isNull();
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ibatis.session.Configuration;
@@ -21,6 +22,7 @@ import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 
 /** Test for TaskQueryImpl. */
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +47,8 @@ class TaskQueryImplTest {
     configuration.setDatabaseId(DB.H2.dbProductId);
     when(internalTaskanaEngine.getSqlSession()).thenReturn(sqlSession);
     when(sqlSession.getConfiguration()).thenReturn(configuration);
+    when(internalTaskanaEngine.getWorkbasketPermissionCache())
+        .thenReturn(new WorkbasketPermissionCache(0, Duration.ZERO));
 
     taskQueryImpl = new TaskQueryImpl(internalTaskanaEngine);
   }
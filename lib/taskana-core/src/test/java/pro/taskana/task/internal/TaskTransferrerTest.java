@@ -54,10 +54,13 @@ class TaskTransferrerTest {
 
   @Mock private SqlSession sqlSessionMock;
 
+  @Mock private ReportAggregateStore reportAggregateStoreMock;
+
   @Test
   void testTransferTaskToDestinationWorkbasketWithoutSecurity() throws Exception {
     doReturn(taskanaEngineMock).when(internalTaskanaEngineMock).getEngine();
     doReturn(workbasketServiceMock).when(taskanaEngineMock).getWorkbasketService();
+    doReturn(reportAggregateStoreMock).when(internalTaskanaEngineMock).getReportAggregateStore();
     cut = new TaskTransferrer(internalTaskanaEngineMock, taskMapperMock, taskServiceImplMock);
 
     final TaskTransferrer cutSpy = Mockito.spy(cut);
@@ -86,6 +89,7 @@ class TaskTransferrerTest {
     verify(internalTaskanaEngineMock, times(1)).returnConnection();
     verify(internalTaskanaEngineMock, times(1)).getEngine();
     verify(internalTaskanaEngineMock).getHistoryEventManager();
+    verify(internalTaskanaEngineMock, times(2)).getReportAggregateStore();
     verify(taskanaEngineMock).getWorkbasketService();
     verifyNoMoreInteractions(
         attachmentMapperMock,
@@ -0,0 +1,108 @@
+package pro.taskana.workbasket.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/** Unit Test for WorkbasketPermissionCache. */
+class WorkbasketPermissionCacheTest {
+
+  private static final List<String> ACCESS_IDS = List.of("user-1-1", "group-1");
+
+  @Test
+  void should_ReturnCachedPermissions_When_AccessIdsAreGivenInAnotherOrder() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ofMinutes(1));
+
+    cache.put("WBI:1", ACCESS_IDS, 5, cache.getGeneration());
+
+    assertThat(cache.get("WBI:1", List.of("group-1", "user-1-1"))).isEqualTo(5);
+    assertThat(cache.get("WBI:1", List.of("user-1-1"))).isNull();
+    assertThat(cache.get("WBI:2", ACCESS_IDS)).isNull();
+  }
+
+  @Test
+  void should_NotCachePermissions_When_CacheWasInvalidatedWhileTheyWereRead() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ofMinutes(1));
+    long generation = cache.getGeneration();
+
+    cache.invalidate("WBI:1");
+    cache.put("WBI:1", ACCESS_IDS, 5, generation);
+
+    assertThat(cache.get("WBI:1", ACCESS_IDS)).isNull();
+  }
+
+  @Test
+  void should_RemoveOnlyEntriesOfWorkbasket_When_InvalidatingWorkbasket() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ofMinutes(1));
+    cache.put("WBI:1", ACCESS_IDS, 5, cache.getGeneration());
+    cache.put("WBI:2", ACCESS_IDS, 3, cache.getGeneration());
+
+    cache.invalidate("WBI:1");
+
+    assertThat(cache.get("WBI:1", ACCESS_IDS)).isNull();
+    assertThat(cache.get("WBI:2", ACCESS_IDS)).isEqualTo(3);
+  }
+
+  @Test
+  void should_RemoveAllReadableWorkbaskets_When_InvalidatingWorkbasket() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ofMinutes(1));
+    cache.putReadableWorkbasketIds(ACCESS_IDS, List.of("WBI:1", "WBI:2"), cache.getGeneration());
+
+    assertThat(cache.getReadableWorkbasketIds(List.of("group-1", "user-1-1")))
+        .containsExactly("WBI:1", "WBI:2");
+
+    cache.invalidate("WBI:3");
+
+    assertThat(cache.getReadableWorkbasketIds(ACCESS_IDS)).isNull();
+  }
+
+  @Test
+  void should_NotCacheReadableWorkbaskets_When_CacheWasInvalidatedWhileTheyWereRead() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ofMinutes(1));
+    long generation = cache.getGeneration();
+
+    cache.invalidateAll();
+    cache.putReadableWorkbasketIds(ACCESS_IDS, List.of("WBI:1"), generation);
+
+    assertThat(cache.getReadableWorkbasketIds(ACCESS_IDS)).isNull();
+  }
+
+  @Test
+  void should_ExpireEntries_When_TimeToLiveHasPassed() throws Exception {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ofMillis(20));
+    cache.put("WBI:1", ACCESS_IDS, 5, cache.getGeneration());
+
+    Thread.sleep(50);
+
+    assertThat(cache.get("WBI:1", ACCESS_IDS)).isNull();
+  }
+
+  @Test
+  void should_KeepAtMostMaxSizeEntries_When_MoreWorkbasketsAreCached() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(3, Duration.ofMinutes(1));
+
+    for (int i = 0; i < 10; i++) {
+      cache.put("WBI:" + i, ACCESS_IDS, i, cache.getGeneration());
+    }
+
+    long cachedEntries =
+        IntStream.range(0, 10)
+            .filter(i -> cache.get("WBI:" + i, ACCESS_IDS) != null)
+            .count();
+    assertThat(cachedEntries).isLessThanOrEqualTo(3);
+    assertThat(cache.get("WBI:9", ACCESS_IDS)).isEqualTo(9);
+  }
+
+  @Test
+  void should_NotCacheAnything_When_TimeToLiveIsZero() {
+    WorkbasketPermissionCache cache = new WorkbasketPermissionCache(10, Duration.ZERO);
+
+    cache.put("WBI:1", ACCESS_IDS, 5, cache.getGeneration());
+
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(cache.get("WBI:1", ACCESS_IDS)).isNull();
+  }
+}
@@ -91,6 +91,7 @@ class WorkbasketServiceImplTest {
     verify(internalTaskanaEngineMock, times(4)).getEngine();
     verify(internalTaskanaEngineMock, times(3)).domainExists(any());
     verify(internalTaskanaEngineMock, times(1)).getHistoryEventManager();
+    verify(internalTaskanaEngineMock, times(1)).getWorkbasketPermissionCache();
     verifyNoMoreInteractions(
         taskQueryMock,
         taskServiceMock,
@@ -138,6 +139,7 @@ class WorkbasketServiceImplTest {
         .deleteAllDistributionTargetsBySourceId(eq(expectedWb.getId()));
     verify(workbasketMapperMock).update(eq(expectedWb));
     verify(internalTaskanaEngineMock, times(1)).getHistoryEventManager();
+    verify(internalTaskanaEngineMock, times(1)).getWorkbasketPermissionCache();
 
     verifyNoMoreInteractions(
         taskQueryMock,
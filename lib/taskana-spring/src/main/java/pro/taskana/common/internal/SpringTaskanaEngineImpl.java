@@ -3,6 +3,8 @@ package pro.taskana.common.internal;
 import java.sql.SQLException;
 import javax.annotation.PostConstruct;
 import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import pro.taskana.SpringTaskanaEngineConfiguration;
 
@@ -19,4 +21,25 @@ public class SpringTaskanaEngineImpl extends TaskanaEngineImpl {
     this.transactionFactory = new SpringManagedTransactionFactory();
     this.sessionManager = createSqlSessionManager();
   }
+
+  @Override
+  protected void runAfterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      super.runAfterCommit(action);
+    }
+  }
+
+  @Override
+  protected boolean canRunAfterCommit() {
+    return TransactionSynchronizationManager.isSynchronizationActive()
+        || super.canRunAfterCommit();
+  }
 }
@@ -21,22 +21,57 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
   @Min(1)
   private final Integer pageSize;
 
+  /**
+   * Skips counting the total number of elements. The total number of elements and pages is
+   * reported as -1 then. Counting requires an additional query, which is expensive for large
+   * results.
+   */
+  @JsonProperty("skip-count")
+  private final boolean skipCount;
+
   @JsonIgnore private PageMetadata pageMetadata;
 
-  @ConstructorProperties({"page", "page-size"})
-  public QueryPagingParameter(Integer page, Integer pageSize) {
+  @ConstructorProperties({"page", "page-size", "skip-count"})
+  public QueryPagingParameter(Integer page, Integer pageSize, Boolean skipCount) {
     // TODO: do we really want this? Personally I would throw an InvalidArgumentException
     if (pageSize == null) {
       pageSize = Integer.MAX_VALUE;
     }
     this.page = page;
     this.pageSize = pageSize;
+    this.skipCount = Boolean.TRUE.equals(skipCount);
   }
 
   public PageMetadata getPageMetadata() {
     return pageMetadata;
   }
 
+  protected void setPageMetadata(PageMetadata pageMetadata) {
+    this.pageMetadata = pageMetadata;
+  }
+
+  protected Integer getPage() {
+    return page;
+  }
+
+  protected Integer getPageSize() {
+    return pageSize;
+  }
+
+  protected boolean isSkipCount() {
+    return skipCount;
+  }
+
+  /**
+   * Counts the total number of elements.
+   *
+   * @param query the query to count
+   * @return the total number of elements
+   */
+  protected long count(Q query) {
+    return query.count();
+  }
+
   @Override
   public List<T> applyToQuery(Q query) {
     initPageMetaData(query);
@@ -52,8 +87,10 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
   }
 
   private void initPageMetaData(Q query) {
-    if (page != null) {
-      long totalElements = query.count();
+    if (page != null && skipCount) {
+      pageMetadata = new PageMetadata(pageSize, -1, -1, page);
+    } else if (page != null) {
+      long totalElements = count(query);
       long maxPages = (long) Math.ceil(totalElements / pageSize.doubleValue());
       pageMetadata = new PageMetadata(pageSize, totalElements, maxPages, Math.min(page, maxPages));
     }
@@ -17,6 +17,8 @@ public interface PagedRepresentationModelAssembler<
         T, D extends RepresentationModel<? super D>, P extends PagedRepresentationModel<D>>
     extends RepresentationModelAssembler<T, D> {
 
+  String CONTINUATION_TOKEN = "continuation-token";
+
   P buildPageableEntity(Collection<D> content, PageMetadata pageMetadata);
 
   default P toPagedModel(Iterable<T> entities, PageMetadata pageMetadata) {
@@ -35,17 +37,36 @@ public interface PagedRepresentationModelAssembler<
     model.add(Link.of(original.toUriString()).withSelfRel());
     if (page != null) {
       model.add(
-          Link.of(original.replaceQueryParam("page", 1).toUriString())
+          Link.of(
+                  original
+                      .replaceQueryParam(CONTINUATION_TOKEN)
+                      .replaceQueryParam("page", 1)
+                      .toUriString())
               .withRel(IanaLinkRelations.FIRST));
-      model.add(
-          Link.of(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
-              .withRel(IanaLinkRelations.LAST));
+      if (page.getTotalPages() >= 0) {
+        model.add(
+            Link.of(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
+                .withRel(IanaLinkRelations.LAST));
+      }
       if (page.getNumber() > 1) {
         model.add(
             Link.of(original.replaceQueryParam("page", page.getNumber() - 1).toUriString())
                 .withRel(IanaLinkRelations.PREV));
       }
-      if (page.getNumber() < page.getTotalPages()) {
+      if (page.getNumber() < 0) {
+        // keyset pagination: the page number is unknown, the next page continues after this one
+        if (page.getContinuationToken() != null) {
+          model.add(
+              Link.of(
+                      original
+                          .replaceQueryParam("page")
+                          .replaceQueryParam(CONTINUATION_TOKEN, page.getContinuationToken())
+                          .toUriString())
+                  .withRel(IanaLinkRelations.NEXT));
+        }
+      } else if (page.getTotalPages() < 0
+          ? model.getContent().size() >= page.getSize()
+          : page.getNumber() < page.getTotalPages()) {
         model.add(
             Link.of(original.replaceQueryParam("page", page.getNumber() + 1).toUriString())
                 .withRel(IanaLinkRelations.NEXT));
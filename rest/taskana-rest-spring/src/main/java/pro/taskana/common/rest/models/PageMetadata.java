@@ -16,15 +16,26 @@ public class PageMetadata {
   private final long totalElements;
   /** Amount of pages that are available in total. */
   private final long totalPages;
-  /** The current page number. */
+  /** The current page number. It is -1 for keyset pagination. */
   private final long number;
+  /**
+   * The token to request the page following the current page with keyset pagination. It is only
+   * present for keyset pagination if the current page is completely filled.
+   */
+  private final String continuationToken;
 
-  @ConstructorProperties({"size", "totalElements", "totalPages", "number"})
   public PageMetadata(long size, long totalElements, long totalPages, long number) {
+    this(size, totalElements, totalPages, number, null);
+  }
+
+  @ConstructorProperties({"size", "totalElements", "totalPages", "number", "continuationToken"})
+  public PageMetadata(
+      long size, long totalElements, long totalPages, long number, String continuationToken) {
     this.size = size;
     this.totalElements = totalElements;
     this.totalPages = totalPages;
     this.number = number;
+    this.continuationToken = continuationToken;
   }
 
   public long getSize() {
@@ -43,9 +54,13 @@ public class PageMetadata {
     return number;
   }
 
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(size, totalElements, totalPages, number);
+    return Objects.hash(size, totalElements, totalPages, number, continuationToken);
   }
 
   @Override
@@ -60,7 +75,8 @@ public class PageMetadata {
     return size == other.size
         && totalElements == other.totalElements
         && totalPages == other.totalPages
-        && number == other.number;
+        && number == other.number
+        && Objects.equals(continuationToken, other.continuationToken);
   }
 
   @Override
@@ -73,6 +89,8 @@ public class PageMetadata {
         + totalPages
         + ", number="
         + number
+        + ", continuationToken="
+        + continuationToken
         + "]";
   }
 }
@@ -27,7 +27,6 @@ import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
-import pro.taskana.common.rest.QueryPagingParameter;
 import pro.taskana.common.rest.QuerySortBy;
 import pro.taskana.common.rest.QuerySortParameter;
 import pro.taskana.common.rest.RestEndpoints;
@@ -82,7 +81,7 @@ public class TaskController {
   public ResponseEntity<TaskSummaryPagedRepresentationModel> getTasks(
       TaskQueryFilterParameter filterParameter,
       TaskQuerySortParameter sortParameter,
-      QueryPagingParameter<TaskSummary, TaskQuery> pagingParameter) {
+      TaskQueryPagingParameter pagingParameter) {
 
     TaskQuery query = taskService.createTaskQuery();
 
@@ -0,0 +1,154 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.beans.ConstructorProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.rest.QueryPagingParameter;
+import pro.taskana.common.rest.models.PageMetadata;
+import pro.taskana.task.api.CountStrategy;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.models.TaskSummaryImpl;
+
+/**
+ * Paging parameters for the task query. In addition to offset based paging via 'page' this allows
+ * keyset pagination via 'continuation-token'. Every page of a keyset pagination costs the same,
+ * since the database does not have to skip the rows of the preceding pages.
+ */
+public class TaskQueryPagingParameter extends QueryPagingParameter<TaskSummary, TaskQuery> {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * Request the page following the page which returned this token in its page meta data. An empty
+   * token requests the first page. Requires the definition of the 'page-size' and the same filter
+   * and sort parameters as the previous request. The parameter 'page' is ignored.
+   */
+  @JsonProperty("continuation-token")
+  private final String continuationToken;
+
+  /**
+   * Determines how the total number of elements is counted. CACHED reuses the count of an equal
+   * query for a short time, ESTIMATED asks the query planner of the database. Both are cheaper than
+   * the default EXACT for large results.
+   */
+  @JsonProperty("count-strategy")
+  private final CountStrategy countStrategy;
+
+  @JsonIgnore private final TaskSummary previousTask;
+
+  @ConstructorProperties({
+    "page",
+    "page-size",
+    "skip-count",
+    "count-strategy",
+    "continuation-token"
+  })
+  public TaskQueryPagingParameter(
+      Integer page,
+      Integer pageSize,
+      Boolean skipCount,
+      CountStrategy countStrategy,
+      String continuationToken)
+      throws InvalidArgumentException {
+    super(page, pageSize, skipCount);
+    this.countStrategy = countStrategy;
+    this.continuationToken = continuationToken;
+    this.previousTask =
+        continuationToken == null || continuationToken.isEmpty()
+            ? null
+            : decode(continuationToken);
+  }
+
+  @Override
+  public List<TaskSummary> applyToQuery(TaskQuery query) {
+    if (continuationToken == null) {
+      return super.applyToQuery(query);
+    }
+    // the task id makes the sort order unique, which is required to continue after a given task
+    query.orderByTaskId(SortDirection.ASCENDING);
+    if (previousTask != null) {
+      query.seekAfter(previousTask);
+    }
+    List<TaskSummary> resultList = query.list(0, getPageSize());
+    long totalElements = isSkipCount() ? -1 : count(query);
+    long totalPages =
+        isSkipCount() ? -1 : (long) Math.ceil(totalElements / getPageSize().doubleValue());
+    String nextContinuationToken =
+        resultList.size() < getPageSize() ? null : encode(resultList.get(resultList.size() - 1));
+    setPageMetadata(
+        new PageMetadata(getPageSize(), totalElements, totalPages, -1, nextContinuationToken));
+    return resultList;
+  }
+
+  @Override
+  protected long count(TaskQuery query) {
+    return query.count(countStrategy);
+  }
+
+  private static String encode(TaskSummary task) {
+    ObjectNode node = OBJECT_MAPPER.createObjectNode();
+    node.put("id", task.getId());
+    node.put("classificationKey", task.getClassificationSummary().getKey());
+    node.put("porType", task.getPrimaryObjRef().getType());
+    node.put("porValue", task.getPrimaryObjRef().getValue());
+    node.put("state", task.getState() == null ? null : task.getState().name());
+    node.put("name", task.getName());
+    node.put("due", task.getDue() == null ? null : task.getDue().toString());
+    node.put("planned", task.getPlanned() == null ? null : task.getPlanned().toString());
+    node.put("priority", task.getPriority());
+    byte[] json = node.toString().getBytes(StandardCharsets.UTF_8);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+  }
+
+  private static TaskSummary decode(String continuationToken) throws InvalidArgumentException {
+    try {
+      JsonNode node = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(continuationToken));
+      if (!node.hasNonNull("id")) {
+        throw new InvalidArgumentException("The continuation token is invalid.");
+      }
+      TaskSummaryImpl task = new TaskSummaryImpl();
+      task.setId(node.get("id").asText());
+      ClassificationSummaryImpl classification = new ClassificationSummaryImpl();
+      classification.setKey(getText(node, "classificationKey"));
+      task.setClassificationSummary(classification);
+      ObjectReference primaryObjRef = new ObjectReference();
+      primaryObjRef.setType(getText(node, "porType"));
+      primaryObjRef.setValue(getText(node, "porValue"));
+      task.setPrimaryObjRef(primaryObjRef);
+      String state = getText(node, "state");
+      task.setState(state == null ? null : TaskState.valueOf(state));
+      task.setName(getText(node, "name"));
+      task.setDue(getInstant(node, "due"));
+      task.setPlanned(getInstant(node, "planned"));
+      task.setPriority(node.path("priority").asInt());
+      return task;
+    } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidArgumentException("The continuation token is invalid.", e);
+    }
+  }
+
+  private static String getText(JsonNode node, String field) {
+    return node.hasNonNull(field) ? node.get(field).asText() : null;
+  }
+
+  private static Instant getInstant(JsonNode node, String field) {
+    String value = getText(node, field);
+    return value == null ? null : Instant.parse(value);
+  }
+}
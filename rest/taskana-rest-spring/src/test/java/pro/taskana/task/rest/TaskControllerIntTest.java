@@ -615,6 +615,78 @@ class TaskControllerIntTest {
     assertThat(response.getBody().getLink(IanaLinkRelations.PREV)).isNotNull();
   }
 
+  @Test
+  void should_ReturnAllTasksExactlyOnce_When_FollowingContinuationTokens() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersTeamlead_1());
+    String url =
+        restHelper.toUrl(RestEndpoints.URL_TASKS)
+            + "?sort-by=DUE&order=DESCENDING&page-size=5&continuation-token=";
+
+    List<String> taskIds = new ArrayList<>();
+    String continuationToken = "";
+    while (continuationToken != null) {
+      ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+          TEMPLATE.exchange(
+              url + continuationToken, HttpMethod.GET, request, TASK_SUMMARY_PAGE_MODEL_TYPE);
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getPageMetadata().getTotalElements()).isEqualTo(48);
+      response.getBody().getContent().stream()
+          .map(TaskSummaryRepresentationModel::getTaskId)
+          .forEach(taskIds::add);
+      continuationToken = response.getBody().getPageMetadata().getContinuationToken();
+      if (continuationToken != null) {
+        assertThat(response.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref())
+            .contains("continuation-token=" + continuationToken);
+      }
+    }
+
+    assertThat(taskIds).hasSize(48).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void should_NotCountTasks_When_SkipCountIsSet() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersTeamlead_1());
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS) + "?page-size=5&page=2&skip-count=true",
+            HttpMethod.GET,
+            request,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).hasSize(5);
+    assertThat(response.getBody().getPageMetadata().getTotalElements()).isEqualTo(-1);
+    assertThat(response.getBody().getLink(IanaLinkRelations.LAST)).isEmpty();
+    assertThat(response.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref())
+        .contains("page=3");
+  }
+
+  @Test
+  void should_CountTasksWithCountStrategy_When_CountStrategyIsSet() {
+    HttpEntity<String> request = new HttpEntity<>(restHelper.getHeadersTeamlead_1());
+    ResponseEntity<TaskSummaryPagedRepresentationModel> exactResponse =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS) + "?page-size=5&page=2",
+            HttpMethod.GET,
+            request,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    ResponseEntity<TaskSummaryPagedRepresentationModel> cachedResponse =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS)
+                + "?page-size=5&page=2&count-strategy=CACHED",
+            HttpMethod.GET,
+            request,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+    assertThat(exactResponse.getBody()).isNotNull();
+    assertThat(cachedResponse.getBody()).isNotNull();
+    assertThat(cachedResponse.getBody().getContent()).hasSize(5);
+    assertThat(cachedResponse.getBody().getPageMetadata().getTotalElements())
+        .isEqualTo(exactResponse.getBody().getPageMetadata().getTotalElements());
+    assertThat(cachedResponse.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref())
+        .contains("count-strategy=CACHED");
+  }
+
   @Test
   void should_NotGetEmptyAttachmentList_When_GettingTaskWithAttachment() {
     ResponseEntity<TaskRepresentationModel> response =